@@ -27,7 +27,7 @@ public class AchievementEventConsumer {
      * Handles achievement messages from game service move responses queue.
      * This is a legacy endpoint - new implementations should use GameEventsAdapter.
      */
-    @RabbitListener(queues = "${game.events.queues.move-responses}")
+    @RabbitListener(id = "achievements-move-responses", queues = "${game.events.queues.move-responses}")
     public void handleAchievementFromMoveResponse(AchievementAcquiredMessage message) {
         log.debug("Received achievement message from move-responses queue: {}", message);
         
@@ -1,11 +1,14 @@
 package com.banditgames.platform.achievements.adapter.messaging;
 
 import com.banditgames.platform.achievements.port.in.EvaluateAchievementsUseCase;
+import com.banditgames.platform.shared.idempotency.ProcessedEvents;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,6 +23,7 @@ import java.util.UUID;
  * - Delegates to achievement evaluation service
  * - Follows EDA pattern for loose coupling
  * - Uses fanout exchange for session ended to ensure all consumers receive message
+ * - Skips events already processed, so redelivered and replayed events do not count twice
  */
 @Slf4j
 @Component
@@ -27,106 +31,173 @@ import java.util.UUID;
 public class GameEventConsumer {
 
     private final EvaluateAchievementsUseCase evaluateAchievementsUseCase;
+    private final ProcessedEvents processedEvents;
 
     /**
      * Consumes game.session.ended events from RabbitMQ.
      * Triggers achievement evaluation for all players in the game.
      * Uses the achievements-specific queue bound to the fanout exchange to ensure
      * this consumer always receives the message (no competing consumers).
+     * 
+     * Not started when session ended events are sharded by player; the queue is then
+     * consumed by {@link SessionEndedShardRouter} and events arrive through
+     * {@link #onGameSessionEndedForPlayer}.
      */
-    @RabbitListener(queues = "${game.events.queues.session-ended-achievements}")
+    @RabbitListener(
+            id = "achievements-session-ended",
+            queues = "${game.events.queues.session-ended-achievements}",
+            autoStartup = "#{!${game.events.sharding.enabled:false}}"
+    )
     public void onGameSessionEnded(Map<String, Object> event) {
         try {
             log.debug("Received game.session.ended event: {}", event);
             
-            String gameIdStr = (String) event.get("game_id");
-            String gameType = (String) event.get("game_type");
-            String winnerIdStr = (String) event.get("winner_id");
-            String sessionIdStr = (String) event.get("session_id");
-            
-            if (gameIdStr == null || gameType == null) {
-                log.warn("Received game.session.ended event without game_id or game_type: {}", event);
+            var evaluationContext = toGameEndedContext(event);
+            if (evaluationContext == null) {
                 return;
             }
             
-            UUID gameId = UUID.fromString(gameIdStr);
-            UUID winnerId = winnerIdStr != null ? UUID.fromString(winnerIdStr) : null;
-            
-            // Extract player IDs from event
-            // The event should contain player_ids array or we need to extract from game_state
-            @SuppressWarnings("unchecked")
-            java.util.List<String> playerIdsList = (java.util.List<String>) event.get("player_ids");
-            
-            if (playerIdsList == null || playerIdsList.isEmpty()) {
-                log.warn("Received game.session.ended event without player_ids: {}", event);
+            // Evaluate achievements for all players
+            boolean processed = processedEvents.runOnce("achievements-session-ended", ProcessedEvents.eventIdOf(event),
+                    () -> evaluateAchievementsUseCase.evaluateOnGameEnded(evaluationContext));
+            if (!processed) {
+                log.debug("Skipped duplicate game.session.ended event - gameId: {}", evaluationContext.gameId());
                 return;
             }
             
-            // Convert player IDs to UUIDs
-            java.util.List<UUID> playerIds = playerIdsList.stream()
-                    .map(UUID::fromString)
-                    .toList();
-            
-            // Create evaluation context
-            var evaluationContext = new EvaluateAchievementsUseCase.GameEndedEvaluationContext(
-                    gameId,
-                    gameType,
-                    sessionIdStr,
-                    winnerId,
-                    playerIds,
-                    event
-            );
-            
-            // Evaluate achievements for all players
-            evaluateAchievementsUseCase.evaluateOnGameEnded(evaluationContext);
-            
             log.info("Processed game.session.ended event - gameId: {}, gameType: {}, winner: {}, players: {}", 
-                    gameId, gameType, winnerId, playerIds.size());
+                    evaluationContext.gameId(), evaluationContext.gameType(), evaluationContext.winnerId(),
+                    evaluationContext.playerIds().size());
             
         } catch (Exception e) {
             log.error("Error processing game.session.ended event: {}", event, e);
-            // Don't throw - event processing failures shouldn't break the system
+            throw e;
         }
     }
-
+    
     /**
-     * Consumes game.move.applied events from RabbitMQ.
-     * Can trigger achievement evaluation for move-based achievements.
+     * Consumes one player's share of a game.session.ended event from that player's shard.
+     * Shards are consumed by a single active consumer each, so events of one player are
+     * evaluated in order.
      */
-    @RabbitListener(queues = "${game.events.queues.move-applied:game.move.applied}")
-    public void onGameMoveApplied(Map<String, Object> event) {
+    public void onGameSessionEndedForPlayer(Map<String, Object> event, UUID playerId) {
         try {
-            log.debug("Received game.move.applied event: {}", event);
-            
-            String gameIdStr = (String) event.get("game_id");
-            String gameType = (String) event.get("game_type");
-            String playerIdStr = (String) event.get("player_id");
-            
-            if (gameIdStr == null || gameType == null || playerIdStr == null) {
-                log.warn("Received game.move.applied event without required fields: {}", event);
+            var evaluationContext = toGameEndedContext(event);
+            if (evaluationContext == null) {
                 return;
             }
             
-            UUID gameId = UUID.fromString(gameIdStr);
-            UUID playerId = UUID.fromString(playerIdStr);
+            // A player's share is recorded separately, as shards of one event are processed independently
+            String eventId = ProcessedEvents.eventIdOf(event);
+            boolean processed = processedEvents.runOnce("achievements-session-ended-player",
+                    eventId != null ? eventId + ":" + playerId : null,
+                    () -> evaluateAchievementsUseCase.evaluateOnGameEndedForPlayer(evaluationContext, playerId));
+            if (!processed) {
+                log.debug("Skipped duplicate game.session.ended event - gameId: {}, player: {}",
+                        evaluationContext.gameId(), playerId);
+                return;
+            }
             
-            // Create evaluation context
-            var evaluationContext = new EvaluateAchievementsUseCase.GameMoveEvaluationContext(
-                    gameId,
-                    gameType,
-                    playerId,
-                    event
-            );
+            log.debug("Processed game.session.ended event - gameId: {}, gameType: {}, player: {}", 
+                    evaluationContext.gameId(), evaluationContext.gameType(), playerId);
             
-            // Evaluate achievements for the player who made the move
-            evaluateAchievementsUseCase.evaluateOnMoveApplied(evaluationContext);
+        } catch (Exception e) {
+            log.error("Error processing game.session.ended event for player {}: {}", playerId, event, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * @return the evaluation context, or null if the event lacks required fields
+     */
+    private EvaluateAchievementsUseCase.GameEndedEvaluationContext toGameEndedContext(Map<String, Object> event) {
+        String gameIdStr = (String) event.get("game_id");
+        String gameType = (String) event.get("game_type");
+        String winnerIdStr = (String) event.get("winner_id");
+        String sessionIdStr = (String) event.get("session_id");
+        
+        if (gameIdStr == null || gameType == null) {
+            log.warn("Received game.session.ended event without game_id or game_type: {}", event);
+            return null;
+        }
+        
+        UUID gameId = UUID.fromString(gameIdStr);
+        UUID winnerId = winnerIdStr != null ? UUID.fromString(winnerIdStr) : null;
+        
+        // Extract player IDs from event
+        // The event should contain player_ids array or we need to extract from game_state
+        @SuppressWarnings("unchecked")
+        List<String> playerIdsList = (List<String>) event.get("player_ids");
+        
+        if (playerIdsList == null || playerIdsList.isEmpty()) {
+            log.warn("Received game.session.ended event without player_ids: {}", event);
+            return null;
+        }
+        
+        // Convert player IDs to UUIDs
+        List<UUID> playerIds = playerIdsList.stream()
+                .map(UUID::fromString)
+                .toList();
+        
+        return new EvaluateAchievementsUseCase.GameEndedEvaluationContext(
+                gameId,
+                gameType,
+                sessionIdStr,
+                winnerId,
+                playerIds,
+                event
+        );
+    }
+
+    /**
+     * Consumes game.move.applied events from RabbitMQ in batches.
+     * Can trigger achievement evaluation for move-based achievements.
+     * 
+     * The container delivers up to the configured batch size at once (see
+     * messaging.listeners.containers.achievements-move-applied) and acknowledges the whole
+     * batch when this method returns. Moves are grouped by player and game in the use case.
+     */
+    @RabbitListener(id = "achievements-move-applied", queues = "${game.events.queues.move-applied:game.move.applied}", batch = "true")
+    public void onGameMoveApplied(List<Map<String, Object>> events) {
+        log.debug("Received {} game.move.applied events", events.size());
+        
+        List<EvaluateAchievementsUseCase.GameMoveEvaluationContext> contexts = new ArrayList<>(events.size());
+        for (Map<String, Object> event : events) {
+            try {
+                String gameIdStr = (String) event.get("game_id");
+                String gameType = (String) event.get("game_type");
+                String playerIdStr = (String) event.get("player_id");
+                
+                if (gameIdStr == null || gameType == null || playerIdStr == null) {
+                    log.warn("Received game.move.applied event without required fields: {}", event);
+                    continue;
+                }
+                
+                // Create evaluation context
+                contexts.add(new EvaluateAchievementsUseCase.GameMoveEvaluationContext(
+                        UUID.fromString(gameIdStr),
+                        gameType,
+                        UUID.fromString(playerIdStr),
+                        event
+                ));
+            } catch (Exception e) {
+                log.error("Error reading game.move.applied event: {}", event, e);
+            }
+        }
+        
+        try {
+            // Evaluate achievements for the players who made the moves
+            List<EvaluateAchievementsUseCase.GameMoveEvaluationContext> fresh = processedEvents.runOnceEach(
+                    "achievements-move-applied", contexts,
+                    context -> ProcessedEvents.eventIdOf(context.rawEvent()),
+                    evaluateAchievementsUseCase::evaluateOnMovesApplied);
             
-            log.debug("Processed game.move.applied event - gameId: {}, gameType: {}, playerId: {}", 
-                    gameId, gameType, playerId);
+            log.debug("Processed {} game.move.applied events ({} skipped, {} duplicates)",
+                    fresh.size(), events.size() - contexts.size(), contexts.size() - fresh.size());
             
         } catch (Exception e) {
-            log.error("Error processing game.move.applied event: {}", event, e);
-            // Don't throw - event processing failures shouldn't break the system
+            log.error("Error processing batch of {} game.move.applied events", events.size(), e);
+            throw e;
         }
     }
 }
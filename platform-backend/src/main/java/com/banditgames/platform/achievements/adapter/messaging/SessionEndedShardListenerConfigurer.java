@@ -0,0 +1,144 @@
+package com.banditgames.platform.achievements.adapter.messaging;
+
+import com.banditgames.platform.shared.messaging.GameEventShards;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registers the listeners of sharded session ended achievements, when enabled with
+ * game.events.sharding.enabled.
+ *
+ * The session ended achievements queue is then consumed by {@link SessionEndedShardRouter}
+ * through one exclusive consumer, and each shard queue by one consumer thread (the queues
+ * also allow only a single active consumer across instances). Throughput scales with the
+ * shard count while every player's events are evaluated in order. A failed message is
+ * retried after a delay, so events that failed are the one exception to that order.
+ *
+ * Raising the shard count is safe. Lowering it leaves the shard queues at and above the
+ * new count without consumers, so a node refuses to start while any of them still holds
+ * messages. To lower the count, stop routing on every node (stop the nodes or the
+ * game.session.ended producers), let the shard listeners empty every shard queue, then start
+ * all nodes with the new count together. The empty leftover queues can be deleted afterwards.
+ */
+@Slf4j
+@Configuration
+public class SessionEndedShardListenerConfigurer implements RabbitListenerConfigurer {
+
+    static final String ROUTER_ID = "achievements-session-ended-router";
+    static final String SHARD_ID_PREFIX = "achievements-session-ended-shard-";
+
+    private static final TypeReference<Map<String, Object>> EVENT_TYPE = new TypeReference<>() {
+    };
+
+    private final SessionEndedShardRouter shardRouter;
+    private final GameEventConsumer gameEventConsumer;
+    private final ObjectMapper objectMapper;
+    private final AmqpAdmin amqpAdmin;
+
+    @Value("${game.events.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${game.events.sharding.shard-count:4}")
+    private int shardCount = 4;
+
+    @Value("${game.events.queues.session-ended-achievements:game.session.ended.achievements}")
+    private String sessionEndedAchievementsQueue = "game.session.ended.achievements";
+
+    public SessionEndedShardListenerConfigurer(SessionEndedShardRouter shardRouter,
+                                               GameEventConsumer gameEventConsumer,
+                                               ObjectMapper objectMapper,
+                                               AmqpAdmin amqpAdmin) {
+        this.shardRouter = shardRouter;
+        this.gameEventConsumer = gameEventConsumer;
+        this.objectMapper = objectMapper;
+        this.amqpAdmin = amqpAdmin;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        if (!shardingEnabled) {
+            return;
+        }
+        checkNoStrandedShards();
+
+        SimpleRabbitListenerEndpoint router = endpoint(ROUTER_ID, sessionEndedAchievementsQueue,
+                message -> shardRouter.route(message, read(message)));
+        router.setExclusive(true);
+        registrar.registerEndpoint(router);
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            registrar.registerEndpoint(endpoint(SHARD_ID_PREFIX + shard,
+                    GameEventShards.queueName(sessionEndedAchievementsQueue, shard),
+                    message -> gameEventConsumer.onGameSessionEndedForPlayer(read(message), shardPlayer(message))));
+        }
+        log.info("Sharding game.session.ended achievements over {} shards", shardCount);
+    }
+
+    /**
+     * Fails when shard queues beyond the shard count, left by a higher earlier count, still
+     * hold messages that no listener would ever consume.
+     */
+    private void checkNoStrandedShards() {
+        for (int shard = shardCount; ; shard++) {
+            String queue = GameEventShards.queueName(sessionEndedAchievementsQueue, shard);
+            QueueInformation information;
+            try {
+                information = amqpAdmin.getQueueInfo(queue);
+            } catch (AmqpException e) {
+                log.warn("Could not check for shard queues beyond the shard count {}: {}", shardCount, e.getMessage());
+                return;
+            }
+            if (information == null) {
+                return;
+            }
+            if (information.getMessageCount() > 0) {
+                throw new IllegalStateException("Shard queue " + queue + " holds " + information.getMessageCount()
+                        + " messages but game.events.sharding.shard-count is " + shardCount
+                        + "; drain the shard queues with the previous count before lowering it");
+            }
+            log.warn("Shard queue {} is beyond the shard count {} and empty, it can be deleted", queue, shardCount);
+        }
+    }
+
+    private static SimpleRabbitListenerEndpoint endpoint(String id, String queue, MessageListener listener) {
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId(id);
+        endpoint.setQueueNames(queue);
+        // One consumer thread per queue keeps the queue order
+        endpoint.setConcurrency("1");
+        endpoint.setMessageListener(listener);
+        return endpoint;
+    }
+
+    private Map<String, Object> read(Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), EVENT_TYPE);
+        } catch (IOException e) {
+            throw new MessageConversionException("Unreadable game.session.ended event", e);
+        }
+    }
+
+    private static UUID shardPlayer(Message message) {
+        Object playerId = message.getMessageProperties().getHeaders().get(GameEventShards.PLAYER_HEADER);
+        if (playerId == null) {
+            throw new MessageConversionException("Shard message without " + GameEventShards.PLAYER_HEADER + " header");
+        }
+        return UUID.fromString(playerId.toString());
+    }
+}
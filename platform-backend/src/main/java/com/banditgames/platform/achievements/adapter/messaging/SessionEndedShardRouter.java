@@ -0,0 +1,100 @@
+package com.banditgames.platform.achievements.adapter.messaging;
+
+import com.banditgames.platform.shared.messaging.GameEventShards;
+import com.banditgames.platform.shared.messaging.ListenerFailureRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits game.session.ended events into one message per player and routes each message
+ * to the shard of its player, when session ended events are sharded.
+ *
+ * The router is the only consumer of the session ended achievements queue, so events
+ * reach the shards in the order they arrived. The body is forwarded unchanged, with the
+ * player in {@link GameEventShards#PLAYER_HEADER}. Retry and failure headers of the routed
+ * event are dropped: each shard message starts with its own retry budget and, if it is dead
+ * lettered, records its shard queue as origin. The event is acknowledged only once
+ * the broker confirmed every shard message; if the router fails and the event is retried,
+ * shards that already got their message receive it again.
+ */
+@Slf4j
+@Component
+public class SessionEndedShardRouter {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${game.events.sharding.exchange:game_events.shards}")
+    private String shardExchange = "game_events.shards";
+
+    @Value("${game.events.sharding.shard-count:4}")
+    private int shardCount = 4;
+
+    @Value("${messaging.retry.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis = 5_000;
+
+    public SessionEndedShardRouter(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    public void route(Message message, Map<String, Object> event) {
+        Object playerIdsValue = event.get("player_ids");
+        if (!(playerIdsValue instanceof List<?> playerIdsList) || playerIdsList.isEmpty()) {
+            log.warn("Received game.session.ended event without player_ids: {}", event);
+            return;
+        }
+
+        Set<UUID> playerIds = new LinkedHashSet<>();
+        for (Object playerId : playerIdsList) {
+            playerIds.add(UUID.fromString(String.valueOf(playerId)));
+        }
+
+        List<CorrelationData> pending = new ArrayList<>(playerIds.size());
+        for (UUID playerId : playerIds) {
+            MessageProperties properties = MessagePropertiesBuilder
+                    .fromClonedProperties(message.getMessageProperties())
+                    .setHeader(GameEventShards.PLAYER_HEADER, playerId.toString())
+                    .build();
+            ListenerFailureRouter.FAILURE_HEADERS.forEach(properties.getHeaders()::remove);
+            CorrelationData correlation = new CorrelationData();
+            rabbitTemplate.send(shardExchange, String.valueOf(GameEventShards.shardOf(playerId, shardCount)),
+                    new Message(message.getBody(), properties), correlation);
+            pending.add(correlation);
+        }
+        for (CorrelationData correlation : pending) {
+            awaitConfirm(correlation);
+        }
+        log.debug("Routed game.session.ended event {} to the shards of {} players", event.get("game_id"), playerIds.size());
+    }
+
+    private void awaitConfirm(CorrelationData correlation) {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck() || correlation.getReturned() != null) {
+                throw new AmqpException("Shard message was not accepted: "
+                        + (correlation.getReturned() != null ? correlation.getReturned().getReplyText() : confirm.getReason()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while routing to shards", e);
+        } catch (AmqpException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AmqpException("No confirm for shard message within " + confirmTimeoutMillis + " ms", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.banditgames.platform.achievements.adapter.persistence;
+
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Deletes unlocked achievements and statistics of a deleted player.
+ */
+@Component
+@RequiredArgsConstructor
+public class AchievementPlayerDataPurger implements PlayerDataPurger {
+
+    private final UserAchievementRepository userAchievementRepository;
+    private final PlayerStatisticsRepository playerStatisticsRepository;
+
+    @Override
+    public String name() {
+        return "achievements";
+    }
+
+    @Override
+    public int purgeChunk(UUID playerId, int limit) {
+        String id = playerId.toString();
+        int deleted = userAchievementRepository.deleteChunkByUserId(id, limit);
+        if (deleted < limit) {
+            deleted += playerStatisticsRepository.deleteChunkByPlayerId(id, limit - deleted);
+        }
+        return deleted;
+    }
+}
@@ -5,7 +5,15 @@ import com.banditgames.platform.achievements.port.out.LoadPlayerStatisticsPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -57,5 +65,34 @@ public class PlayerStatisticsPersistenceAdapter implements LoadPlayerStatisticsP
             throw new RuntimeException("Failed to update player statistics", e);
         }
     }
+
+    @Override
+    @Transactional
+    public void updateStatistics(Collection<PlayerStatistics> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        Set<String> playerIds = new HashSet<>();
+        Set<UUID> gameIds = new HashSet<>();
+        for (PlayerStatistics stats : statistics) {
+            playerIds.add(stats.getPlayerId().toString());
+            gameIds.add(stats.getGameId());
+        }
+
+        // One query for the existing rows; the cross product of ids may over-fetch, which is harmless
+        Map<String, UUID> existingIds = new HashMap<>();
+        for (PlayerStatisticsEntity existing : repository.findByPlayerIdInAndGameIdIn(playerIds, gameIds)) {
+            existingIds.put(existing.getPlayerId() + ":" + existing.getGameId(), existing.getId());
+        }
+
+        List<PlayerStatisticsEntity> entities = new ArrayList<>(statistics.size());
+        for (PlayerStatistics stats : statistics) {
+            PlayerStatisticsEntity entity = mapper.toEntity(stats);
+            entity.setId(existingIds.get(stats.getPlayerId() + ":" + stats.getGameId()));
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+        log.debug("Updated statistics for {} player/game pairs", entities.size());
+    }
 }
 
@@ -1,8 +1,13 @@
 package com.banditgames.platform.achievements.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,5 +15,14 @@ import java.util.UUID;
 public interface PlayerStatisticsRepository extends JpaRepository<PlayerStatisticsEntity, UUID> {
     
     Optional<PlayerStatisticsEntity> findByPlayerIdAndGameId(String playerId, UUID gameId);
-}
 
+    List<PlayerStatisticsEntity> findByPlayerIdInAndGameIdIn(Collection<String> playerIds, Collection<UUID> gameIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM player_statistics
+        WHERE id IN (SELECT id FROM player_statistics WHERE player_id = :playerId LIMIT :limit)
+    """, nativeQuery = true)
+    int deleteChunkByPlayerId(String playerId, int limit);
+}
@@ -1,7 +1,10 @@
 package com.banditgames.platform.achievements.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,4 +19,12 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
     boolean existsByUserIdAndAchievementId(String userId, UUID achievementId);
     
     java.util.Optional<UserAchievementEntity> findByUserIdAndAchievementId(String userId, UUID achievementId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM user_achievements
+        WHERE id IN (SELECT id FROM user_achievements WHERE user_id = :userId LIMIT :limit)
+    """, nativeQuery = true)
+    int deleteChunkByUserId(String userId, int limit);
 }
@@ -19,6 +19,16 @@ public interface EvaluateAchievementsUseCase {
      */
     void evaluateOnGameEnded(GameEndedEvaluationContext context);
     
+    /**
+     * Evaluates achievements of one player of an ended game.
+     * Used when session ended events are sharded by player and each player's share
+     * of the event is processed on that player's shard.
+     * 
+     * @param context  The game ended evaluation context, with all players of the game
+     * @param playerId The player to evaluate
+     */
+    void evaluateOnGameEndedForPlayer(GameEndedEvaluationContext context, UUID playerId);
+    
     /**
      * Evaluates achievements when a move is applied.
      * 
@@ -26,6 +36,15 @@ public interface EvaluateAchievementsUseCase {
      */
     void evaluateOnMoveApplied(GameMoveEvaluationContext context);
     
+    /**
+     * Evaluates achievements for a batch of applied moves.
+     * Moves of the same player in the same game are evaluated together, with one
+     * statistics load per player and game and one statistics write for the whole batch.
+     * 
+     * @param contexts The game move evaluation contexts, in delivery order
+     */
+    void evaluateOnMovesApplied(List<GameMoveEvaluationContext> contexts);
+    
     /**
      * Context for game ended event evaluation.
      */
@@ -2,6 +2,7 @@ package com.banditgames.platform.achievements.port.out;
 
 import com.banditgames.platform.achievements.domain.PlayerStatistics;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -26,5 +27,12 @@ public interface LoadPlayerStatisticsPort {
      * @param statistics The updated statistics
      */
     void updateStatistics(UUID playerId, UUID gameId, PlayerStatistics statistics);
+    
+    /**
+     * Updates the statistics of several players and games in one write.
+     * 
+     * @param statistics The updated statistics, at most one per player and game
+     */
+    void updateStatistics(Collection<PlayerStatistics> statistics);
 }
 
@@ -7,12 +7,23 @@ import com.banditgames.platform.achievements.port.in.EvaluateAchievementsUseCase
 import com.banditgames.platform.achievements.port.in.SavePlayerAcquiredNewAchievementUseCase;
 import com.banditgames.platform.achievements.port.out.LoadAchievementsPort;
 import com.banditgames.platform.achievements.port.out.LoadPlayerStatisticsPort;
+import com.banditgames.platform.acl.port.out.GameSessionContextPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -24,6 +35,9 @@ import java.util.UUID;
  * 3. Evaluates each achievement using appropriate evaluators
  * 4. Unlocks achievements when criteria are met
  * 5. Updates player statistics
+ * 
+ * Failures are logged and rethrown, so the consuming listener's transaction rolls back and the
+ * event goes through the retry queues (and finally the dead letter queue) instead of being lost.
  */
 @Slf4j
 @Service
@@ -34,12 +48,23 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
     private final LoadPlayerStatisticsPort loadPlayerStatisticsPort;
     private final SavePlayerAcquiredNewAchievementUseCase savePlayerAcquiredNewAchievementUseCase;
     private final List<AchievementEvaluator> achievementEvaluators;
+    private final GameSessionContextPort gameSessionContextPort;
     
     @Override
     public void evaluateOnGameEnded(GameEndedEvaluationContext context) {
         log.info("Evaluating achievements for game ended - gameId: {}, gameType: {}, players: {}", 
                 context.gameId(), context.gameType(), context.playerIds().size());
-        
+        evaluateGameEnded(context, context.playerIds());
+    }
+    
+    @Override
+    public void evaluateOnGameEndedForPlayer(GameEndedEvaluationContext context, UUID playerId) {
+        log.debug("Evaluating achievements for game ended - gameId: {}, gameType: {}, player: {}", 
+                context.gameId(), context.gameType(), playerId);
+        evaluateGameEnded(context, List.of(playerId));
+    }
+    
+    private void evaluateGameEnded(GameEndedEvaluationContext context, List<UUID> playerIds) {
         try {
             // Load all achievements for this game type
             // Note: gameId here represents the game type (e.g., connect_four, chess), not a session ID
@@ -52,10 +77,10 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
             }
             
             // Calculate game duration if available
-            Duration gameDuration = calculateGameDuration(context.rawEvent());
+            Duration gameDuration = calculateGameDuration(context.sessionId(), context.rawEvent());
             
             // Evaluate achievements for each player
-            for (UUID playerId : context.playerIds()) {
+            for (UUID playerId : playerIds) {
                 evaluateAchievementsForPlayer(
                         playerId,
                         context.gameId(),
@@ -67,6 +92,7 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
             
         } catch (Exception e) {
             log.error("Error evaluating achievements for game ended: {}", context, e);
+            throw e;
         }
     }
     
@@ -96,9 +122,62 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
             
         } catch (Exception e) {
             log.error("Error evaluating achievements for move applied: {}", context, e);
+            throw e;
         }
     }
     
+    @Override
+    public void evaluateOnMovesApplied(List<GameMoveEvaluationContext> contexts) {
+        if (contexts.isEmpty()) {
+            return;
+        }
+        
+        // Group moves by player and game type, keeping delivery order within each group
+        Map<PlayerGameKey, List<GameMoveEvaluationContext>> groups = new LinkedHashMap<>();
+        for (GameMoveEvaluationContext context : contexts) {
+            groups.computeIfAbsent(new PlayerGameKey(context.playerId(), context.gameId()), key -> new ArrayList<>())
+                    .add(context);
+        }
+        
+        Map<UUID, List<Achievement>> achievementsByGame = new HashMap<>();
+        List<PlayerStatistics> updatedStatistics = new ArrayList<>(groups.size());
+        for (Map.Entry<PlayerGameKey, List<GameMoveEvaluationContext>> group : groups.entrySet()) {
+            PlayerGameKey key = group.getKey();
+            try {
+                List<Achievement> achievements = achievementsByGame.computeIfAbsent(key.gameId(), loadAchievementsPort::findByGameId);
+                if (achievements.isEmpty()) {
+                    continue;
+                }
+                
+                PlayerStatistics statistics = loadPlayerStatisticsPort.loadStatistics(key.playerId(), key.gameId());
+                List<Achievement> pending = pendingAchievements(key.playerId(), achievements);
+                for (GameMoveEvaluationContext context : group.getValue()) {
+                    if (pending.isEmpty()) {
+                        break;
+                    }
+                    evaluate(key.playerId(), pending, statistics, createEvaluationContext(context, key.playerId()));
+                }
+                updatedStatistics.add(statistics);
+            } catch (Exception e) {
+                // The whole batch is retried, so no group's statistics may be saved without the others
+                log.error("Error evaluating achievements for {} moves - player: {}, gameId: {}",
+                        group.getValue().size(), key.playerId(), key.gameId(), e);
+                throw e;
+            }
+        }
+        
+        try {
+            loadPlayerStatisticsPort.updateStatistics(updatedStatistics);
+        } catch (Exception e) {
+            log.error("Error saving statistics for {} players after move batch", updatedStatistics.size(), e);
+            throw e;
+        }
+        log.debug("Evaluated achievements for {} moves in {} player/game groups", contexts.size(), groups.size());
+    }
+    
+    private record PlayerGameKey(UUID playerId, UUID gameId) {
+    }
+    
     private void evaluateAchievementsForPlayer(
             UUID playerId,
             UUID gameId,  // This is the game type ID, not a session ID
@@ -118,7 +197,17 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
         // Create evaluation context
         AchievementEvaluator.EvaluationContext evalContext = createEvaluationContext(context, playerId);
         
-        // Evaluate each achievement
+        evaluate(playerId, pendingAchievements(playerId, achievements), statistics, evalContext);
+        
+        // Save updated statistics
+        loadPlayerStatisticsPort.updateStatistics(playerId, gameId, statistics);
+    }
+    
+    /**
+     * Returns the achievements the player can still unlock, as a mutable list.
+     */
+    private List<Achievement> pendingAchievements(UUID playerId, List<Achievement> achievements) {
+        List<Achievement> pending = new ArrayList<>(achievements.size());
         for (Achievement achievement : achievements) {
             // Skip third-party achievements (handled separately)
             if (Boolean.TRUE.equals(achievement.getThirdPartyAchievement())) {
@@ -129,6 +218,24 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
             if (savePlayerAcquiredNewAchievementUseCase.hasAchievement(playerId, achievement.getId())) {
                 continue;
             }
+            pending.add(achievement);
+        }
+        return pending;
+    }
+    
+    /**
+     * Evaluates pending achievements and unlocks those whose criteria are met,
+     * removing them from the pending list.
+     */
+    private void evaluate(
+            UUID playerId,
+            List<Achievement> pending,
+            PlayerStatistics statistics,
+            AchievementEvaluator.EvaluationContext evalContext
+    ) {
+        Iterator<Achievement> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Achievement achievement = iterator.next();
             
             // Find appropriate evaluator
             AchievementEvaluator evaluator = findEvaluator(achievement);
@@ -143,11 +250,9 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
             if (criteriaMet) {
                 // Unlock achievement
                 unlockAchievement(playerId, achievement);
+                iterator.remove();
             }
         }
-        
-        // Save updated statistics
-        loadPlayerStatisticsPort.updateStatistics(playerId, gameId, statistics);
     }
     
     private void updateStatisticsForGameEnded(
@@ -227,21 +332,45 @@ public class EvaluateAchievementsService implements EvaluateAchievementsUseCase
         } catch (Exception e) {
             log.error("Error unlocking achievement - player: {}, achievement: {}", 
                     playerId, achievement.getId(), e);
+            throw e;
         }
     }
     
-    private Duration calculateGameDuration(java.util.Map<String, Object> rawEvent) {
+    private Duration calculateGameDuration(String sessionId, java.util.Map<String, Object> rawEvent) {
+        if (sessionId == null) {
+            return null;
+        }
         try {
-            String timestampStr = (String) rawEvent.get("timestamp");
-            if (timestampStr != null) {
-                // For now, we don't have start time, so we can't calculate duration
-                // This would need to be enhanced to track game start time
+            Instant startedAt = gameSessionContextPort.findSessionStart(UUID.fromString(sessionId)).orElse(null);
+            if (startedAt == null) {
                 return null;
             }
+            Instant endedAt = parseTimestamp(rawEvent != null ? rawEvent.get("timestamp") : null);
+            Duration duration = Duration.between(startedAt, endedAt);
+            return duration.isNegative() ? null : duration;
         } catch (Exception e) {
             log.debug("Could not calculate game duration: {}", e.getMessage());
         }
         return null;
     }
+    
+    /**
+     * Game-service timestamps are ISO-8601, with or without an offset (naive values are UTC).
+     * Falls back to the time the event is evaluated.
+     */
+    private Instant parseTimestamp(Object timestamp) {
+        if (timestamp instanceof String value) {
+            try {
+                return OffsetDateTime.parse(value).toInstant();
+            } catch (DateTimeParseException e) {
+                try {
+                    return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+                } catch (DateTimeParseException ignored) {
+                    log.debug("Unparseable game event timestamp: {}", value);
+                }
+            }
+        }
+        return Instant.now();
+    }
 }
 
@@ -3,6 +3,8 @@ package com.banditgames.platform.achievements.usecase;
 import com.banditgames.platform.achievements.domain.UserAchievement;
 import com.banditgames.platform.achievements.port.in.SavePlayerAcquiredNewAchievementUseCase;
 import com.banditgames.platform.achievements.port.out.SaveUserAchievementPort;
+import com.banditgames.platform.shared.events.AchievementUnlockedDomainEvent;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import java.util.UUID;
 public class SavePlayerAcquiredNewAchievementService implements SavePlayerAcquiredNewAchievementUseCase {
 
     private final SaveUserAchievementPort saveUserAchievementPort;
+    private final PlatformEventPublisher eventPublisher;
 
     @Override
     public UserAchievement saveNewAchievement(SavePlayerAcquiredNewAchievement record) {
@@ -29,7 +32,12 @@ public class SavePlayerAcquiredNewAchievementService implements SavePlayerAcquir
                 .achievementId(record.achievementId())
                 .build();
         
-        return saveUserAchievementPort.save(userAchievement);
+        UserAchievement saved = saveUserAchievementPort.save(userAchievement);
+
+        eventPublisher.publish(new AchievementUnlockedDomainEvent(
+                record.playerId(), record.achievementId().toString()));
+
+        return saved;
     }
 
     @Override
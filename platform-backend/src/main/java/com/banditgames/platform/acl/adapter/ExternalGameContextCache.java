@@ -0,0 +1,134 @@
+package com.banditgames.platform.acl.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-game context of running external games, keyed by the external game ID.
+ *
+ * Filled when a lobby starts an external game or the game's service reports a created game,
+ * so move and end events are translated without player or lobby lookups. Ended games stay for a short
+ * time to absorb late messages; games that never report an end are dropped after a maximum age.
+ */
+@Slf4j
+@Component
+public class ExternalGameContextCache {
+
+    private final Map<UUID, Entry> contexts = new ConcurrentHashMap<>();
+
+    @Value("${acl.game-context-cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    @Value("${acl.game-context-cache.ended-ttl-ms:300000}")
+    private long endedTtlMillis = 300_000;
+
+    @Value("${acl.game-context-cache.max-age-hours:24}")
+    private long maxAgeHours = 24;
+
+    /**
+     * Resolved facts about one external game. Seats follow the order the game's
+     * {@code acl.external-games.<gameType>.seats} declares them.
+     *
+     * @param gameId         External game ID, also used as the session ID
+     * @param lobbyId        Lobby the game was started from, or null for games started outside a lobby
+     * @param firstPlayerId  Platform player ID in the first seat
+     * @param secondPlayerId Platform player ID in the second seat
+     * @param startedAt      When the game started, or null if the game was first seen after its start
+     * @param endedAt        When the game ended, or null while it is running
+     */
+    public record ExternalGameContext(
+        UUID gameId,
+        UUID lobbyId,
+        UUID firstPlayerId,
+        UUID secondPlayerId,
+        Instant startedAt,
+        Instant endedAt
+    ) {
+
+        public boolean hasPlayers() {
+            return firstPlayerId != null && secondPlayerId != null;
+        }
+
+        /**
+         * @param seat Seat index, 0 for the first seat
+         * @return The player in that seat, or null for an unknown seat
+         */
+        public UUID playerId(int seat) {
+            return seat == 0 ? firstPlayerId : seat == 1 ? secondPlayerId : null;
+        }
+
+        public Duration duration() {
+            if (startedAt == null || endedAt == null || endedAt.isBefore(startedAt)) {
+                return null;
+            }
+            return Duration.between(startedAt, endedAt);
+        }
+
+        private ExternalGameContext mergedWith(ExternalGameContext newer) {
+            return new ExternalGameContext(
+                gameId,
+                lobbyId != null ? lobbyId : newer.lobbyId,
+                firstPlayerId != null ? firstPlayerId : newer.firstPlayerId,
+                secondPlayerId != null ? secondPlayerId : newer.secondPlayerId,
+                startedAt != null ? startedAt : newer.startedAt,
+                endedAt != null ? endedAt : newer.endedAt
+            );
+        }
+    }
+
+    private record Entry(ExternalGameContext context, Instant cachedAt) {
+    }
+
+    public Optional<ExternalGameContext> get(UUID gameId) {
+        return Optional.ofNullable(gameId != null ? contexts.get(gameId) : null).map(Entry::context);
+    }
+
+    /**
+     * Stores a context, keeping facts already known for the game.
+     *
+     * @return the stored context
+     */
+    public ExternalGameContext put(ExternalGameContext context) {
+        if (!contexts.containsKey(context.gameId()) && contexts.size() >= maxEntries) {
+            log.warn("ACL: External game context cache is full ({} games), not caching game {}", maxEntries, context.gameId());
+            return context;
+        }
+        return contexts.merge(context.gameId(), new Entry(context, Instant.now()),
+            (existing, added) -> new Entry(existing.context().mergedWith(added.context()), existing.cachedAt())).context();
+    }
+
+    /**
+     * Records the end of a game; the context is evicted once the ended TTL has passed.
+     *
+     * @return the context with its end time, or empty if the game is not cached
+     */
+    public Optional<ExternalGameContext> markEnded(UUID gameId, Instant endedAt) {
+        return Optional.ofNullable(contexts.computeIfPresent(gameId, (id, entry) -> {
+            ExternalGameContext context = entry.context();
+            if (context.endedAt() != null) {
+                return entry;
+            }
+            return new Entry(new ExternalGameContext(id, context.lobbyId(), context.firstPlayerId(), context.secondPlayerId(),
+                context.startedAt(), endedAt), entry.cachedAt());
+        })).map(Entry::context);
+    }
+
+    @Scheduled(fixedDelayString = "${acl.game-context-cache.sweep-interval-ms:60000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        Instant endedCutoff = now.minusMillis(endedTtlMillis);
+        Instant cachedCutoff = now.minus(Duration.ofHours(maxAgeHours));
+        contexts.values().removeIf(entry -> entry.context().endedAt() != null
+            ? entry.context().endedAt().isBefore(endedCutoff)
+            : entry.cachedAt().isBefore(cachedCutoff));
+    }
+}
@@ -33,12 +33,10 @@ public class GameEndedEventListener {
 
         try {
             // Translate shared event to consuming context format
-            // Note: We don't have playerIds in the event, so we pass empty list
-            // In a real implementation, you might want to enrich the event or query for participants
             gameContextPort.handleGameEnded(
                     event.lobbyId(),
                     event.winnerId(),
-                    Collections.emptyList() // TODO: Enrich event with participant IDs if needed
+                    event.playerIds() != null ? event.playerIds() : Collections.emptyList()
             );
         } catch (Exception e) {
             log.error("Error handling game ended event for lobby: {}", event.lobbyId(), e);
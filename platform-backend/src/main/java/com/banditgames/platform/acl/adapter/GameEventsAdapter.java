@@ -28,7 +28,7 @@ public class GameEventsAdapter {
      * Handles achievement acquired messages from external game service.
      * Translates external message format to consuming context format.
      */
-    @RabbitListener(queues = "${game.events.queues.achievements}")
+    @RabbitListener(id = "acl-game-achievements", queues = "${game.events.queues.achievements}")
     public void handleAchievementAcquired(AchievementAcquiredMessage message) {
         log.debug("ACL: Received achievement acquired message: {}", message);
         
@@ -43,7 +43,7 @@ public class GameEventsAdapter {
             );
         } catch (Exception e) {
             log.error("Error processing achievement acquired message: {}", message, e);
-            // Don't throw - ACL should handle errors gracefully to prevent message loss
+            throw e;
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.banditgames.platform.acl.adapter;
+
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache.ExternalGameContext;
+import com.banditgames.platform.acl.port.out.GameSessionContextPort;
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.port.out.GameSessionRegistryPort;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Anti-Corruption Layer (ACL) adapter exposing game session timing
+ * from the Lobby context's in-memory session registry, falling back to
+ * the external game context for games run by external game services, and
+ * finally to the start time of the lobby still running the session.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSessionContextAdapter implements GameSessionContextPort {
+
+    private final GameSessionRegistryPort gameSessionRegistryPort;
+    private final ExternalGameContextCache gameContextCache;
+    private final LoadLobbyPort loadLobbyPort;
+
+    @Override
+    public Optional<Instant> findSessionStart(UUID sessionId) {
+        return gameSessionRegistryPort.find(sessionId)
+                .map(ActiveGameSession::startedAt)
+                .or(() -> gameContextCache.get(sessionId).map(ExternalGameContext::startedAt))
+                .or(() -> loadLobbyPort.findBySessionId(sessionId)
+                        .map(Lobby::getStartedAt)
+                        .map(startedAt -> startedAt.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+}
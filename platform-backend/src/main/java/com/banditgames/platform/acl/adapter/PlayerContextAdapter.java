@@ -64,10 +64,11 @@ public class PlayerContextAdapter implements PlayerContextPort {
     public List<PlayerInfo> getPlayerInfos(List<UUID> playerIds) {
         log.debug("ACL: Getting player infos for {} players", playerIds.size());
 
-        return playerIds.stream()
-                .map(getPlayerUseCase::getPlayer)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+
+        return getPlayerUseCase.getPlayers(playerIds).stream()
                 .map(this::toPlayerInfo)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,113 @@
+package com.banditgames.platform.acl.adapter.client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking client for the external chess backend.
+ *
+ * Calls go through a pooled Reactor Netty connection with connect and response timeouts and
+ * are guarded by the {@value #CIRCUIT_BREAKER} circuit breaker, so an unavailable chess
+ * backend fails fast instead of piling up requests. Futures complete off the Netty event loop,
+ * so callers may chain blocking work onto them.
+ */
+@Slf4j
+@Component
+public class ChessBackendClient implements DisposableBean {
+
+    static final String CIRCUIT_BREAKER = "chessBackend";
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ConnectionProvider connectionProvider;
+    private final Scheduler callbackScheduler = Schedulers.boundedElastic();
+
+    public ChessBackendClient(
+            WebClient.Builder webClientBuilder,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${chess.game.service.url:http://localhost:8080}") String chessGameServiceUrl,
+            @Value("${chess.game.client.max-connections:50}") int maxConnections,
+            @Value("${chess.game.client.connect-timeout-ms:2000}") int connectTimeoutMillis,
+            @Value("${chess.game.client.response-timeout-ms:5000}") long responseTimeoutMillis) {
+        this.connectionProvider = ConnectionProvider.builder("chess-backend")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        this.webClient = webClientBuilder
+                .baseUrl(chessGameServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+    }
+
+    /**
+     * Preregisters both players for a chess game (PUT /api/games/{gameId}).
+     */
+    public CompletionStage<Void> preregisterPlayers(UUID chessGameId, ChessPlayers players) {
+        return send(HttpMethod.PUT, chessGameId, players);
+    }
+
+    /**
+     * Creates or activates a chess game with both players (POST /api/games/{gameId}).
+     */
+    public CompletionStage<Void> createGame(UUID chessGameId, ChessPlayers players) {
+        return send(HttpMethod.POST, chessGameId, players);
+    }
+
+    private CompletionStage<Void> send(HttpMethod method, UUID chessGameId, ChessPlayers players) {
+        return circuitBreaker.executeCompletionStage(() -> webClient.method(method)
+                .uri("/api/games/{gameId}", chessGameId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(players.toRequestBody())
+                .retrieve()
+                .toBodilessEntity()
+                .doOnNext(response -> log.debug("Chess backend {} /api/games/{} answered {}",
+                        method, chessGameId, response.getStatusCode()))
+                .publishOn(callbackScheduler)
+                .then()
+                .toFuture());
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * White and black player of a chess game.
+     */
+    public record ChessPlayers(UUID whitePlayerId, String whitePlayerName, UUID blackPlayerId, String blackPlayerName) {
+
+        Map<String, Object> toRequestBody() {
+            Map<String, Object> body = new HashMap<>();
+            body.put("whitePlayerId", whitePlayerId.toString());
+            body.put("whitePlayerName", whitePlayerName);
+            body.put("blackPlayerId", blackPlayerId.toString());
+            body.put("blackPlayerName", blackPlayerName);
+            return body;
+        }
+    }
+}
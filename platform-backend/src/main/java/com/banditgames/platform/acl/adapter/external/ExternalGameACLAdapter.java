@@ -0,0 +1,297 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache;
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache.ExternalGameContext;
+import com.banditgames.platform.acl.adapter.messaging.GameEventsPublisher;
+import com.banditgames.platform.acl.adapter.messaging.platform.GameMoveAppliedPayload;
+import com.banditgames.platform.acl.adapter.messaging.platform.GameSessionEndedPayload;
+import com.banditgames.platform.acl.adapter.messaging.platform.GameSessionStartedPayload;
+import com.banditgames.platform.lobby.domain.ExternalGameInstance;
+import com.banditgames.platform.lobby.service.ExternalGameInstanceService;
+import com.banditgames.platform.player.port.in.ResolvePlayerIdUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Anti-Corruption Layer (ACL) adapter for external games declared in configuration.
+ *
+ * Each external game declares, under {@code acl.external-games.<gameType>}, the queues its
+ * game created, move and game ended messages arrive on and how their fields map to the
+ * platform's view. The mappings are compiled once at startup; this adapter then resolves
+ * players and lobby through the per-game context cache and republishes the messages as
+ * game_events (session started, move applied, session ended).
+ *
+ * Adding an external game that reports these three messages needs configuration only.
+ *
+ * Event ids are derived from the game and move, so a redelivered external message is
+ * republished with the same id and dropped by the platform consumers.
+ *
+ * Flow:
+ * External Game → its exchange → {@link ExternalGameListenerConfigurer} → this adapter → game_events
+ */
+@Slf4j
+@Component
+public class ExternalGameACLAdapter {
+
+    private final GameEventsPublisher gameEventsPublisher;
+    private final ResolvePlayerIdUseCase resolvePlayerIdUseCase;
+    private final ExternalGameContextCache gameContextCache;
+    private final ExternalGameInstanceService externalGameInstanceService;
+    private final Map<String, ExternalGameDefinition> definitions = new LinkedHashMap<>();
+
+    @Value("${game.events.routing-keys.session-started:game.session.started}")
+    private String sessionStartedRoutingKey;
+
+    @Value("${game.events.routing-keys.move-applied:game.move.applied}")
+    private String moveAppliedRoutingKey;
+
+    @Value("${game.events.routing-keys.session-ended:game.session.ended}")
+    private String sessionEndedRoutingKey;
+
+    public ExternalGameACLAdapter(
+            GameEventsPublisher gameEventsPublisher,
+            ResolvePlayerIdUseCase resolvePlayerIdUseCase,
+            ExternalGameContextCache gameContextCache,
+            ExternalGameInstanceService externalGameInstanceService,
+            ExternalGameProperties properties) {
+        this.gameEventsPublisher = gameEventsPublisher;
+        this.resolvePlayerIdUseCase = resolvePlayerIdUseCase;
+        this.gameContextCache = gameContextCache;
+        this.externalGameInstanceService = externalGameInstanceService;
+        properties.getExternalGames().forEach((gameType, game) ->
+                definitions.put(gameType, ExternalGameDefinition.compile(gameType, game)));
+        log.info("ACL: Compiled message mappings for external games {}", definitions.keySet());
+    }
+
+    public Collection<ExternalGameDefinition> definitions() {
+        return definitions.values();
+    }
+
+    /**
+     * Republishes an external game created message as game.session.started.
+     *
+     * **Player ID Lookup**: Attempts to find player IDs by name. If lookup fails,
+     * the event is still published with player names for logging purposes.
+     */
+    public void handleGameStarted(ExternalGameDefinition game, Map<String, Object> message) {
+        try {
+            ExternalGameStarted started = game.started().fields().apply(message);
+            log.info("ACL: Received {} game created: gameId={}, players={}, {}",
+                    game.gameType(), started.gameId(), started.firstPlayer(), started.secondPlayer());
+
+            ExternalGameContext context = context(started.gameId(), started.firstPlayer(), started.secondPlayer(),
+                    started.timestamp() != null ? started.timestamp() : Instant.now());
+            UUID firstPlayerId = context.firstPlayerId();
+            UUID secondPlayerId = context.secondPlayerId();
+
+            // Use player IDs if found, otherwise use empty list (will be logged but event still published)
+            List<String> playerIds;
+            String startingPlayerId = null;
+            if (firstPlayerId != null && secondPlayerId != null) {
+                playerIds = List.of(firstPlayerId.toString(), secondPlayerId.toString());
+                startingPlayerId = firstPlayerId.toString();
+            } else {
+                playerIds = List.of();
+                log.warn("ACL: Could not find player IDs for {} game: players={}, {}. " +
+                        "Event will be published with player names only for logging.",
+                        game.gameType(), started.firstPlayer(), started.secondPlayer());
+            }
+
+            gameEventsPublisher.publish(sessionStartedRoutingKey, new GameSessionStartedPayload(
+                    GameEventsPublisher.eventId(game.gameType(), sessionStartedRoutingKey, started.gameId()),
+                    Instant.now(),
+                    started.gameId(),
+                    started.gameId(),
+                    game.gameType(),
+                    context.lobbyId(),
+                    playerIds,
+                    startingPlayerId,
+                    game.started().state().apply(message, firstPlayerId, secondPlayerId),
+                    GameSessionStartedPayload.TYPE
+            ));
+
+            log.info("ACL: Transformed and republished {} game created event - gameId={}, playerIdsFound={}",
+                    game.gameType(), started.gameId(), !playerIds.isEmpty());
+
+        } catch (Exception e) {
+            log.error("ACL: Error processing {} game created: {}", game.gameType(), message, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Republishes an external move message as game.move.applied.
+     * Moves are already applied by the external service, so consumers only log and push them.
+     */
+    public void handleMoveMade(ExternalGameDefinition game, Map<String, Object> message) {
+        try {
+            ExternalMoveMade move = game.moveMade().fields().apply(message);
+            log.debug("ACL: Received {} move made: gameId={}, move={}, seat={}",
+                    game.gameType(), move.gameId(), move.notation(), move.seat());
+
+            ExternalGameContext context = context(move.gameId(), move.firstPlayer(), move.secondPlayer(), null);
+            int seat = game.seatIndex(move.seat());
+            UUID playerId = context.playerId(seat);
+            String playerName = seat == 0 ? move.firstPlayer() : move.secondPlayer();
+
+            if (playerId == null) {
+                log.warn("ACL: Could not find player ID for {} move: seat={}, playerName={}. " +
+                        "Event will be published with player name only for logging.",
+                        game.gameType(), move.seat(), playerName);
+            }
+
+            String player = move.seat() != null ? move.seat() : "";
+            String stateAfterMove = move.stateAfterMove() != null ? move.stateAfterMove() : "";
+            gameEventsPublisher.publishMove(moveAppliedRoutingKey, GameMoveAppliedPayload.ongoing(
+                    GameEventsPublisher.eventId(game.gameType(), moveAppliedRoutingKey, move.gameId(),
+                            move.moveNumber(), player, move.notation(), stateAfterMove),
+                    Instant.now(),
+                    move.gameId(),
+                    game.gameType(),
+                    playerId,
+                    new GameMoveAppliedPayload.Move(
+                            move.from() != null ? move.from() : "",
+                            move.to() != null ? move.to() : "",
+                            move.notation() != null ? move.notation() : "",
+                            stateAfterMove,
+                            player,
+                            playerName != null ? playerName : "",
+                            playerId != null ? playerId.toString() : "unknown",
+                            move.moveNumber()
+                    ),
+                    new GameMoveAppliedPayload.GameState(stateAfterMove, move.moveNumber(), player)
+            ));
+
+            log.debug("ACL: Transformed and republished {} move event - gameId={}, move={}, playerIdFound={}",
+                    game.gameType(), move.gameId(), move.notation(), playerId != null);
+
+        } catch (Exception e) {
+            log.error("ACL: Error processing {} move made: {}", game.gameType(), message, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Republishes an external game ended message as game.session.ended, with the lobby,
+     * start time and duration taken from the game's context.
+     */
+    public void handleGameEnded(ExternalGameDefinition game, Map<String, Object> message) {
+        try {
+            ExternalGameEnded ended = game.ended().fields().apply(message);
+            log.info("ACL: Received {} game ended: gameId={}, winner={}, reason={}",
+                    game.gameType(), ended.gameId(), ended.winner(), ended.endReason());
+
+            ExternalGameContext context = context(ended.gameId(), ended.firstPlayer(), ended.secondPlayer(), null);
+            Instant endedAt = ended.timestamp() != null ? ended.timestamp() : Instant.now();
+            context = gameContextCache.markEnded(ended.gameId(), endedAt).orElse(context);
+            UUID firstPlayerId = context.firstPlayerId();
+            UUID secondPlayerId = context.secondPlayerId();
+            Duration duration = context.duration();
+
+            // Winner ID stays null for draws and when player IDs were not found
+            String winnerId = null;
+            if (firstPlayerId != null && secondPlayerId != null) {
+                int winner = game.seatIndex(ended.winner());
+                if (winner == 0) {
+                    winnerId = firstPlayerId.toString();
+                } else if (winner == 1) {
+                    winnerId = secondPlayerId.toString();
+                }
+            } else {
+                log.warn("ACL: Could not find player IDs for ended {} game: players={}, {}. " +
+                        "Event will be published with player names only for logging.",
+                        game.gameType(), ended.firstPlayer(), ended.secondPlayer());
+            }
+
+            gameEventsPublisher.publish(sessionEndedRoutingKey, new GameSessionEndedPayload(
+                    GameEventsPublisher.eventId(game.gameType(), sessionEndedRoutingKey, ended.gameId()),
+                    Instant.now(),
+                    ended.gameId(),
+                    ended.gameId(),
+                    game.gameType(),
+                    context.lobbyId(),
+                    context.startedAt(),
+                    duration != null ? duration.toSeconds() : null,
+                    winnerId,
+                    game.result(ended.endReason(), ended.winner()),
+                    game.ended().state().apply(message, firstPlayerId, secondPlayerId),
+                    GameSessionEndedPayload.TYPE
+            ));
+
+            log.info("ACL: Transformed and republished {} game ended event - gameId={}, winnerId={}, playerIdsFound={}",
+                    game.gameType(), ended.gameId(), winnerId, firstPlayerId != null && secondPlayerId != null);
+
+        } catch (Exception e) {
+            log.error("ACL: Error processing {} game ended: {}", game.gameType(), message, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the context of an external game, building and caching it on first use.
+     * Player ids missing from a cached context are looked up again, so a player that
+     * registers with the platform mid-game is still picked up.
+     */
+    private ExternalGameContext context(UUID gameId, String firstPlayer, String secondPlayer, Instant startedAt) {
+        ExternalGameContext cached = gameContextCache.get(gameId).orElse(null);
+        if (cached != null && cached.hasPlayers()) {
+            if (startedAt == null || cached.startedAt() != null) {
+                return cached;
+            }
+            return gameContextCache.put(new ExternalGameContext(gameId, null, null, null, startedAt, null));
+        }
+
+        UUID lobbyId = cached != null ? cached.lobbyId() : findLobbyId(gameId);
+        ExternalGameContext resolved = new ExternalGameContext(
+                gameId,
+                lobbyId,
+                findPlayerIdByName(firstPlayer),
+                findPlayerIdByName(secondPlayer),
+                startedAt,
+                null
+        );
+        return gameId != null ? gameContextCache.put(resolved) : resolved;
+    }
+
+    private UUID findLobbyId(UUID gameId) {
+        if (gameId == null) {
+            return null;
+        }
+        ExternalGameInstance instance = externalGameInstanceService.findByExternalGameInstanceId(gameId);
+        return instance != null ? instance.getLobbyId() : null;
+    }
+
+    /**
+     * Resolves an external player name to a platform player ID using an exact, cached username match.
+     *
+     * @return The player ID if found, null otherwise
+     */
+    private UUID findPlayerIdByName(String playerName) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            log.debug("ACL: Player name is null or empty, cannot lookup player ID");
+            return null;
+        }
+
+        try {
+            UUID foundPlayerId = resolvePlayerIdUseCase.resolvePlayerId(playerName).orElse(null);
+            if (foundPlayerId != null) {
+                log.debug("ACL: Found player ID for name '{}': {}", playerName, foundPlayerId);
+            } else {
+                log.debug("ACL: No player found with name: {}", playerName);
+            }
+            return foundPlayerId;
+        } catch (Exception e) {
+            log.debug("ACL: Error looking up player by name '{}': {}", playerName, e.getMessage());
+        }
+        return null;
+    }
+}
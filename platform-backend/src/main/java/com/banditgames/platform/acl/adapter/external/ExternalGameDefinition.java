@@ -0,0 +1,104 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import com.banditgames.platform.acl.adapter.mapping.MapMapping;
+import com.banditgames.platform.acl.adapter.mapping.RecordMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled declaration of one external game.
+ *
+ * @param gameType Platform game type of the external game
+ * @param seats    Seat values, first seat first
+ * @param results  End reason or winner value to platform game result
+ * @param started  Game created message, or null if the game does not report it
+ * @param moveMade Move message, or null if the game does not report moves
+ * @param ended    Game ended message, or null if the game does not report it
+ */
+public record ExternalGameDefinition(
+    String gameType,
+    List<String> seats,
+    Map<String, String> results,
+    Message<ExternalGameStarted> started,
+    Message<ExternalMoveMade> moveMade,
+    Message<ExternalGameEnded> ended
+) {
+
+    public static final String GAME_STARTED = "game-started";
+    public static final String MOVE_MADE = "move-made";
+    public static final String GAME_ENDED = "game-ended";
+
+    /**
+     * Variables available to state mappings, in the order their values are passed.
+     */
+    public static final List<String> STATE_VARIABLES = List.of("firstPlayerId", "secondPlayerId");
+
+    /**
+     * @param queue  Queue the message arrives on
+     * @param fields Mapping to the platform's view of the message
+     * @param state  Mapping to the game-specific state published with the event
+     */
+    public record Message<T extends Record>(String queue, RecordMapping<T> fields, MapMapping state) {
+    }
+
+    /**
+     * @throws IllegalStateException if the declaration is incomplete or a mapping does not compile
+     */
+    public static ExternalGameDefinition compile(String gameType, ExternalGameProperties.ExternalGame game) {
+        if (game.getSeats().size() != 2) {
+            throw new IllegalStateException("External game " + gameType + " must declare exactly two seats");
+        }
+        Map<String, ExternalGameProperties.MessageMapping> messages = game.getMessages();
+        messages.keySet().stream()
+            .filter(name -> !List.of(GAME_STARTED, MOVE_MADE, GAME_ENDED).contains(name))
+            .findFirst()
+            .ifPresent(name -> {
+                throw new IllegalStateException("Unknown message '" + name + "' declared for external game " + gameType);
+            });
+        try {
+            return new ExternalGameDefinition(
+                gameType,
+                List.copyOf(game.getSeats()),
+                Map.copyOf(game.getResults()),
+                message(messages.get(GAME_STARTED), ExternalGameStarted.class),
+                message(messages.get(MOVE_MADE), ExternalMoveMade.class),
+                message(messages.get(GAME_ENDED), ExternalGameEnded.class)
+            );
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Invalid mapping for external game " + gameType + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 0 for the first seat, 1 for the second, -1 for anything else
+     */
+    public int seatIndex(String seat) {
+        return seat != null ? seats.indexOf(seat) : -1;
+    }
+
+    /**
+     * Maps an end reason, then the winner value, to a platform game result.
+     */
+    public String result(String endReason, String winner) {
+        String result = endReason != null ? results.get(endReason) : null;
+        if (result == null && winner != null) {
+            result = results.get(winner);
+        }
+        return result != null ? result : "FINISHED";
+    }
+
+    private static <T extends Record> Message<T> message(ExternalGameProperties.MessageMapping mapping, Class<T> type) {
+        if (mapping == null) {
+            return null;
+        }
+        if (mapping.getQueue() == null || mapping.getQueue().isBlank()) {
+            throw new IllegalStateException("No queue declared for " + type.getSimpleName());
+        }
+        return new Message<>(
+            mapping.getQueue(),
+            RecordMapping.compile(type, mapping.getFields(), List.of()),
+            MapMapping.compile(mapping.getState(), STATE_VARIABLES)
+        );
+    }
+}
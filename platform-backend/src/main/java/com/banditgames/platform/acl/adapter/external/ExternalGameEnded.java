@@ -0,0 +1,24 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A game finished in an external game service, as declared by its message mapping.
+ *
+ * @param gameId       External game ID
+ * @param firstPlayer  Username of the player in the first seat
+ * @param secondPlayer Username of the player in the second seat
+ * @param endReason    Game-specific end reason
+ * @param winner       Seat value of the winner, or a game-specific draw value
+ * @param timestamp    When the game ended, or null to use the receive time
+ */
+public record ExternalGameEnded(
+    UUID gameId,
+    String firstPlayer,
+    String secondPlayer,
+    String endReason,
+    String winner,
+    Instant timestamp
+) {
+}
@@ -0,0 +1,76 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Registers one RabbitMQ listener per message queue declared by an external game.
+ *
+ * Message bodies are read as plain JSON maps, since external games share no classes with
+ * the platform; the compiled mappings of {@link ExternalGameACLAdapter} take it from there.
+ * Listener ids are {@code <gameType>-<message>}, e.g. chess-move-made, for per-listener settings.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ExternalGameListenerConfigurer implements RabbitListenerConfigurer {
+
+    private static final TypeReference<Map<String, Object>> MESSAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final ExternalGameACLAdapter externalGameACLAdapter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (ExternalGameDefinition game : externalGameACLAdapter.definitions()) {
+            register(registrar, game, ExternalGameDefinition.GAME_STARTED, game.started(),
+                    externalGameACLAdapter::handleGameStarted);
+            register(registrar, game, ExternalGameDefinition.MOVE_MADE, game.moveMade(),
+                    externalGameACLAdapter::handleMoveMade);
+            register(registrar, game, ExternalGameDefinition.GAME_ENDED, game.ended(),
+                    externalGameACLAdapter::handleGameEnded);
+        }
+    }
+
+    private void register(RabbitListenerEndpointRegistrar registrar, ExternalGameDefinition game, String name,
+                          ExternalGameDefinition.Message<?> message,
+                          BiConsumer<ExternalGameDefinition, Map<String, Object>> handler) {
+        if (message == null) {
+            return;
+        }
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId(game.gameType() + "-" + name);
+        endpoint.setQueueNames(message.queue());
+        endpoint.setMessageListener(amqpMessage -> {
+            Map<String, Object> body = read(game, name, amqpMessage);
+            if (body != null) {
+                handler.accept(game, body);
+            }
+        });
+        registrar.registerEndpoint(endpoint);
+        log.info("ACL: Listening for {} {} messages on queue {}", game.gameType(), name, message.queue());
+    }
+
+    private Map<String, Object> read(ExternalGameDefinition game, String name, Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), MESSAGE_TYPE);
+        } catch (IOException e) {
+            // Unreadable bodies go straight to the dead letter queue, retrying cannot fix them
+            throw new MessageConversionException(
+                    "Unreadable " + game.gameType() + " " + name + " message", e);
+        }
+    }
+}
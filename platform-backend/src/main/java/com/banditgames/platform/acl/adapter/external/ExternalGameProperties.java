@@ -0,0 +1,49 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * External games translated by the generic ACL, keyed by platform game type.
+ *
+ * Map keys that must keep their case (field names, result values) are written in bracket
+ * notation, e.g. {@code acl.external-games.chess.messages.move-made.fields[from]=fromSquare}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "acl")
+public class ExternalGameProperties {
+
+    private Map<String, ExternalGame> externalGames = new LinkedHashMap<>();
+
+    @Data
+    public static class ExternalGame {
+
+        /** Values the game uses for its two seats in move and winner fields, first seat first */
+        private List<String> seats = List.of();
+
+        /** End reason or winner value to platform game result; anything unlisted is FINISHED */
+        private Map<String, String> results = new LinkedHashMap<>();
+
+        /** Declared messages, keyed by game-started, move-made or game-ended */
+        private Map<String, MessageMapping> messages = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class MessageMapping {
+
+        /** Queue the external game's messages arrive on */
+        private String queue;
+
+        /** Platform field to source expression */
+        private Map<String, String> fields = new LinkedHashMap<>();
+
+        /** Game-specific state published with the event, key to source expression */
+        private Map<String, String> state = new LinkedHashMap<>();
+    }
+}
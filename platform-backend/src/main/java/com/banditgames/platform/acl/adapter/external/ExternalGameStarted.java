@@ -0,0 +1,20 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A game created by an external game service, as declared by its message mapping.
+ *
+ * @param gameId       External game ID, also used as the session ID
+ * @param firstPlayer  Username of the player in the first seat
+ * @param secondPlayer Username of the player in the second seat
+ * @param timestamp    When the game was created, or null to use the receive time
+ */
+public record ExternalGameStarted(
+    UUID gameId,
+    String firstPlayer,
+    String secondPlayer,
+    Instant timestamp
+) {
+}
@@ -0,0 +1,29 @@
+package com.banditgames.platform.acl.adapter.external;
+
+import java.util.UUID;
+
+/**
+ * A move made in an external game, as declared by its message mapping.
+ *
+ * @param gameId         External game ID
+ * @param seat           Seat value of the moving player, one of the game's declared seats
+ * @param firstPlayer    Username of the player in the first seat
+ * @param secondPlayer   Username of the player in the second seat
+ * @param from           Origin of the move in the game's notation
+ * @param to             Destination of the move in the game's notation
+ * @param notation       Human-readable move
+ * @param stateAfterMove Serialized game state after the move
+ * @param moveNumber     Move number, 0 if not reported
+ */
+public record ExternalMoveMade(
+    UUID gameId,
+    String seat,
+    String firstPlayer,
+    String secondPlayer,
+    String from,
+    String to,
+    String notation,
+    String stateAfterMove,
+    int moveNumber
+) {
+}
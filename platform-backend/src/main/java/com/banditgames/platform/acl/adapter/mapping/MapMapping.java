@@ -0,0 +1,51 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declared mapping from an external message to a free-form map, compiled once.
+ *
+ * Used for the game-specific parts of platform events (game configuration, final state),
+ * whose keys are chosen by each external game rather than by the platform.
+ */
+public final class MapMapping {
+
+    private final String[] keys;
+    private final SourceExpression[] sources;
+
+    private MapMapping(String[] keys, SourceExpression[] sources) {
+        this.keys = keys;
+        this.sources = sources;
+    }
+
+    /**
+     * @param fields    target key to source expression
+     * @param variables names that expressions may reference as {@code $name}, in the order
+     *                  their values are passed to {@link #apply}
+     * @throws IllegalStateException if an expression is invalid
+     */
+    public static MapMapping compile(Map<String, String> fields, List<String> variables) {
+        String[] keys = new String[fields.size()];
+        SourceExpression[] sources = new SourceExpression[fields.size()];
+        int i = 0;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            keys[i] = field.getKey();
+            sources[i] = SourceExpression.compile(field.getValue(), variables);
+            i++;
+        }
+        return new MapMapping(keys, sources);
+    }
+
+    /**
+     * @return a new mutable map with one entry per declared key
+     */
+    public Map<String, Object> apply(Map<String, Object> source, Object... variables) {
+        Map<String, Object> target = HashMap.newHashMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            target.put(keys[i], sources[i].read(source, variables));
+        }
+        return target;
+    }
+}
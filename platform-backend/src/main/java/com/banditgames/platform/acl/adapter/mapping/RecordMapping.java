@@ -0,0 +1,165 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Declared mapping from an external message to a record, compiled once.
+ *
+ * Each record component gets its source expression and a converter picked from the component
+ * type at compile time; the record is then built through its canonical constructor handle.
+ * Applying the mapping is a few map lookups plus one constructor call, with no reflection.
+ *
+ * @param <T> target record type
+ */
+public final class RecordMapping<T extends Record> {
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final SourceExpression[] sources;
+    private final List<Function<Object, Object>> converters;
+
+    private RecordMapping(Class<T> type, MethodHandle constructor, SourceExpression[] sources,
+                          List<Function<Object, Object>> converters) {
+        this.type = type;
+        this.constructor = constructor;
+        this.sources = sources;
+        this.converters = converters;
+    }
+
+    /**
+     * Compiles a mapping; components without a declared source are null (zero for primitives).
+     *
+     * @param fields    record component name to source expression
+     * @param variables names that expressions may reference as {@code $name}, in the order
+     *                  their values are passed to {@link #apply}
+     * @throws IllegalStateException if a field, expression or component type is not supported
+     */
+    public static <T extends Record> RecordMapping<T> compile(Class<T> type, Map<String, String> fields, List<String> variables) {
+        RecordComponent[] components = type.getRecordComponents();
+        List<String> names = Arrays.stream(components).map(RecordComponent::getName).toList();
+        fields.keySet().stream()
+            .filter(field -> !names.contains(field))
+            .findFirst()
+            .ifPresent(field -> {
+                throw new IllegalStateException("Unknown field '" + field + "' for " + type.getSimpleName()
+                    + ", expected one of " + names);
+            });
+
+        SourceExpression[] sources = new SourceExpression[components.length];
+        List<Function<Object, Object>> converters = new ArrayList<>(components.length);
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            String expression = fields.get(components[i].getName());
+            sources[i] = expression != null ? SourceExpression.compile(expression, variables) : null;
+            converters.add(converter(type, components[i]));
+            parameterTypes[i] = components[i].getType();
+        }
+
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup()
+                .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No accessible canonical constructor on " + type.getName(), e);
+        }
+        return new RecordMapping<>(type, constructor, sources, List.copyOf(converters));
+    }
+
+    /**
+     * @throws IllegalArgumentException if a source value cannot be converted to its component type
+     */
+    public T apply(Map<String, Object> source, Object... variables) {
+        Object[] arguments = new Object[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            Object value = sources[i] != null ? sources[i].read(source, variables) : null;
+            try {
+                arguments[i] = converters.get(i).apply(value);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cannot map '" + sources[i] + "' value " + value + " into "
+                    + type.getSimpleName(), e);
+            }
+        }
+        try {
+            return type.cast((Object) constructor.invokeExact(arguments));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to construct " + type.getSimpleName(), e);
+        }
+    }
+
+    private static Function<Object, Object> converter(Class<?> recordType, RecordComponent component) {
+        Class<?> type = component.getType();
+        if (type == String.class) {
+            return value -> value != null ? value.toString() : null;
+        }
+        if (type == UUID.class) {
+            return value -> value == null || value instanceof UUID ? value : UUID.fromString(value.toString());
+        }
+        if (type == Integer.class || type == int.class) {
+            Object absent = type == int.class ? 0 : null;
+            return value -> value == null ? absent
+                : value instanceof Number number ? (Object) number.intValue() : (Object) Integer.parseInt(value.toString());
+        }
+        if (type == Long.class || type == long.class) {
+            Object absent = type == long.class ? 0L : null;
+            return value -> value == null ? absent
+                : value instanceof Number number ? (Object) number.longValue() : (Object) Long.parseLong(value.toString());
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            Object absent = type == boolean.class ? false : null;
+            return value -> value == null ? absent
+                : value instanceof Boolean ? value : (Object) Boolean.parseBoolean(value.toString());
+        }
+        if (type == Instant.class) {
+            return RecordMapping::toInstant;
+        }
+        if (type == Object.class || type == Map.class || type == List.class) {
+            return Function.identity();
+        }
+        throw new IllegalStateException("Unsupported type " + type.getSimpleName() + " of "
+            + recordType.getSimpleName() + "." + component.getName());
+    }
+
+    /**
+     * Accepts epoch milliseconds and the date formats Jackson writes for {@link Date}.
+     */
+    private static Object toInstant(Object value) {
+        if (value == null || value instanceof Instant) {
+            return value;
+        }
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        if (value instanceof Number number) {
+            return Instant.ofEpochMilli(number.longValue());
+        }
+        String text = value.toString();
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            try {
+                return new StdDateFormat().parse(text).toInstant();
+            } catch (ParseException invalid) {
+                throw new IllegalArgumentException("Not a timestamp: " + text, invalid);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of a declared field source.
+ *
+ * Syntax: one or more alternatives separated by {@code |}, tried left to right until one is
+ * non-null. An alternative is a dotted path into the external message ({@code move.from}),
+ * a variable supplied by the caller ({@code $playerId}), or, in last position, a literal
+ * default: a quoted string ({@code 'unknown'}) or an integer ({@code 0}).
+ */
+final class SourceExpression {
+
+    @FunctionalInterface
+    private interface Accessor {
+        Object read(Map<String, Object> source, Object[] variables);
+    }
+
+    private final String expression;
+    private final Accessor[] alternatives;
+    private final Object defaultValue;
+
+    private SourceExpression(String expression, Accessor[] alternatives, Object defaultValue) {
+        this.expression = expression;
+        this.alternatives = alternatives;
+        this.defaultValue = defaultValue;
+    }
+
+    static SourceExpression compile(String expression, List<String> variables) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalStateException("Empty mapping source expression");
+        }
+        String[] tokens = expression.split("\\|");
+        List<Accessor> alternatives = new ArrayList<>(tokens.length);
+        Object defaultValue = null;
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i].trim();
+            Object literal = literal(token);
+            if (literal != null) {
+                if (i != tokens.length - 1) {
+                    throw new IllegalStateException("Literal default must be the last alternative in '" + expression + "'");
+                }
+                defaultValue = literal;
+            } else if (token.startsWith("$")) {
+                int index = variables.indexOf(token.substring(1));
+                if (index < 0) {
+                    throw new IllegalStateException("Unknown variable " + token + " in '" + expression
+                        + "', expected one of " + variables);
+                }
+                alternatives.add((source, values) -> index < values.length ? values[index] : null);
+            } else {
+                alternatives.add(path(token, expression));
+            }
+        }
+        return new SourceExpression(expression, alternatives.toArray(Accessor[]::new), defaultValue);
+    }
+
+    Object read(Map<String, Object> source, Object[] variables) {
+        for (Accessor alternative : alternatives) {
+            Object value = alternative.read(source, variables);
+            if (value != null) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static Object literal(String token) {
+        if (token.length() >= 2 && token.startsWith("'") && token.endsWith("'")) {
+            return token.substring(1, token.length() - 1);
+        }
+        if (token.matches("-?\\d+")) {
+            long value = Long.parseLong(token);
+            return value == (int) value ? (Object) (int) value : (Object) value;
+        }
+        return null;
+    }
+
+    private static Accessor path(String token, String expression) {
+        if (token.isEmpty() || token.startsWith(".") || token.endsWith(".") || token.contains("..")) {
+            throw new IllegalStateException("Invalid path '" + token + "' in '" + expression + "'");
+        }
+        String[] segments = token.split("\\.");
+        if (segments.length == 1) {
+            String key = segments[0];
+            return (source, values) -> source.get(key);
+        }
+        return (source, values) -> {
+            Object current = source;
+            for (String segment : segments) {
+                if (!(current instanceof Map<?, ?> map)) {
+                    return null;
+                }
+                current = map.get(segment);
+            }
+            return current;
+        };
+    }
+}
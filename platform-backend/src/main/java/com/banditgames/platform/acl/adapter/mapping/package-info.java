@@ -0,0 +1,9 @@
+/**
+ * Declarative field mappings for external game messages.
+ *
+ * Mappings are declared in configuration and compiled once at startup into
+ * {@link com.banditgames.platform.acl.adapter.mapping.RecordMapping} and
+ * {@link com.banditgames.platform.acl.adapter.mapping.MapMapping}, so translating a
+ * message costs about as much as copying its fields.
+ */
+package com.banditgames.platform.acl.adapter.mapping;
@@ -1,5 +1,9 @@
 package com.banditgames.platform.acl.adapter.messaging;
 
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache;
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache.ExternalGameContext;
+import com.banditgames.platform.acl.adapter.client.ChessBackendClient;
+import com.banditgames.platform.acl.adapter.client.ChessBackendClient.ChessPlayers;
 import com.banditgames.platform.lobby.domain.Lobby;
 import com.banditgames.platform.lobby.domain.events.LobbyStartedEvent;
 import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
@@ -7,19 +11,16 @@ import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.service.ExternalGameInstanceService;
 import com.banditgames.platform.player.domain.Player;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import com.banditgames.platform.shared.events.GameStartFailedDomainEvent;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -27,6 +28,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Handles chess game creation and player preregistration for chess lobbies.
@@ -35,6 +43,15 @@ import java.util.UUID;
  * 1. When second player joins chess lobby: Preregister players via PUT /api/games/{gameId}
  * 2. When lobby starts: Use existing chess game, publish session start event
  * 3. Frontend receives event and redirects both players to same chess game
+ * 
+ * Both listeners hand off to a virtual thread once the lobby transaction has committed, so
+ * lobby joins and starts never wait on the chess backend, and the work runs in its own
+ * transactions rather than the already committed one. Work for one lobby runs in event order.
+ *
+ * If the chess game cannot be created (the backend fails, its circuit breaker is open, or the
+ * session start cannot be published), a {@link GameStartFailedDomainEvent} reopens the lobby.
+ * The hand-off itself is in memory only: a node stopping between the lobby commit and the
+ * chess backend call drops the start, and the players have to leave and recreate the lobby.
  */
 @Slf4j
 @Component
@@ -44,15 +61,20 @@ public class ChessGameLobbyHandler {
     private final LoadPlayerPort loadPlayerPort;
     private final LoadLobbyPort loadLobbyPort;
     private final ExternalGameInstanceService externalGameInstanceService;
-    private final RestTemplate restTemplate;
+    private final ChessBackendClient chessBackendClient;
+    private final ChessGameRegistrationPublisher chessGameRegistrationPublisher;
+    private final ExternalGameContextCache gameContextCache;
     private final RabbitTemplate rabbitTemplate;
+    private final PlatformEventPublisher eventPublisher;
+    
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, CompletableFuture<Void>> lobbyQueues = new ConcurrentHashMap<>();
+    
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
     
     // Chess game ID from game service (hardcoded for now)
     private static final UUID CHESS_GAME_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
     
-    @Value("${chess.game.service.url:http://localhost:8080}")
-    private String chessGameServiceUrl;
-    
     @Value("${chess.game.frontend.url:http://localhost:3333}")
     private String chessFrontendUrl;
     
@@ -63,19 +85,23 @@ public class ChessGameLobbyHandler {
      * Listens to PlayerJoinedLobbyEvent and preregisters players for chess games when lobby becomes full.
      * Only for chess games!
      */
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void onPlayerJoinedLobby(PlayerJoinedLobbyEvent event) {
+        runInLobbyOrder(event.lobbyId(), () -> preregisterPlayers(event));
+    }
+    
+    private CompletionStage<Void> preregisterPlayers(PlayerJoinedLobbyEvent event) {
         try {
             Lobby lobby = loadLobbyPort.findById(event.lobbyId())
                     .orElse(null);
             
             if (lobby == null || lobby.getGameId() == null) {
-                return; // Lobby not found or no game selected yet
+                return DONE; // Lobby not found or no game selected yet
             }
             
             // Only handle chess games
             if (!isChessGame(lobby.getGameId())) {
-                return;
+                return DONE;
             }
             
             // Check if lobby is now full (2 players for chess)
@@ -96,12 +122,10 @@ public class ChessGameLobbyHandler {
                 UUID chessGameId = UUID.randomUUID();
                 
                 // 1. Register chess game with platform
-                registerChessGame(chessGameId, event.lobbyId());
-                
-                // 2. Preregister players in chess backend using PUT
-                preregisterPlayersInChessBackend(chessGameId, player1, player2);
+                registerChessGame(chessGameId);
                 
-                // 3. Store external game instance mapping for frontend to retrieve
+                // 2. Store external game instance mapping first, so a start racing the
+                //    preregistration below reuses this game instead of creating another
                 externalGameInstanceService.storeExternalGameInstance(
                         event.lobbyId(), 
                         lobby.getGameId(), 
@@ -109,27 +133,41 @@ public class ChessGameLobbyHandler {
                         chessGameId
                 );
                 
-                log.info("Preregistered chess players - lobbyId={}, chessGameId={}, players=[{}, {}]",
-                        event.lobbyId(), chessGameId, player1.getUsername(), player2.getUsername());
+                // 3. Preregister players in chess backend using PUT
+                return chessBackendClient.preregisterPlayers(chessGameId, chessPlayers(player1, player2))
+                        .whenComplete((ignored, error) -> {
+                            if (error != null) {
+                                log.error("Failed to preregister chess players in backend - lobbyId={}, chessGameId={}",
+                                        event.lobbyId(), chessGameId, error);
+                            } else {
+                                log.info("Preregistered chess players - lobbyId={}, chessGameId={}, players=[{}, {}]",
+                                        event.lobbyId(), chessGameId, player1.getUsername(), player2.getUsername());
+                            }
+                        });
             }
             
         } catch (Exception e) {
             log.error("Failed to preregister chess players - lobbyId={}", event.lobbyId(), e);
             // Don't throw - allow player to join even if preregistration fails
         }
+        return DONE;
     }
     
     /**
      * Listens to LobbyStartedEvent and handles chess game session creation if applicable.
      * Uses the preregistered chess game if it exists.
      */
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void onLobbyStarted(LobbyStartedEvent event) {
         // Check if this is a chess game
         if (!isChessGame(event.gameId())) {
             log.debug("Lobby started for non-chess game: gameId={}, skipping chess handler", event.gameId());
             return;
         }
+        runInLobbyOrder(event.lobbyId(), () -> startChessGame(event));
+    }
+    
+    private CompletionStage<Void> startChessGame(LobbyStartedEvent event) {
         
         log.info("Chess lobby started - lobbyId={}, gameId={}, players={}", 
                 event.lobbyId(), event.gameId(), event.playerIds());
@@ -138,7 +176,8 @@ public class ChessGameLobbyHandler {
             // Validate we have exactly 2 players for chess
             if (event.playerIds().size() != 2) {
                 log.warn("Chess game requires exactly 2 players, but lobby has {} players", event.playerIds().size());
-                return;
+                startFailed(event, "chess needs exactly 2 players");
+                return DONE;
             }
             
             UUID player1Id = event.playerIds().get(0);
@@ -158,7 +197,7 @@ public class ChessGameLobbyHandler {
                 chessGameId = UUID.randomUUID();
                 
                 // 1. Register chess game with platform
-                registerChessGame(chessGameId, event.lobbyId());
+                registerChessGame(chessGameId);
                 
                 // 2. Store external game instance mapping
                 externalGameInstanceService.storeExternalGameInstance(
@@ -172,23 +211,83 @@ public class ChessGameLobbyHandler {
                         event.lobbyId(), chessGameId);
             }
             
+            // Seed the game context, so the chess service's events need no lookups
+            gameContextCache.put(new ExternalGameContext(
+                    chessGameId, event.lobbyId(), player1.getPlayerId(), player2.getPlayerId(), Instant.now(), null));
+            
             // Always create/activate the chess game in backend when lobby starts
             // This ensures the game has the correct player IDs and names
-            createChessGameInBackend(chessGameId, player1, player2);
-            
-            // 4. Publish game.session.start.requested event to create session in game-service
-            publishGameSessionStartRequested(chessGameId, event.lobbyId(), event.gameId(), player1, player2);
-            
-            log.info("Chess game session started - lobbyId={}, chessGameId={}, players=[{}, {}]",
-                    event.lobbyId(), chessGameId, player1.getUsername(), player2.getUsername());
+            UUID startedChessGameId = chessGameId;
+            CompletionStage<Void> created = chessBackendClient.createGame(startedChessGameId, chessPlayers(player1, player2));
+            
+            // 3. Publish game.session.start.requested event to create session in game-service
+            return created.handle((ignored, error) -> {
+                if (error != null) {
+                    log.error("Failed to create chess game in backend - lobbyId={}, chessGameId={}",
+                            event.lobbyId(), startedChessGameId, error);
+                    startFailed(event, "chess backend could not create the game");
+                    return null;
+                }
+                try {
+                    publishGameSessionStartRequested(startedChessGameId, event.lobbyId(), event.gameId(), player1, player2);
+                } catch (Exception e) {
+                    log.error("Failed to publish game.session.start.requested event - chessGameId={}", startedChessGameId, e);
+                    startFailed(event, "game session start could not be published");
+                    return null;
+                }
+                log.info("Chess game session started - lobbyId={}, chessGameId={}, players=[{}, {}]",
+                        event.lobbyId(), startedChessGameId, player1.getUsername(), player2.getUsername());
+                return null;
+            });
             
         } catch (Exception e) {
             log.error("Failed to handle chess lobby start - lobbyId={}, gameId={}", 
                     event.lobbyId(), event.gameId(), e);
-            // Don't throw - allow lobby to start even if chess game creation fails
+            startFailed(event, "chess game could not be prepared");
+        }
+        return DONE;
+    }
+    
+    /**
+     * Reopens the lobby of a start that will never produce a game session.
+     */
+    private void startFailed(LobbyStartedEvent event, String reason) {
+        try {
+            eventPublisher.publish(new GameStartFailedDomainEvent(event.lobbyId(), reason));
+        } catch (Exception e) {
+            log.error("Failed to reopen lobby after chess start failure - lobbyId={}", event.lobbyId(), e);
         }
     }
     
+    /**
+     * Runs a lobby's chess work after the previous work for the same lobby, including its
+     * remote call, has finished. Keeps preregistration ahead of the start of the same game.
+     */
+    CompletableFuture<Void> runInLobbyOrder(UUID lobbyId, Supplier<CompletionStage<Void>> work) {
+        CompletableFuture<Void> next = lobbyQueues.compute(lobbyId, (id, previous) ->
+                (previous != null ? previous : DONE)
+                        .thenComposeAsync(ignored -> work.get(), executor)
+                        // Failures are logged by the work itself and must not stall the lobby's later work
+                        .exceptionally(error -> {
+                            if (error instanceof RejectedExecutionException
+                                    || error.getCause() instanceof RejectedExecutionException) {
+                                log.warn("Chess work for lobby {} was rejected, the handler is shutting down", id);
+                            }
+                            return null;
+                        }));
+        // Registered after compute returns: an already completed future runs the cleanup at once,
+        // which must not modify the map from inside its own compute
+        next.whenComplete((ignored, error) -> lobbyQueues.remove(lobbyId, next));
+        return next;
+    }
+    
+    /**
+     * The lobby's pending chess work, or a completed future if there is none.
+     */
+    CompletableFuture<Void> pendingWork(UUID lobbyId) {
+        return lobbyQueues.getOrDefault(lobbyId, DONE);
+    }
+    
     /**
      * Checks if the game ID corresponds to a chess game.
      */
@@ -200,150 +299,60 @@ public class ChessGameLobbyHandler {
     /**
      * Registers the chess game with the platform.
      */
-    private void registerChessGame(UUID chessGameId, UUID lobbyId) {
-        try {
-            String frontendUrl = chessFrontendUrl + "/game/" + chessGameId;
-            
-            // Call platform backend's chess registration endpoint
-            // This is an internal call, so we use the service URL directly
-            String registerUrl = "http://platform-backend:8081/api/external/chess/register/" + chessGameId;
-            
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("frontendUrl", frontendUrl);
-            requestBody.put("pictureUrl", "https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcSYigKOHenUTuER6t1jBye1G_D1q8IuOauFSQ&s");
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    registerUrl,
-                    HttpMethod.POST,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            
-            log.info("Registered chess game with platform - chessGameId={}, response={}", 
-                    chessGameId, response.getStatusCode());
-            
-        } catch (Exception e) {
-            log.error("Failed to register chess game with platform - chessGameId={}", chessGameId, e);
-            throw e;
-        }
+    private void registerChessGame(UUID chessGameId) {
+        String frontendUrl = chessFrontendUrl + "/game/" + chessGameId;
+        chessGameRegistrationPublisher.register(
+                chessGameId,
+                frontendUrl,
+                "https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcSYigKOHenUTuER6t1jBye1G_D1q8IuOauFSQ&s"
+        );
     }
     
     /**
      * Publishes game.session.start.requested event to trigger session creation in game-service.
      */
     private void publishGameSessionStartRequested(UUID chessGameId, UUID lobbyId, UUID gameId, Player player1, Player player2) {
-        try {
-            Map<String, Object> gameServiceEvent = new HashMap<>();
-            gameServiceEvent.put("eventId", UUID.randomUUID().toString());
-            gameServiceEvent.put("timestamp", Instant.now().toString());
-            gameServiceEvent.put("session_id", chessGameId.toString());
-            gameServiceEvent.put("game_id", gameId.toString());
-            gameServiceEvent.put("game_type", "chess");
-            gameServiceEvent.put("lobby_id", lobbyId != null ? lobbyId.toString() : null);
-            List<String> playerIds = new ArrayList<>();
-            playerIds.add(player1.getPlayerId().toString());
-            playerIds.add(player2.getPlayerId().toString());
-            gameServiceEvent.put("player_ids", playerIds);
-            gameServiceEvent.put("starting_player_id", player1.getPlayerId().toString());
-            
-            Map<String, Object> gameConfiguration = new HashMap<>();
-            gameConfiguration.put("whitePlayer", player1.getUsername());
-            gameConfiguration.put("blackPlayer", player2.getUsername());
-            gameConfiguration.put("whitePlayerId", player1.getPlayerId().toString());
-            gameConfiguration.put("blackPlayerId", player2.getPlayerId().toString());
-            gameConfiguration.put("initialFen", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
-            gameConfiguration.put("status", "ACTIVE");
-            gameConfiguration.put("externalGameId", chessGameId.toString()); // Store external chess game ID
-            gameServiceEvent.put("configuration", gameConfiguration);
-            gameServiceEvent.put("type", "GAME_SESSION_START_REQUESTED");
-            
-            rabbitTemplate.convertAndSend(
-                    gameEventsExchange,
-                    "game.session.start.requested",
-                    gameServiceEvent
-            );
-            
-            log.info("Published game.session.start.requested event - chessGameId={}, lobbyId={}, players=[{}, {}]",
-                    chessGameId, lobbyId, player1.getUsername(), player2.getUsername());
-            
-        } catch (Exception e) {
-            log.error("Failed to publish game.session.start.requested event - chessGameId={}", chessGameId, e);
-            // Don't throw - game creation should still succeed
-        }
+        Map<String, Object> gameServiceEvent = new HashMap<>();
+        gameServiceEvent.put("eventId", GameEventsPublisher.eventId(
+                "chess", "game.session.start.requested", chessGameId).toString());
+        gameServiceEvent.put("timestamp", Instant.now().toString());
+        gameServiceEvent.put("session_id", chessGameId.toString());
+        gameServiceEvent.put("game_id", gameId.toString());
+        gameServiceEvent.put("game_type", "chess");
+        gameServiceEvent.put("lobby_id", lobbyId != null ? lobbyId.toString() : null);
+        List<String> playerIds = new ArrayList<>();
+        playerIds.add(player1.getPlayerId().toString());
+        playerIds.add(player2.getPlayerId().toString());
+        gameServiceEvent.put("player_ids", playerIds);
+        gameServiceEvent.put("starting_player_id", player1.getPlayerId().toString());
+        
+        Map<String, Object> gameConfiguration = new HashMap<>();
+        gameConfiguration.put("whitePlayer", player1.getUsername());
+        gameConfiguration.put("blackPlayer", player2.getUsername());
+        gameConfiguration.put("whitePlayerId", player1.getPlayerId().toString());
+        gameConfiguration.put("blackPlayerId", player2.getPlayerId().toString());
+        gameConfiguration.put("initialFen", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        gameConfiguration.put("status", "ACTIVE");
+        gameConfiguration.put("externalGameId", chessGameId.toString()); // Store external chess game ID
+        gameServiceEvent.put("configuration", gameConfiguration);
+        gameServiceEvent.put("type", "GAME_SESSION_START_REQUESTED");
+        
+        rabbitTemplate.convertAndSend(
+                gameEventsExchange,
+                "game.session.start.requested",
+                gameServiceEvent
+        );
+        
+        log.info("Published game.session.start.requested event - chessGameId={}, lobbyId={}, players=[{}, {}]",
+                chessGameId, lobbyId, player1.getUsername(), player2.getUsername());
     }
     
-    /**
-     * Preregisters players in chess backend using PUT /api/games/{gameId}.
-     * Called when lobby becomes full (2 players) but before game starts.
-     */
-    private void preregisterPlayersInChessBackend(UUID chessGameId, Player player1, Player player2) {
-        try {
-            String preregisterUrl = chessGameServiceUrl + "/api/games/" + chessGameId;
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("whitePlayerId", player1.getPlayerId().toString());
-            requestBody.put("whitePlayerName", player1.getUsername());
-            requestBody.put("blackPlayerId", player2.getPlayerId().toString());
-            requestBody.put("blackPlayerName", player2.getUsername());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    preregisterUrl,
-                    HttpMethod.PUT,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            
-            log.info("Preregistered chess players in backend - chessGameId={}, response={}", 
-                    chessGameId, response.getStatusCode());
-            
-        } catch (Exception e) {
-            log.error("Failed to preregister chess players in backend - chessGameId={}", chessGameId, e);
-            throw e;
-        }
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
     }
     
-    /**
-     * Creates/activates the chess game in the chess backend with both players.
-     * Always called when lobby starts to ensure the game has the correct player IDs and names.
-     * Sends POST /api/games/{gameId} with player information.
-     */
-    private void createChessGameInBackend(UUID chessGameId, Player player1, Player player2) {
-        try {
-            String createGameUrl = chessGameServiceUrl + "/api/games/" + chessGameId;
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("whitePlayerId", player1.getPlayerId().toString());
-            requestBody.put("whitePlayerName", player1.getUsername());
-            requestBody.put("blackPlayerId", player2.getPlayerId().toString());
-            requestBody.put("blackPlayerName", player2.getUsername());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    createGameUrl,
-                    HttpMethod.POST,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-            
-            log.info("Created chess game in backend - chessGameId={}, response={}", 
-                    chessGameId, response.getStatusCode());
-            
-        } catch (Exception e) {
-            log.error("Failed to create chess game in backend - chessGameId={}", chessGameId, e);
-            throw e;
-        }
+    private ChessPlayers chessPlayers(Player white, Player black) {
+        return new ChessPlayers(white.getPlayerId(), white.getUsername(), black.getPlayerId(), black.getUsername());
     }
-    
 }
-
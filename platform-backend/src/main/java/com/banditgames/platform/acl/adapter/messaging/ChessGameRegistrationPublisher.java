@@ -0,0 +1,75 @@
+package com.banditgames.platform.acl.adapter.messaging;
+
+import com.banditgames.platform.acl.adapter.messaging.chess.ChessGameRegisteredMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registers a chess game with the platform by publishing a GameRegisteredMessage.
+ *
+ * Shared by the external registration endpoint and the lobby handler, so chess lobbies
+ * register in-process instead of calling this service back over HTTP.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChessGameRegistrationPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${chess.game.exchange.name:gameExchange}")
+    private String chessExchangeName;
+
+    /**
+     * Publishes the registration of a chess game.
+     *
+     * @param gameId      The chess game ID
+     * @param frontendUrl URL the chess frontend serves the game on
+     * @param pictureUrl  Picture shown for the game
+     * @return The registration ID
+     */
+    public UUID register(UUID gameId, String frontendUrl, String pictureUrl) {
+        UUID registrationId = UUID.randomUUID();
+
+        ChessGameRegisteredMessage message = new ChessGameRegisteredMessage();
+        message.setRegistrationId(registrationId);
+        message.setFrontendUrl(frontendUrl);
+        message.setPictureUrl(pictureUrl);
+        message.setMessageType("GAME_REGISTERED");
+        message.setTimestamp(new Date());
+
+        // Define available chess achievements
+        List<ChessGameRegisteredMessage.ChessAchievement> achievements = new ArrayList<>();
+        achievements.add(createAchievement("FIRST_BLOOD", "Capture your opponent's first piece"));
+        achievements.add(createAchievement("PAWN_POWER", "Promoted a pawn"));
+        achievements.add(createAchievement("SPEEDY_VICTORY", "Win in under 20 moves"));
+        achievements.add(createAchievement("SPEED_DEMON", "Make a move in under 5 seconds"));
+        achievements.add(createAchievement("WINNER_WINNER_CHICKEN_DINNER", "Winner winner chicken dinner"));
+        achievements.add(createAchievement("CASTLE_TIME", "Castle kingside or queenside"));
+        achievements.add(createAchievement("ROOKIE_MOVE", "Move your rook for the first time"));
+        achievements.add(createAchievement("PAWN_STORM", "Make 3 pawn moves in a row"));
+        message.setAvailableAchievements(achievements);
+
+        // Publish to RabbitMQ with routing key "game.registered"
+        rabbitTemplate.convertAndSend(chessExchangeName, "game.registered", message);
+
+        log.info("ACL: Published chess game registered event - gameId={}, registrationId={}, exchange={}, routingKey=game.registered",
+                gameId, registrationId, chessExchangeName);
+        return registrationId;
+    }
+
+    private ChessGameRegisteredMessage.ChessAchievement createAchievement(String code, String description) {
+        ChessGameRegisteredMessage.ChessAchievement achievement = new ChessGameRegisteredMessage.ChessAchievement();
+        achievement.setCode(code);
+        achievement.setDescription(description);
+        return achievement;
+    }
+}
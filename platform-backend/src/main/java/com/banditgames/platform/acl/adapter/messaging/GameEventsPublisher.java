@@ -0,0 +1,129 @@
+package com.banditgames.platform.acl.adapter.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.BatchingRabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes typed ACL payloads to the platform game_events exchange.
+ *
+ * Payloads are serialized with one cached {@link ObjectWriter} per type and sent as ready-made
+ * messages, skipping the message converter's per-call type introspection. The type id header is
+ * kept as the generic map type, so listeners that bind these events to a {@code Map} still do.
+ *
+ * Move events may optionally go through a {@link BatchingRabbitTemplate}, which packs many moves
+ * into one broker message. Spring listeners split such batches transparently; other consumers
+ * must understand the Spring AMQP batch format, so batching is off by default.
+ */
+@Slf4j
+@Component
+public class GameEventsPublisher implements DisposableBean {
+
+    private static final String PAYLOAD_TYPE_ID = "java.util.HashMap";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final String exchange;
+    private final BatchingRabbitTemplate moveTemplate;
+    private final ThreadPoolTaskScheduler batchScheduler;
+
+    public GameEventsPublisher(
+            RabbitTemplate rabbitTemplate,
+            ObjectMapper objectMapper,
+            ConnectionFactory connectionFactory,
+            @Value("${game.events.exchange.name:game_events}") String exchange,
+            @Value("${game.events.move-batching.enabled:false}") boolean moveBatchingEnabled,
+            @Value("${game.events.move-batching.batch-size:50}") int moveBatchSize,
+            @Value("${game.events.move-batching.buffer-limit-bytes:65536}") int moveBufferLimit,
+            @Value("${game.events.move-batching.linger-ms:20}") long moveLingerMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+
+        if (moveBatchingEnabled) {
+            this.batchScheduler = new ThreadPoolTaskScheduler();
+            this.batchScheduler.setPoolSize(1);
+            this.batchScheduler.setThreadNamePrefix("acl-move-batch-");
+            this.batchScheduler.initialize();
+            this.moveTemplate = new BatchingRabbitTemplate(connectionFactory,
+                    new SimpleBatchingStrategy(moveBatchSize, moveBufferLimit, moveLingerMillis), batchScheduler);
+            log.info("ACL: Batching move events - batchSize={}, lingerMs={}", moveBatchSize, moveLingerMillis);
+        } else {
+            this.batchScheduler = null;
+            this.moveTemplate = null;
+        }
+    }
+
+    /**
+     * Stable (name-based) event id derived from the values that identify the event.
+     * An event republished for a redelivered source message keeps its id, so consumers
+     * can recognize and drop the duplicate.
+     */
+    public static UUID eventId(Object... parts) {
+        StringBuilder name = new StringBuilder();
+        for (Object part : parts) {
+            if (!name.isEmpty()) {
+                name.append('|');
+            }
+            name.append(part);
+        }
+        return UUID.nameUUIDFromBytes(name.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void publish(String routingKey, Object payload) {
+        rabbitTemplate.send(exchange, routingKey, toMessage(payload));
+    }
+
+    /**
+     * Publishes a move event, batched when move batching is enabled.
+     */
+    public void publishMove(String routingKey, Object payload) {
+        if (moveTemplate != null) {
+            moveTemplate.send(exchange, routingKey, toMessage(payload));
+        } else {
+            publish(routingKey, payload);
+        }
+    }
+
+    private Message toMessage(Object payload) {
+        byte[] body;
+        try {
+            body = writers.computeIfAbsent(payload.getClass(), objectMapper::writerFor).writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + payload.getClass().getSimpleName(), e);
+        }
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setContentLength(body.length);
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, PAYLOAD_TYPE_ID);
+        return new Message(body, properties);
+    }
+
+    @Override
+    public void destroy() {
+        if (moveTemplate != null) {
+            moveTemplate.flush();
+            moveTemplate.destroy();
+            batchScheduler.shutdown();
+        }
+    }
+}
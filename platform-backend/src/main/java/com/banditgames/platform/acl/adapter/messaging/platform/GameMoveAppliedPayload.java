@@ -0,0 +1,58 @@
+package com.banditgames.platform.acl.adapter.messaging.platform;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * game.move.applied event for a move made in an external game.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameMoveAppliedPayload(
+    UUID eventId,
+    Instant timestamp,
+    UUID gameId,
+    UUID sessionId,
+    String gameType,
+    UUID playerId,
+    Move move,
+    String type,
+    GameState newGameState,
+    String gameStatus
+) {
+
+    public static final String TYPE = "GAME_MOVE_APPLIED";
+
+    public static GameMoveAppliedPayload ongoing(UUID eventId, Instant timestamp, UUID gameId, String gameType,
+                                                 UUID playerId, Move move, GameState newGameState) {
+        return new GameMoveAppliedPayload(eventId, timestamp, gameId, gameId, gameType, playerId, move, TYPE,
+            newGameState, "ongoing");
+    }
+
+    /**
+     * The move as reported by the external game; text fields are never null.
+     */
+    public record Move(
+        String fromSquare,
+        String toSquare,
+        String sanNotation,
+        String fenAfterMove,
+        String player,
+        String playerName,
+        String playerId,
+        int moveNumber
+    ) {
+    }
+
+    /**
+     * Board state after the move.
+     */
+    public record GameState(
+        String fen,
+        @JsonProperty("move_number") int moveNumber,
+        @JsonProperty("current_player") String currentPlayer
+    ) {
+    }
+}
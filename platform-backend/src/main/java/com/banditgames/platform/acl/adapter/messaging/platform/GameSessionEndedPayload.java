@@ -0,0 +1,29 @@
+package com.banditgames.platform.acl.adapter.messaging.platform;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * game.session.ended event for a game finished in an external game service.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameSessionEndedPayload(
+    UUID eventId,
+    Instant timestamp,
+    UUID gameId,
+    UUID sessionId,
+    String gameType,
+    UUID lobbyId,
+    Instant startedAt,
+    Long durationSeconds,
+    String winnerId,
+    String gameResult,
+    Map<String, Object> finalGameState,
+    String type
+) {
+
+    public static final String TYPE = "GAME_SESSION_ENDED";
+}
@@ -0,0 +1,28 @@
+package com.banditgames.platform.acl.adapter.messaging.platform;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * game.session.started event for a game created in an external game service.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameSessionStartedPayload(
+    UUID eventId,
+    Instant timestamp,
+    UUID gameId,
+    UUID sessionId,
+    String gameType,
+    @JsonInclude(JsonInclude.Include.ALWAYS) UUID lobbyId,
+    List<String> playerIds,
+    String startingPlayerId,
+    Map<String, Object> gameConfiguration,
+    String type
+) {
+
+    public static final String TYPE = "GAME_SESSION_STARTED";
+}
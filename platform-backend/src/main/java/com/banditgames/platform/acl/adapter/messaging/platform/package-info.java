@@ -0,0 +1,7 @@
+/**
+ * Platform game event payloads for ACL adapter.
+ * 
+ * These records represent the platform's game_events message format.
+ * Field names match the maps the ACL published before, so consumers are unaffected.
+ */
+package com.banditgames.platform.acl.adapter.messaging.platform;
@@ -1,18 +1,13 @@
 package com.banditgames.platform.acl.adapter.web;
 
-import com.banditgames.platform.acl.adapter.messaging.chess.ChessGameRegisteredMessage;
+import com.banditgames.platform.acl.adapter.messaging.ChessGameRegistrationPublisher;
 import com.banditgames.platform.acl.adapter.web.dto.ChessGameRegistrationRequest;
 import com.banditgames.platform.acl.adapter.web.dto.ChessGameRegistrationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -37,10 +32,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChessGameController {
 
-    private final RabbitTemplate rabbitTemplate;
-
-    @Value("${chess.game.exchange.name:gameExchange}")
-    private String chessExchangeName;
+    private final ChessGameRegistrationPublisher chessGameRegistrationPublisher;
 
     /**
      * Register a chess game with the platform.
@@ -64,38 +56,8 @@ public class ChessGameController {
                 gameId, request.getFrontendUrl());
         
         try {
-            // Generate registration ID
-            UUID registrationId = UUID.randomUUID();
-            
-            // Create the RabbitMQ message
-            ChessGameRegisteredMessage message = new ChessGameRegisteredMessage();
-            message.setRegistrationId(registrationId);
-            message.setFrontendUrl(request.getFrontendUrl());
-            message.setPictureUrl(request.getPictureUrl());
-            message.setMessageType("GAME_REGISTERED");
-            message.setTimestamp(new Date());
-            
-            // Define available chess achievements
-            List<ChessGameRegisteredMessage.ChessAchievement> achievements = new ArrayList<>();
-            achievements.add(createAchievement("FIRST_BLOOD", "Capture your opponent's first piece"));
-            achievements.add(createAchievement("PAWN_POWER", "Promoted a pawn"));
-            achievements.add(createAchievement("SPEEDY_VICTORY", "Win in under 20 moves"));
-            achievements.add(createAchievement("SPEED_DEMON", "Make a move in under 5 seconds"));
-            achievements.add(createAchievement("WINNER_WINNER_CHICKEN_DINNER", "Winner winner chicken dinner"));
-            achievements.add(createAchievement("CASTLE_TIME", "Castle kingside or queenside"));
-            achievements.add(createAchievement("ROOKIE_MOVE", "Move your rook for the first time"));
-            achievements.add(createAchievement("PAWN_STORM", "Make 3 pawn moves in a row"));
-            message.setAvailableAchievements(achievements);
-            
-            // Publish to RabbitMQ with routing key "game.registered"
-            rabbitTemplate.convertAndSend(
-                    chessExchangeName,
-                    "game.registered",
-                    message
-            );
-            
-            log.info("ACL: Published chess game registered event - gameId={}, registrationId={}, exchange={}, routingKey=game.registered", 
-                    gameId, registrationId, chessExchangeName);
+            UUID registrationId = chessGameRegistrationPublisher.register(
+                    gameId, request.getFrontendUrl(), request.getPictureUrl());
             
             // Create response
             var response = new ChessGameRegistrationResponse(
@@ -121,16 +83,6 @@ public class ChessGameController {
                     ));
         }
     }
-    
-    /**
-     * Helper method to create a chess achievement.
-     */
-    private ChessGameRegisteredMessage.ChessAchievement createAchievement(String code, String description) {
-        ChessGameRegisteredMessage.ChessAchievement achievement = new ChessGameRegisteredMessage.ChessAchievement();
-        achievement.setCode(code);
-        achievement.setDescription(description);
-        return achievement;
-    }
 
     /**
      * Get chess game information.
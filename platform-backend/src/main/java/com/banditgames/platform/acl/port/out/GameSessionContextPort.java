@@ -0,0 +1,21 @@
+package com.banditgames.platform.acl.port.out;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for accessing running game session information through ACL.
+ * Lets consuming contexts read session facts tracked by the Lobby context
+ * without depending on its domain model.
+ */
+public interface GameSessionContextPort {
+
+    /**
+     * Looks up when a game session started.
+     *
+     * @param sessionId The game-service session ID
+     * @return The session start, or empty if the session is not tracked
+     */
+    Optional<Instant> findSessionStart(UUID sessionId);
+}
@@ -0,0 +1,272 @@
+package com.banditgames.platform.admin.adapter.messaging;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+import com.banditgames.platform.admin.port.out.DeadLetterQueuePort;
+import com.banditgames.platform.shared.messaging.ListenerFailureRouter;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Reads and replays the dead letter queue with basic.get on a single channel.
+ *
+ * Messages are fetched without acknowledging them; those that are not replayed are
+ * nacked with requeue at the end, which puts them back at their original position.
+ *
+ * A replayed message is published straight to the queue it failed on (through the default
+ * exchange), so only the listener that failed sees it again rather than every queue bound
+ * to game_events. Messages without that header fall back to game_events and their original
+ * routing key. Retry and failure headers are removed, giving the message a fresh retry budget.
+ *
+ * A replayed message that fails again lands back at the tail of the queue while the job is
+ * still scanning. Its {@value #REPLAYED_AT_HEADER} stamp is then at or after the job's start,
+ * so it is left in place rather than replayed a second time by the same job.
+ */
+@Slf4j
+@Component
+public class RabbitDeadLetterQueueAdapter implements DeadLetterQueuePort {
+
+    static final String REPLAY_COUNT_HEADER = "x-replay-count";
+    static final String REPLAYED_AT_HEADER = "x-replayed-at";
+
+    private static final int MAX_PAYLOAD_CHARS = 8_000;
+    private static final List<String> FAILURE_HEADERS = List.of(
+            ListenerFailureRouter.ATTEMPT_HEADER,
+            ListenerFailureRouter.DELAY_HEADER,
+            ListenerFailureRouter.LISTENER_HEADER,
+            ListenerFailureRouter.FAILURE_REASON_HEADER,
+            ListenerFailureRouter.DEAD_LETTER_ID_HEADER,
+            ListenerFailureRouter.DEAD_LETTERED_AT_HEADER,
+            RepublishMessageRecoverer.X_EXCEPTION_MESSAGE,
+            RepublishMessageRecoverer.X_EXCEPTION_STACKTRACE,
+            "x-death"
+    );
+
+    // Large enough for the stack trace header to be decoded to a String
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter(16_384);
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${game.events.dead-letter.queue:game_events_dlq}")
+    private String dlqName = "game_events_dlq";
+
+    @Value("${game.events.exchange.name:game_events}")
+    private String gameEventsExchange = "game_events";
+
+    @Value("${messaging.retry.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis = 5_000;
+
+    public RabbitDeadLetterQueueAdapter(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Override
+    public List<DeadLetter> peek(int max) {
+        return rabbitTemplate.execute(channel -> {
+            List<DeadLetter> letters = new ArrayList<>();
+            long lastTag = -1;
+            try {
+                while (letters.size() < max) {
+                    GetResponse response = channel.basicGet(dlqName, false);
+                    if (response == null) {
+                        break;
+                    }
+                    lastTag = response.getEnvelope().getDeliveryTag();
+                    letters.add(decode(toMessage(response)));
+                }
+            } finally {
+                requeue(channel, lastTag);
+            }
+            return letters;
+        });
+    }
+
+    @Override
+    public void replay(int maxScan, int maxReplayed, Predicate<DeadLetter> selector, Consumer<DeadLetter> onReplayed) {
+        long startedAt = System.currentTimeMillis();
+        rabbitTemplate.execute(channel -> {
+            // Highest tag still unacknowledged; nacking an acked tag would make the broker close the channel
+            long lastUnackedTag = -1;
+            int scanned = 0;
+            int replayed = 0;
+            try {
+                while (scanned < maxScan && replayed < maxReplayed) {
+                    GetResponse response = channel.basicGet(dlqName, false);
+                    if (response == null) {
+                        break;
+                    }
+                    scanned++;
+                    long tag = response.getEnvelope().getDeliveryTag();
+                    long unackedBefore = lastUnackedTag;
+                    lastUnackedTag = tag;
+                    Message message = toMessage(response);
+                    if (replayedSince(message, startedAt)) {
+                        continue;
+                    }
+                    DeadLetter letter = decode(message);
+                    if (selector.test(letter)) {
+                        republish(message, letter);
+                        channel.basicAck(tag, false);
+                        lastUnackedTag = unackedBefore;
+                        replayed++;
+                        onReplayed.accept(letter);
+                    }
+                }
+            } finally {
+                requeue(channel, lastUnackedTag);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns every message still unacknowledged on the channel to the queue.
+     *
+     * @param lastTag highest delivery tag that has not been acknowledged, or -1 if there is none
+     */
+    private void requeue(Channel channel, long lastTag) throws IOException {
+        if (lastTag >= 0) {
+            channel.basicNack(lastTag, true, true);
+        }
+    }
+
+    private static boolean replayedSince(Message message, long startedAt) {
+        return message.getMessageProperties().getHeaders().get(REPLAYED_AT_HEADER) instanceof Number replayedAt
+                && replayedAt.longValue() >= startedAt;
+    }
+
+    private void republish(Message message, DeadLetter letter) {
+        MessageProperties properties = message.getMessageProperties();
+        Map<String, Object> headers = properties.getHeaders();
+        FAILURE_HEADERS.forEach(headers::remove);
+        Object replays = headers.get(REPLAY_COUNT_HEADER);
+        headers.put(REPLAY_COUNT_HEADER, (replays instanceof Number number ? number.intValue() : 0) + 1);
+        headers.put(REPLAYED_AT_HEADER, System.currentTimeMillis());
+
+        String exchange = letter.getOriginalQueue() != null ? "" : gameEventsExchange;
+        String routingKey = letter.getOriginalQueue() != null ? letter.getOriginalQueue() : letter.getOriginalRoutingKey();
+        if (routingKey == null) {
+            throw new IllegalStateException("Dead letter " + letter.getId() + " has no original queue or routing key");
+        }
+
+        CorrelationData correlation = new CorrelationData();
+        rabbitTemplate.send(exchange, routingKey, message, correlation);
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck() || correlation.getReturned() != null) {
+                throw new AmqpException("Replay of dead letter " + letter.getId() + " to " + routingKey + " was not accepted: "
+                        + (correlation.getReturned() != null ? correlation.getReturned().getReplyText() : confirm.getReason()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while replaying dead letter " + letter.getId(), e);
+        } catch (AmqpException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AmqpException("No confirm for replay of dead letter " + letter.getId(), e);
+        }
+        log.debug("Replayed dead letter {} to {}", letter.getId(), routingKey);
+    }
+
+    private Message toMessage(GetResponse response) {
+        MessageProperties properties = propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+        return new Message(response.getBody(), properties);
+    }
+
+    private DeadLetter decode(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Map<String, Object> headers = properties.getHeaders();
+        Map<String, Object> death = firstDeath(headers);
+
+        String id = string(headers.get(ListenerFailureRouter.DEAD_LETTER_ID_HEADER));
+        if (id == null) {
+            id = properties.getMessageId() != null
+                    ? properties.getMessageId()
+                    : UUID.nameUUIDFromBytes(message.getBody()).toString();
+        }
+
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        return DeadLetter.builder()
+                .id(id)
+                .originalExchange(firstNonNull(
+                        string(headers.get(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE)),
+                        string(death.get("exchange")),
+                        properties.getReceivedExchange()))
+                .originalRoutingKey(firstNonNull(
+                        string(headers.get(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY)),
+                        death.get("routing-keys") instanceof List<?> keys && !keys.isEmpty() ? string(keys.get(0)) : null,
+                        properties.getReceivedRoutingKey()))
+                .originalQueue(firstNonNull(
+                        string(headers.get(ListenerFailureRouter.ORIGINAL_QUEUE_HEADER)),
+                        string(death.get("queue"))))
+                .listenerId(string(headers.get(ListenerFailureRouter.LISTENER_HEADER)))
+                .failureReason(firstNonNull(
+                        string(headers.get(ListenerFailureRouter.FAILURE_REASON_HEADER)),
+                        string(death.get("reason"))))
+                .exceptionMessage(string(headers.get(RepublishMessageRecoverer.X_EXCEPTION_MESSAGE)))
+                .retries(headers.get(ListenerFailureRouter.ATTEMPT_HEADER) instanceof Number n ? n.intValue() : 0)
+                .deadLetteredAt(deadLetteredAt(headers, death, properties))
+                .contentType(properties.getContentType())
+                .headers(new LinkedHashMap<>(headers))
+                .payload(payload.length() > MAX_PAYLOAD_CHARS ? payload.substring(0, MAX_PAYLOAD_CHARS) : payload)
+                .build();
+    }
+
+    /**
+     * Stamped by the failure router; the broker's own dead-lettering records it in x-death.
+     */
+    private static Instant deadLetteredAt(Map<String, Object> headers, Map<String, Object> death,
+                                          MessageProperties properties) {
+        if (headers.get(ListenerFailureRouter.DEAD_LETTERED_AT_HEADER) instanceof Number millis) {
+            return Instant.ofEpochMilli(millis.longValue());
+        }
+        if (death.get("time") instanceof Date time) {
+            return time.toInstant();
+        }
+        return properties.getTimestamp() != null ? properties.getTimestamp().toInstant() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> firstDeath(Map<String, Object> headers) {
+        if (headers.get("x-death") instanceof List<?> deaths && !deaths.isEmpty() && deaths.get(0) instanceof Map<?, ?> death) {
+            return (Map<String, Object>) death;
+        }
+        return Map.of();
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.banditgames.platform.admin.adapter.web;
+
+import com.banditgames.platform.admin.adapter.web.dto.DeadLetterResponse;
+import com.banditgames.platform.admin.adapter.web.dto.ReplayDeadLettersRequest;
+import com.banditgames.platform.admin.adapter.web.dto.ReplayJobResponse;
+import com.banditgames.platform.admin.domain.DeadLetterFilter;
+import com.banditgames.platform.admin.domain.ReplayJob;
+import com.banditgames.platform.admin.domain.ReplaySelection;
+import com.banditgames.platform.admin.port.in.InspectDeadLettersUseCase;
+import com.banditgames.platform.admin.port.in.ReplayDeadLettersUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Dead Letters", description = "Admin API for inspecting and replaying messages that failed processing")
+@SecurityRequirement(name = "bearerAuth")
+public class DeadLetterAdminController {
+
+    private final InspectDeadLettersUseCase inspectDeadLettersUseCase;
+    private final ReplayDeadLettersUseCase replayDeadLettersUseCase;
+
+    @Operation(
+            summary = "List dead letters",
+            description = "Pages through the dead letter queue, oldest first, with decoded headers and failure reasons. " +
+                    "Messages stay in the queue. Only the head of the queue is read, up to the configured scan limit."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dead letters retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - admin role required")
+    })
+    @GetMapping
+    public ResponseEntity<Page<DeadLetterResponse>> getDeadLetters(
+            @Parameter(description = "Only messages originally published with this routing key", example = "game.session.ended")
+            @RequestParam(required = false) String routingKey,
+            @Parameter(description = "Only messages dead-lettered at or after this time (ISO-8601)", example = "2024-01-15T10:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Only messages dead-lettered before this time (ISO-8601)", example = "2024-01-15T11:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<DeadLetterResponse> letters = inspectDeadLettersUseCase
+                .getDeadLetters(new DeadLetterFilter(routingKey, from, to), pageable)
+                .map(DeadLetterResponse::fromDomain);
+        return ResponseEntity.ok(letters);
+    }
+
+    @Operation(
+            summary = "Replay dead letters",
+            description = "Starts replaying the selected dead letters to the queues they failed on. The replay runs in the " +
+                    "background and is rate limited; only one replay runs at a time."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Replay started",
+                    content = @Content(schema = @Schema(implementation = ReplayJobResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid request, or a replay is already running"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - admin role required")
+    })
+    @PostMapping("/replays")
+    public ResponseEntity<ReplayJobResponse> replayDeadLetters(@Valid @RequestBody ReplayDeadLettersRequest request) {
+        ReplayJob job = replayDeadLettersUseCase.startReplay(new ReplaySelection(
+                request.getIds(),
+                new DeadLetterFilter(request.getRoutingKey(), request.getFrom(), request.getTo()),
+                request.getMaxMessages() != null ? request.getMaxMessages() : 0
+        ));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ReplayJobResponse.fromDomain(job));
+    }
+
+    @Operation(summary = "Get replay progress", description = "Returns the progress of a recently started replay.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Replay found",
+                    content = @Content(schema = @Schema(implementation = ReplayJobResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "No such replay on this instance")
+    })
+    @GetMapping("/replays/{replayId}")
+    public ResponseEntity<ReplayJobResponse> getReplay(@PathVariable UUID replayId) {
+        return replayDeadLettersUseCase.getReplay(replayId)
+                .map(ReplayJobResponse::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.banditgames.platform.admin.adapter.web.dto;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A message in the dead letter queue")
+public class DeadLetterResponse {
+
+    @Schema(description = "Identifier to select the message for replay", example = "3f1c2b8e-9a43-4a53-9b2f-5a1d7c2b8e10")
+    private String id;
+
+    @Schema(description = "Exchange the message was originally published to", example = "game_events")
+    private String originalExchange;
+
+    @Schema(description = "Routing key the message was originally published with", example = "game.session.ended")
+    private String originalRoutingKey;
+
+    @Schema(description = "Queue the message failed on", example = "game_events.achievements.session_ended")
+    private String originalQueue;
+
+    @Schema(description = "Listener that failed to process the message", example = "achievements-session-ended")
+    private String listenerId;
+
+    @Schema(description = "Why the message was dead-lettered", example = "exhausted")
+    private String failureReason;
+
+    @Schema(description = "Exception that made the listener fail")
+    private String exceptionMessage;
+
+    @Schema(description = "Number of delayed retries before the message was dead-lettered", example = "3")
+    private int retries;
+
+    @Schema(description = "When the message was dead-lettered", example = "2024-01-15T10:30:00Z")
+    private Instant deadLetteredAt;
+
+    @Schema(description = "Content type of the payload", example = "application/json")
+    private String contentType;
+
+    @Schema(description = "All message headers")
+    private Map<String, Object> headers;
+
+    @Schema(description = "Message body, truncated for very large messages")
+    private String payload;
+
+    public static DeadLetterResponse fromDomain(DeadLetter letter) {
+        return DeadLetterResponse.builder()
+                .id(letter.getId())
+                .originalExchange(letter.getOriginalExchange())
+                .originalRoutingKey(letter.getOriginalRoutingKey())
+                .originalQueue(letter.getOriginalQueue())
+                .listenerId(letter.getListenerId())
+                .failureReason(letter.getFailureReason())
+                .exceptionMessage(letter.getExceptionMessage())
+                .retries(letter.getRetries())
+                .deadLetteredAt(letter.getDeadLetteredAt())
+                .contentType(letter.getContentType())
+                .headers(letter.getHeaders())
+                .payload(letter.getPayload())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.banditgames.platform.admin.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects dead letters to replay. Unset criteria match every message.")
+public class ReplayDeadLettersRequest {
+
+    @Schema(description = "Ids of the dead letters to replay, as returned by the listing")
+    private Set<String> ids;
+
+    @Schema(description = "Only replay messages originally published with this routing key", example = "game.session.ended")
+    private String routingKey;
+
+    @Schema(description = "Only replay messages dead-lettered at or after this time", example = "2024-01-15T10:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Only replay messages dead-lettered before this time", example = "2024-01-15T11:00:00Z")
+    private Instant to;
+
+    @Positive(message = "maxMessages must be positive")
+    @Schema(description = "Maximum number of messages to replay, capped by the server", example = "100")
+    private Integer maxMessages;
+}
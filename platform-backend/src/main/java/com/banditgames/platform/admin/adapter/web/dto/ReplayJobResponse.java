@@ -0,0 +1,57 @@
+package com.banditgames.platform.admin.adapter.web.dto;
+
+import com.banditgames.platform.admin.domain.ReplayJob;
+import com.banditgames.platform.admin.domain.ReplayStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a dead letter replay")
+public class ReplayJobResponse {
+
+    @Schema(description = "Replay identifier", example = "9b2f1c44-2f0e-4a53-9a43-5a1d7c2b8e10")
+    private UUID replayId;
+
+    @Schema(description = "Replay status", example = "RUNNING")
+    private ReplayStatus status;
+
+    @Schema(description = "Maximum number of messages this replay will replay", example = "100")
+    private int maxMessages;
+
+    @Schema(description = "Dead letters looked at so far", example = "240")
+    private int scanned;
+
+    @Schema(description = "Dead letters replayed so far", example = "60")
+    private int replayed;
+
+    @Schema(description = "Failure reason when status is FAILED")
+    private String error;
+
+    @Schema(description = "When the replay started", example = "2024-01-15T10:30:00Z")
+    private Instant startedAt;
+
+    @Schema(description = "When the replay finished", example = "2024-01-15T10:30:05Z")
+    private Instant finishedAt;
+
+    public static ReplayJobResponse fromDomain(ReplayJob job) {
+        return ReplayJobResponse.builder()
+                .replayId(job.getId())
+                .status(job.getStatus())
+                .maxMessages(job.getMaxMessages())
+                .scanned(job.getScanned())
+                .replayed(job.getReplayed())
+                .error(job.getError())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.banditgames.platform.admin.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A message in the dead letter queue, with its failure headers decoded.
+ *
+ * {@code id} identifies the message across reads of the queue: the dead letter id stamped
+ * when the message was dead-lettered, else its message id, else a hash of its body.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DeadLetter {
+    private String id;
+    private String originalExchange;
+    private String originalRoutingKey;
+    private String originalQueue;
+    private String listenerId;
+    private String failureReason;
+    private String exceptionMessage;
+    private int retries;
+    private Instant deadLetteredAt;
+    private String contentType;
+    private Map<String, Object> headers;
+    private String payload;
+}
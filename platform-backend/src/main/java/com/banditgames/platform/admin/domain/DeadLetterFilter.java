@@ -0,0 +1,28 @@
+package com.banditgames.platform.admin.domain;
+
+import java.time.Instant;
+
+/**
+ * Narrows dead letters down by original routing key and by when they were dead-lettered.
+ * Unset criteria match everything.
+ *
+ * @param from inclusive
+ * @param to   exclusive
+ */
+public record DeadLetterFilter(String routingKey, Instant from, Instant to) {
+
+    public static DeadLetterFilter all() {
+        return new DeadLetterFilter(null, null, null);
+    }
+
+    public boolean matches(DeadLetter letter) {
+        if (routingKey != null && !routingKey.isBlank() && !routingKey.equals(letter.getOriginalRoutingKey())) {
+            return false;
+        }
+        Instant at = letter.getDeadLetteredAt();
+        if (from != null && (at == null || at.isBefore(from))) {
+            return false;
+        }
+        return to == null || (at != null && at.isBefore(to));
+    }
+}
@@ -0,0 +1,57 @@
+package com.banditgames.platform.admin.domain;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tracks one replay of dead letters.
+ *
+ * Updated by the replaying thread and read by status requests, hence the volatile fields.
+ */
+@Getter
+public class ReplayJob {
+    private final UUID id;
+    private final int maxMessages;
+    private final Instant startedAt;
+
+    private volatile ReplayStatus status = ReplayStatus.RUNNING;
+    private volatile int scanned;
+    private volatile int replayed;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    public ReplayJob(UUID id, int maxMessages, Instant startedAt) {
+        this.id = id;
+        this.maxMessages = maxMessages;
+        this.startedAt = startedAt;
+    }
+
+    public static ReplayJob start(int maxMessages) {
+        return new ReplayJob(UUID.randomUUID(), maxMessages, Instant.now());
+    }
+
+    public void recordScanned() {
+        scanned++;
+    }
+
+    public void recordReplayed() {
+        replayed++;
+    }
+
+    public void complete() {
+        this.finishedAt = Instant.now();
+        this.status = ReplayStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = ReplayStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status != ReplayStatus.RUNNING;
+    }
+}
@@ -0,0 +1,20 @@
+package com.banditgames.platform.admin.domain;
+
+import java.util.Set;
+
+/**
+ * Dead letters to replay: those matching the filter and, if ids are given, only those ids.
+ *
+ * @param maxMessages upper bound of messages to replay; 0 for the configured maximum
+ */
+public record ReplaySelection(Set<String> ids, DeadLetterFilter filter, int maxMessages) {
+
+    public ReplaySelection {
+        ids = ids != null ? Set.copyOf(ids) : Set.of();
+        filter = filter != null ? filter : DeadLetterFilter.all();
+    }
+
+    public boolean matches(DeadLetter letter) {
+        return (ids.isEmpty() || ids.contains(letter.getId())) && filter.matches(letter);
+    }
+}
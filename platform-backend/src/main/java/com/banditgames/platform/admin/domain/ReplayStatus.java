@@ -0,0 +1,7 @@
+package com.banditgames.platform.admin.domain;
+
+public enum ReplayStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
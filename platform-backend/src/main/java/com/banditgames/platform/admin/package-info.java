@@ -0,0 +1,13 @@
+/**
+ * Admin Bounded Context
+ *
+ * Operational tooling for platform administrators, such as inspecting and replaying
+ * messages that ended up in the dead letter queue.
+ *
+ * Dependencies:
+ * - shared: Messaging infrastructure and distributed leases
+ */
+@org.springframework.modulith.ApplicationModule(
+        allowedDependencies = {"shared"}
+)
+package com.banditgames.platform.admin;
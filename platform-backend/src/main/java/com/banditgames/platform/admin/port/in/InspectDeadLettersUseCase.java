@@ -0,0 +1,14 @@
+package com.banditgames.platform.admin.port.in;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+import com.banditgames.platform.admin.domain.DeadLetterFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface InspectDeadLettersUseCase {
+    /**
+     * Pages through the dead letters matching the filter, oldest first, without removing them.
+     * Only the head of the queue is read, up to the configured scan limit.
+     */
+    Page<DeadLetter> getDeadLetters(DeadLetterFilter filter, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.banditgames.platform.admin.port.in;
+
+import com.banditgames.platform.admin.domain.ReplayJob;
+import com.banditgames.platform.admin.domain.ReplaySelection;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReplayDeadLettersUseCase {
+    /**
+     * Starts replaying the selected dead letters in the background, rate limited.
+     *
+     * @return the job tracking the replay
+     * @throws IllegalStateException if a replay is already running
+     */
+    ReplayJob startReplay(ReplaySelection selection);
+
+    Optional<ReplayJob> getReplay(UUID replayId);
+}
@@ -0,0 +1,22 @@
+package com.banditgames.platform.admin.port.out;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public interface DeadLetterQueuePort {
+    /**
+     * Reads up to {@code max} dead letters from the head of the queue, leaving them in place.
+     */
+    List<DeadLetter> peek(int max);
+
+    /**
+     * Walks up to {@code maxScan} dead letters from the head of the queue. Each letter the
+     * selector accepts is republished to where it failed and removed from the queue; all
+     * others stay where they are. Stops early once {@code maxReplayed} letters were replayed.
+     * Letters this call already replayed that failed again are skipped without reaching the selector.
+     */
+    void replay(int maxScan, int maxReplayed, Predicate<DeadLetter> selector, Consumer<DeadLetter> onReplayed);
+}
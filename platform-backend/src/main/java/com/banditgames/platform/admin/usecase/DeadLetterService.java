@@ -0,0 +1,164 @@
+package com.banditgames.platform.admin.usecase;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+import com.banditgames.platform.admin.domain.DeadLetterFilter;
+import com.banditgames.platform.admin.domain.ReplayJob;
+import com.banditgames.platform.admin.domain.ReplaySelection;
+import com.banditgames.platform.admin.port.in.InspectDeadLettersUseCase;
+import com.banditgames.platform.admin.port.in.ReplayDeadLettersUseCase;
+import com.banditgames.platform.admin.port.out.DeadLetterQueuePort;
+import com.banditgames.platform.shared.concurrency.TokenBucket;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Inspects the dead letter queue and replays selected dead letters.
+ *
+ * Replays run in the background, one at a time across all instances (guarded by the
+ * {@value #LEASE_NAME} lease), and pass every message through a token bucket, so a large
+ * replay trickles into consumers that may still be recovering instead of flooding them.
+ */
+@Slf4j
+@Service
+public class DeadLetterService implements InspectDeadLettersUseCase, ReplayDeadLettersUseCase {
+
+    static final String LEASE_NAME = "dead-letter-replay";
+    private static final int RETAINED_JOBS = 20;
+
+    private final DeadLetterQueuePort deadLetterQueuePort;
+    private final DistributedLease distributedLease;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final Map<UUID, ReplayJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, ReplayJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    });
+    private volatile ReplayJob runningJob;
+
+    @Value("${admin.dead-letters.max-scan:1000}")
+    private int maxScan = 1000;
+
+    @Value("${admin.dead-letters.replay.max-messages:500}")
+    private int maxReplayMessages = 500;
+
+    @Value("${admin.dead-letters.replay.permits-per-second:20}")
+    private double permitsPerSecond = 20;
+
+    @Value("${admin.dead-letters.replay.burst:20}")
+    private int burst = 20;
+
+    @Value("${admin.dead-letters.replay.lease-ttl-seconds:600}")
+    private long leaseTtlSeconds = 600;
+
+    @Autowired
+    public DeadLetterService(DeadLetterQueuePort deadLetterQueuePort, DistributedLease distributedLease,
+                             MeterRegistry meterRegistry) {
+        this(deadLetterQueuePort, distributedLease, meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    DeadLetterService(DeadLetterQueuePort deadLetterQueuePort, DistributedLease distributedLease,
+                      MeterRegistry meterRegistry, Executor executor) {
+        this.deadLetterQueuePort = deadLetterQueuePort;
+        this.distributedLease = distributedLease;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    @Override
+    public Page<DeadLetter> getDeadLetters(DeadLetterFilter filter, Pageable pageable) {
+        List<DeadLetter> matching = deadLetterQueuePort.peek(maxScan).stream()
+                .filter(filter::matches)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + pageable.getPageSize(), matching.size());
+        return new PageImpl<>(matching.subList(from, to), pageable, matching.size());
+    }
+
+    @Override
+    public synchronized ReplayJob startReplay(ReplaySelection selection) {
+        if (runningJob != null && !runningJob.isFinished()) {
+            throw new IllegalStateException("A dead letter replay is already running: " + runningJob.getId());
+        }
+        if (!distributedLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseTtlSeconds))) {
+            throw new IllegalStateException("A dead letter replay is already running on another instance");
+        }
+
+        int maxMessages = selection.maxMessages() > 0
+                ? Math.min(selection.maxMessages(), maxReplayMessages)
+                : maxReplayMessages;
+        ReplayJob job = ReplayJob.start(maxMessages);
+        jobs.put(job.getId(), job);
+        runningJob = job;
+        log.info("Starting dead letter replay {} - ids={}, filter={}, maxMessages={}",
+                job.getId(), selection.ids().size(), selection.filter(), maxMessages);
+        try {
+            executor.execute(() -> runReplay(job, selection));
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            distributedLease.release(LEASE_NAME);
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public Optional<ReplayJob> getReplay(UUID replayId) {
+        return Optional.ofNullable(jobs.get(replayId));
+    }
+
+    void runReplay(ReplayJob job, ReplaySelection selection) {
+        TokenBucket bucket = new TokenBucket(permitsPerSecond, burst);
+        try {
+            deadLetterQueuePort.replay(maxScan, job.getMaxMessages(),
+                    letter -> {
+                        job.recordScanned();
+                        if (!selection.matches(letter)) {
+                            return false;
+                        }
+                        awaitPermit(bucket);
+                        return true;
+                    },
+                    letter -> {
+                        job.recordReplayed();
+                        meterRegistry.counter("admin.dead-letters.replayed",
+                                "routingKey", String.valueOf(letter.getOriginalRoutingKey())).increment();
+                    });
+            job.complete();
+            log.info("Dead letter replay {} completed - scanned={}, replayed={}",
+                    job.getId(), job.getScanned(), job.getReplayed());
+        } catch (Exception e) {
+            log.error("Dead letter replay {} failed after replaying {} messages", job.getId(), job.getReplayed(), e);
+            job.fail(e.getMessage());
+        } finally {
+            distributedLease.release(LEASE_NAME);
+        }
+    }
+
+    private static void awaitPermit(TokenBucket bucket) {
+        try {
+            bucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to replay", e);
+        }
+    }
+}
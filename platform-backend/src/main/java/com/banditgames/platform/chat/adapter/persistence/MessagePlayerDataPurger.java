@@ -0,0 +1,27 @@
+package com.banditgames.platform.chat.adapter.persistence;
+
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Deletes messages sent or received by a deleted player.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessagePlayerDataPurger implements PlayerDataPurger {
+
+    private final MessageRepository messageRepository;
+
+    @Override
+    public String name() {
+        return "chat-messages";
+    }
+
+    @Override
+    public int purgeChunk(UUID playerId, int limit) {
+        return messageRepository.deleteChunkByParticipant(playerId.toString(), limit);
+    }
+}
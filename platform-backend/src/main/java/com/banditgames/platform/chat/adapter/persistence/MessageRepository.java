@@ -4,7 +4,10 @@ import com.banditgames.platform.chat.domain.MessageStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,4 +30,16 @@ public interface MessageRepository extends JpaRepository<MessageEntity, UUID> {
     List<MessageEntity> findDistinctBySenderId(String senderId);
     
     List<MessageEntity> findDistinctByReceiverId(String receiverId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM messages
+        WHERE id IN (
+            SELECT id FROM messages
+            WHERE sender_id = :playerId OR receiver_id = :playerId
+            LIMIT :limit
+        )
+    """, nativeQuery = true)
+    int deleteChunkByParticipant(String playerId, int limit);
 }
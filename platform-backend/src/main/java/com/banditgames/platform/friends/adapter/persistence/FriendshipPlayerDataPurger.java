@@ -0,0 +1,27 @@
+package com.banditgames.platform.friends.adapter.persistence;
+
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Deletes friendships and friend requests on either side of a deleted player.
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendshipPlayerDataPurger implements PlayerDataPurger {
+
+    private final FriendshipRepository friendshipRepository;
+
+    @Override
+    public String name() {
+        return "friendships";
+    }
+
+    @Override
+    public int purgeChunk(UUID playerId, int limit) {
+        return friendshipRepository.deleteChunkByParticipant(playerId, limit);
+    }
+}
@@ -4,8 +4,10 @@ import com.banditgames.platform.friends.domain.FriendshipStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,4 +42,16 @@ public interface FriendshipRepository extends JpaRepository<FriendshipEntity, UU
     Optional<FriendshipEntity> findByRequesterIdAndAddresseeId(UUID requesterId, UUID addresseeId);
 
     boolean existsByRequesterIdAndAddresseeId(UUID requesterId, UUID addresseeId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM friendships
+        WHERE id IN (
+            SELECT id FROM friendships
+            WHERE requester_id = :playerId OR addressee_id = :playerId
+            LIMIT :limit
+        )
+    """, nativeQuery = true)
+    int deleteChunkByParticipant(UUID playerId, int limit);
 }
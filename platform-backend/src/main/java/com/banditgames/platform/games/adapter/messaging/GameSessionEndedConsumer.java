@@ -1,21 +1,28 @@
 package com.banditgames.platform.games.adapter.messaging;
 
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
+import com.banditgames.platform.lobby.port.out.GameSessionRegistryPort;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.shared.events.GameEndedDomainEvent;
 import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import com.banditgames.platform.shared.idempotency.ProcessedEvents;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Consumes game session ended events from RabbitMQ and publishes GameEndedDomainEvent.
  * 
  * Architecture: Game Service publishes events, Platform Backend consumes them.
- * Game-service doesn't know about lobbies, so we query by sessionId to find the lobby.
+ * Game-service doesn't know about lobbies, so the lobby is resolved from the session registry,
+ * falling back to a query by sessionId for sessions the registry does not know.
  * 
  * Flow:
  * 1. Game Service publishes: game.session.ended to topic exchange
@@ -23,6 +30,11 @@ import java.util.UUID;
  * 3. Fanout broadcasts to all bound queues (lobby, achievements, etc.)
  * 4. This consumer receives from lobby queue and publishes GameEndedDomainEvent
  * 5. GameEventListener handles the event and clears sessionId from lobby
+ * 
+ * A redelivered event is skipped, so the domain event is published once per session end.
+ * The event is claimed first and the domain event published after the claim committed,
+ * outside any transaction, so its listeners run exactly as for a direct publish: a rolled back
+ * claim never leaves queued experience or lobby changes behind for the redelivery to repeat.
  */
 @Slf4j
 @Component
@@ -31,6 +43,8 @@ public class GameSessionEndedConsumer {
 
     private final PlatformEventPublisher eventPublisher;
     private final LoadLobbyPort loadLobbyPort;
+    private final GameSessionRegistryPort gameSessionRegistryPort;
+    private final ProcessedEvents processedEvents;
     
     /**
      * Consumes game session ended events and publishes GameEndedDomainEvent.
@@ -39,7 +53,7 @@ public class GameSessionEndedConsumer {
      * 
      * @param event The game session ended event from game-service
      */
-    @RabbitListener(queues = "${game.events.queues.session-ended-lobby}")
+    @RabbitListener(id = "games-session-ended", queues = "${game.events.queues.session-ended-lobby}")
     public void onGameSessionEnded(Map<String, Object> event) {
         try {
             String sessionIdStr = (String) event.get("session_id");
@@ -59,15 +73,16 @@ public class GameSessionEndedConsumer {
                 return;
             }
             
-            // Query lobby by sessionId (game-service doesn't know about lobbies)
-            var lobbyOpt = loadLobbyPort.findBySessionId(sessionId);
-            if (lobbyOpt.isEmpty()) {
+            Optional<ActiveGameSession> session = gameSessionRegistryPort.find(sessionId)
+                    .or(() -> loadLobbyPort.findBySessionId(sessionId)
+                            .map(lobby -> new ActiveGameSession(
+                                    sessionId, lobby.getId(), List.copyOf(lobby.getPlayerIds()), null, null)));
+            if (session.isEmpty()) {
                 log.warn("No lobby found for sessionId: {} - this might be an AI game or session without lobby", sessionIdStr);
                 return;
             }
             
-            var lobby = lobbyOpt.get();
-            UUID lobbyId = lobby.getId();
+            UUID lobbyId = session.get().lobbyId();
             
             UUID winnerId = null;
             if (winnerIdStr != null && !winnerIdStr.isEmpty()) {
@@ -82,14 +97,21 @@ public class GameSessionEndedConsumer {
                     lobbyId, sessionIdStr, status, winnerId);
             
             // Publish GameEndedDomainEvent to trigger lobby cleanup
-            GameEndedDomainEvent domainEvent = new GameEndedDomainEvent(lobbyId, winnerId);
+            GameEndedDomainEvent domainEvent = new GameEndedDomainEvent(
+                    lobbyId, winnerId, session.get().playerIds());
+            boolean processed = processedEvents.runOnce("games-session-ended", ProcessedEvents.eventIdOf(event),
+                    () -> gameSessionRegistryPort.markEnded(sessionId, Instant.now()));
+            if (!processed) {
+                log.debug("Skipped duplicate game.session.ended event - sessionId={}", sessionId);
+                return;
+            }
             eventPublisher.publish(domainEvent);
             
             log.info("Published GameEndedDomainEvent for lobby: {}, winner: {}", lobbyId, winnerId);
             
         } catch (Exception e) {
             log.error("Error processing game session ended event: {}", event, e);
-            // Don't throw - event processing failures shouldn't break the system
+            throw e;
         }
     }
 }
@@ -1,9 +1,9 @@
 package com.banditgames.platform.games.adapter.messaging;
 
+import com.banditgames.platform.games.adapter.outbox.GameSessionOutbox;
 import com.banditgames.platform.lobby.domain.events.LobbyStartedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -13,14 +13,14 @@ import java.util.Map;
 import java.util.UUID;
 
 /**
- * Publishes game session start requests to RabbitMQ when a lobby is started.
+ * Queues game session start requests for the game service when a lobby is started.
  * 
  * Architecture: Platform Backend publishes events, Game Service consumes them.
  * No direct REST calls between services.
  * 
  * Flow:
- * 1. LobbyStartedEvent (Spring event) → This publisher
- * 2. Publishes to RabbitMQ: game.session.start.requested
+ * 1. LobbyStartedEvent (Spring event) → This publisher, inside the lobby start transaction
+ * 2. Writes game.session.start.requested to the outbox; GameSessionOutboxRelay publishes it after commit
  * 3. Game Service consumes event and creates session
  * 4. Game Service publishes: game.session.started
  * 5. Platform Backend consumes event and updates lobby
@@ -30,7 +30,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GameSessionRequestPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final GameSessionOutbox gameSessionOutbox;
     
     @Value("${game.events.exchange.name:game_events}")
     private String gameEventsExchange;
@@ -39,61 +39,51 @@ public class GameSessionRequestPublisher {
     private String sessionStartRequestedRoutingKey;
     
     /**
-     * Listens to LobbyStartedEvent and publishes game session start request to RabbitMQ.
+     * Listens to LobbyStartedEvent and writes the game session start request to the outbox.
+     * Runs in the lobby start transaction, so a failure here rolls the start back and a
+     * rolled back start never produces a request.
      * 
      * @param event The lobby started event
      */
     @EventListener
     public void onLobbyStarted(LobbyStartedEvent event) {
-        log.info("Publishing game session start request - lobbyId={}, gameId={}, players={}", 
+        log.info("Queueing game session start request - lobbyId={}, gameId={}, players={}", 
                 event.lobbyId(), event.gameId(), event.playerIds());
         
-        try {
-            // Determine game type from gameId
-            String gameType = determineGameType(event.gameId());
-            
-            // Skip chess games - they are handled by ChessGameLobbyHandler
-            if ("chess".equals(gameType)) {
-                log.info("Skipping game session request for chess game - handled by ChessGameLobbyHandler");
-                return;
-            }
-            
-            // Generate session ID
-            UUID sessionId = UUID.randomUUID();
-            
-            // Get game configuration based on game type
-            Map<String, Object> configuration = getGameConfiguration(event.gameId(), gameType);
-            
-            // Build event message
-            Map<String, Object> message = new HashMap<>();
-            message.put("lobby_id", event.lobbyId().toString());
-            message.put("session_id", sessionId.toString());
-            message.put("game_type", gameType);
-            message.put("game_id", event.gameId().toString());
-            message.put("player_ids", event.playerIds().stream()
-                    .map(UUID::toString)
-                    .toList());
-            message.put("starting_player_id", event.playerIds().isEmpty() 
-                    ? null 
-                    : event.playerIds().get(0).toString());
-            message.put("configuration", configuration);
-            message.put("timestamp", java.time.Instant.now().toString());
-            
-            // Publish to RabbitMQ
-            rabbitTemplate.convertAndSend(
-                    gameEventsExchange,
-                    sessionStartRequestedRoutingKey,
-                    message
-            );
-            
-            log.info("Published game session start request - sessionId={}, gameType={}, routingKey={}", 
-                    sessionId, gameType, sessionStartRequestedRoutingKey);
-            
-        } catch (Exception e) {
-            log.error("Failed to publish game session start request - lobbyId={}, gameId={}", 
-                    event.lobbyId(), event.gameId(), e);
-            // Don't throw - event publishing failures shouldn't break lobby start
+        // Determine game type from gameId
+        String gameType = determineGameType(event.gameId());
+        
+        // Skip chess games - they are handled by ChessGameLobbyHandler
+        if ("chess".equals(gameType)) {
+            log.info("Skipping game session request for chess game - handled by ChessGameLobbyHandler");
+            return;
         }
+        
+        // Generate session ID
+        UUID sessionId = UUID.randomUUID();
+        
+        // Get game configuration based on game type
+        Map<String, Object> configuration = getGameConfiguration(event.gameId(), gameType);
+        
+        // Build event message
+        Map<String, Object> message = new HashMap<>();
+        message.put("lobby_id", event.lobbyId().toString());
+        message.put("session_id", sessionId.toString());
+        message.put("game_type", gameType);
+        message.put("game_id", event.gameId().toString());
+        message.put("player_ids", event.playerIds().stream()
+                .map(UUID::toString)
+                .toList());
+        message.put("starting_player_id", event.playerIds().isEmpty() 
+                ? null 
+                : event.playerIds().get(0).toString());
+        message.put("configuration", configuration);
+        message.put("timestamp", java.time.Instant.now().toString());
+        
+        gameSessionOutbox.enqueue(event.lobbyId(), gameEventsExchange, sessionStartRequestedRoutingKey, message);
+        
+        log.info("Queued game session start request - sessionId={}, gameType={}, routingKey={}", 
+                sessionId, gameType, sessionStartRequestedRoutingKey);
     }
     
     // Chess game ID from game service
@@ -1,14 +1,19 @@
 package com.banditgames.platform.games.adapter.messaging;
 
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.port.out.GameSessionRegistryPort;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
+import com.banditgames.platform.shared.idempotency.ProcessedEvents;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,7 +27,9 @@ import java.util.UUID;
  * 1. Game Service publishes: game.session.started
  * 2. This consumer updates lobby with session_id
  * 3. Updates lobby status to ACTIVE
- * 4. (Optional) Publishes WebSocket event to frontend
+ * 4. Registers the session so later session events resolve the lobby from memory
+ * 
+ * A redelivered event is skipped.
  */
 @Slf4j
 @Component
@@ -31,6 +38,8 @@ public class GameSessionStartedConsumer {
 
     private final LoadLobbyPort loadLobbyPort;
     private final SaveLobbyPort saveLobbyPort;
+    private final GameSessionRegistryPort gameSessionRegistryPort;
+    private final ProcessedEvents processedEvents;
     
     @Value("${game.events.queues.session-started:game.session.started}")
     private String sessionStartedQueue;
@@ -40,7 +49,7 @@ public class GameSessionStartedConsumer {
      * 
      * @param event The game session started event
      */
-    @RabbitListener(queues = "${game.events.queues.session-started}")
+    @RabbitListener(id = "games-session-started", queues = "${game.events.queues.session-started}")
     public void onGameSessionStarted(Map<String, Object> event) {
         log.info("GameSessionStartedConsumer: Received game.session.started event: {}", event);
         try {
@@ -76,29 +85,36 @@ public class GameSessionStartedConsumer {
             log.info("Processing game session started - lobbyId={}, sessionId={}, gameType={}, status={}", 
                     lobbyId, sessionId, gameType, status);
             
-            // Load lobby
-            Lobby lobby = loadLobbyPort.findById(lobbyId)
-                    .orElseThrow(() -> new RuntimeException("Lobby not found: " + lobbyId));
-            
-            // Update lobby with session ID and set status to IN_PROGRESS
-            // Note: Lobby is in STARTED status when lobby.start() is called
-            // When session actually starts, we transition to IN_PROGRESS to indicate game is active
-            lobby.setSessionId(sessionId);
-            // Set status to IN_PROGRESS to indicate the game session is now active
-            if (lobby.getStatus() == com.banditgames.platform.lobby.domain.LobbyStatus.STARTED) {
-                lobby.setStatus(com.banditgames.platform.lobby.domain.LobbyStatus.IN_PROGRESS);
+            boolean processed = processedEvents.runOnce("games-session-started", ProcessedEvents.eventIdOf(event), () -> {
+                // Load lobby
+                Lobby lobby = loadLobbyPort.findById(lobbyId)
+                        .orElseThrow(() -> new RuntimeException("Lobby not found: " + lobbyId));
+                
+                // Update lobby with session ID and set status to IN_PROGRESS
+                // Note: Lobby is in STARTED status when lobby.start() is called
+                // When session actually starts, we transition to IN_PROGRESS to indicate game is active
+                lobby.setSessionId(sessionId);
+                // Set status to IN_PROGRESS to indicate the game session is now active
+                if (lobby.getStatus() == com.banditgames.platform.lobby.domain.LobbyStatus.STARTED) {
+                    lobby.setStatus(com.banditgames.platform.lobby.domain.LobbyStatus.IN_PROGRESS);
+                }
+                
+                // Save the updated lobby
+                saveLobbyPort.save(lobby);
+                gameSessionRegistryPort.register(new ActiveGameSession(
+                        sessionId, lobbyId, List.copyOf(lobby.getPlayerIds()), Instant.now(), null));
+            });
+            if (!processed) {
+                log.debug("Skipped duplicate game.session.started event - sessionId={}", sessionId);
+                return;
             }
             
-            // Save the updated lobby
-            saveLobbyPort.save(lobby);
-            
             log.info("Game session started for lobby - lobbyId={}, sessionId={}, gameType={}, status={}", 
                     lobbyId, sessionId, gameType, status);
             
         } catch (Exception e) {
             log.error("Error processing game session started event: {}", event, e);
-            // Don't throw - event processing failures shouldn't break the system
-            // Consider publishing to DLQ for retry
+            throw e;
         }
     }
 }
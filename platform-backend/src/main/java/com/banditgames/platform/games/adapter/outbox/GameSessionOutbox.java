@@ -0,0 +1,137 @@
+package com.banditgames.platform.games.adapter.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code game_session_outbox} table.
+ *
+ * {@link #enqueue} joins the caller's transaction, so a message exists exactly when the
+ * lobby change that produced it was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSessionOutbox {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO game_session_outbox (lobby_id, exchange, routing_key, payload)
+        VALUES (:lobbyId, :exchange, :routingKey, :payload)
+        """;
+
+    // Only the oldest pending row of each lobby is eligible, so a lobby's messages never overtake each other
+    private static final String FIND_DUE_SQL = """
+        SELECT id, lobby_id, exchange, routing_key, payload, attempts
+        FROM (
+            SELECT DISTINCT ON (lobby_id) id, lobby_id, exchange, routing_key, payload, attempts, next_attempt_at
+            FROM game_session_outbox
+            WHERE published_at IS NULL AND failed_at IS NULL
+            ORDER BY lobby_id, id
+        ) head
+        WHERE next_attempt_at <= now()
+        ORDER BY id
+        LIMIT :limit
+        """;
+
+    private static final String MARK_PUBLISHED_SQL =
+        "UPDATE game_session_outbox SET published_at = now(), last_error = NULL WHERE id IN (:ids)";
+
+    private static final String MARK_RETRY_SQL = """
+        UPDATE game_session_outbox
+        SET attempts = attempts + 1, last_error = :error,
+            next_attempt_at = now() + make_interval(secs => :delaySeconds)
+        WHERE id = :id
+        """;
+
+    private static final String MARK_FAILED_SQL = """
+        UPDATE game_session_outbox
+        SET attempts = attempts + 1, last_error = :error, failed_at = now()
+        WHERE id = :id
+        """;
+
+    private static final String PURGE_PUBLISHED_SQL = """
+        DELETE FROM game_session_outbox
+        WHERE id IN (
+            SELECT id FROM game_session_outbox
+            WHERE published_at < now() - make_interval(secs => :retentionSeconds)
+            LIMIT :limit
+        )
+        """;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong("id"),
+        rs.getObject("lobby_id", UUID.class),
+        rs.getString("exchange"),
+        rs.getString("routing_key"),
+        rs.getString("payload"),
+        rs.getInt("attempts")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void enqueue(UUID lobbyId, String exchange, String routingKey, Map<String, Object> message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox message is not serializable", e);
+        }
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+            .addValue("lobbyId", lobbyId)
+            .addValue("exchange", exchange)
+            .addValue("routingKey", routingKey)
+            .addValue("payload", payload));
+    }
+
+    public List<OutboxMessage> findDue(int limit) {
+        return jdbcTemplate.query(FIND_DUE_SQL, new MapSqlParameterSource("limit", limit), ROW_MAPPER);
+    }
+
+    public void markPublished(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(MARK_PUBLISHED_SQL, new MapSqlParameterSource("ids", ids));
+        }
+    }
+
+    public void markRetry(long id, String error, Duration delay) {
+        jdbcTemplate.update(MARK_RETRY_SQL, new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("error", truncate(error))
+            .addValue("delaySeconds", delay.toMillis() / 1000.0));
+    }
+
+    public void markFailed(long id, String error) {
+        jdbcTemplate.update(MARK_FAILED_SQL, new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("error", truncate(error)));
+    }
+
+    public int purgePublished(Duration retention, int limit) {
+        return jdbcTemplate.update(PURGE_PUBLISHED_SQL, new MapSqlParameterSource()
+            .addValue("retentionSeconds", (double) retention.toSeconds())
+            .addValue("limit", limit));
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> readPayload(OutboxMessage message) throws JsonProcessingException {
+        return objectMapper.readValue(message.payload(), Map.class);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
@@ -0,0 +1,188 @@
+package com.banditgames.platform.games.adapter.outbox;
+
+import com.banditgames.platform.shared.lease.DistributedLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays {@code game_session_outbox} rows to RabbitMQ.
+ *
+ * Only the instance holding the {@value #LEASE_NAME} lease relays, and the lease is renewed
+ * before every batch; a run stops as soon as renewal fails, so two nodes never relay the same
+ * rows. Each batch is sent on one channel without waiting in between, then all publisher
+ * confirms are awaited against a single deadline, so a slow or stalled broker costs at most one
+ * confirm timeout per batch rather than per message. Rows that are nacked,
+ * returned as unroutable or not confirmed in time are retried with exponential backoff and
+ * block later messages of the same lobby until they go through or are given up on.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameSessionOutboxRelay {
+
+    static final String LEASE_NAME = "game-session-outbox";
+
+    private final GameSessionOutbox outbox;
+    private final RabbitTemplate rabbitTemplate;
+    private final DistributedLease distributedLease;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${game.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun = 10;
+
+    @Value("${game.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis = 5000;
+
+    @Value("${game.outbox.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${game.outbox.retry-initial-delay-ms:1000}")
+    private long retryInitialDelayMillis = 1000;
+
+    @Value("${game.outbox.retry-max-delay-ms:60000}")
+    private long retryMaxDelayMillis = 60_000;
+
+    @Value("${game.outbox.published-retention-minutes:60}")
+    private long publishedRetentionMinutes = 60;
+
+    @Value("${game.outbox.lease-ttl-seconds:30}")
+    private long leaseTtlSeconds = 30;
+
+    @Scheduled(fixedDelayString = "${game.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            if (!distributedLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseTtlSeconds))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire game session outbox lease", e);
+            return;
+        }
+
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (batch > 0 && !distributedLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseTtlSeconds))) {
+                    log.warn("Lost game session outbox lease, stopping relay run after {} batches", batch);
+                    break;
+                }
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Game session outbox relay failed", e);
+        } finally {
+            distributedLease.release(LEASE_NAME);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.outbox.purge-interval-ms:300000}")
+    public void purge() {
+        try {
+            int purged = outbox.purgePublished(Duration.ofMinutes(publishedRetentionMinutes), batchSize * maxBatchesPerRun);
+            if (purged > 0) {
+                log.debug("Purged {} published outbox rows", purged);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge game session outbox", e);
+        }
+    }
+
+    /**
+     * Sends one batch of due messages and records the outcome of each.
+     *
+     * @return number of messages picked up
+     */
+    int relayBatch() {
+        List<OutboxMessage> due = outbox.findDue(batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<OutboxMessage, CorrelationData> sent = new LinkedHashMap<>();
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxMessage message : due) {
+                CorrelationData correlation = new CorrelationData(Long.toString(message.id()));
+                try {
+                    operations.convertAndSend(message.exchange(), message.routingKey(), outbox.readPayload(message), correlation);
+                    sent.put(message, correlation);
+                } catch (Exception e) {
+                    fail(message, "Send failed: " + e.getMessage());
+                }
+            }
+            return null;
+        });
+
+        List<Long> published = new ArrayList<>(sent.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+        sent.forEach((message, correlation) -> {
+            String error = awaitConfirm(correlation, deadline);
+            if (error == null) {
+                published.add(message.id());
+            } else {
+                fail(message, error);
+            }
+        });
+        outbox.markPublished(published);
+        meterRegistry.counter("games.outbox.published").increment(published.size());
+        return due.size();
+    }
+
+    /**
+     * Waits for one confirm until the batch deadline; confirms that already arrived are read without waiting.
+     */
+    private String awaitConfirm(CorrelationData correlation, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                return "Nacked by broker: " + confirm.getReason();
+            }
+            if (correlation.getReturned() != null) {
+                return "Returned as unroutable: " + correlation.getReturned().getReplyText();
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for confirm";
+        } catch (Exception e) {
+            return "No confirm within " + confirmTimeoutMillis + " ms";
+        }
+    }
+
+    private void fail(OutboxMessage message, String error) {
+        int attempts = message.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on outbox message {} for lobby {} after {} attempts: {}",
+                    message.id(), message.lobbyId(), attempts, error);
+            outbox.markFailed(message.id(), error);
+            meterRegistry.counter("games.outbox.failed").increment();
+            return;
+        }
+        log.warn("Outbox message {} for lobby {} not published (attempt {}): {}",
+                message.id(), message.lobbyId(), attempts, error);
+        outbox.markRetry(message.id(), error, retryDelay(attempts));
+        meterRegistry.counter("games.outbox.retried").increment();
+    }
+
+    private Duration retryDelay(int attempts) {
+        long delay = retryInitialDelayMillis << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(delay, retryMaxDelayMillis));
+    }
+}
@@ -0,0 +1,23 @@
+package com.banditgames.platform.games.adapter.outbox;
+
+import java.util.UUID;
+
+/**
+ * A pending outbox row.
+ *
+ * @param id         Outbox sequence number, increasing in write order
+ * @param lobbyId    Lobby the message belongs to; messages of one lobby are relayed in order
+ * @param exchange   Target exchange
+ * @param routingKey Target routing key
+ * @param payload    JSON message body
+ * @param attempts   Failed relay attempts so far
+ */
+public record OutboxMessage(
+    long id,
+    UUID lobbyId,
+    String exchange,
+    String routingKey,
+    String payload,
+    int attempts
+) {
+}
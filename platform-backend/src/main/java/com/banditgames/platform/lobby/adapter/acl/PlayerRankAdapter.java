@@ -0,0 +1,28 @@
+package com.banditgames.platform.lobby.adapter.acl;
+
+import com.banditgames.platform.acl.adapter.dto.PlayerInfo;
+import com.banditgames.platform.acl.port.out.PlayerContextPort;
+import com.banditgames.platform.lobby.port.out.PlayerRankPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Reads player ranks through the Player ACL. Ranks are ordered from lowest to highest,
+ * so the ordinal doubles as the matchmaking tier. Unknown players start in the lowest tier.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerRankAdapter implements PlayerRankPort {
+
+    private final PlayerContextPort playerContextPort;
+
+    @Override
+    public int rankTier(UUID playerId) {
+        return playerContextPort.getPlayerInfo(playerId)
+            .map(PlayerInfo::getRank)
+            .map(Enum::ordinal)
+            .orElse(0);
+    }
+}
@@ -1,9 +1,12 @@
 package com.banditgames.platform.lobby.adapter.events;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
 import com.banditgames.platform.shared.events.GameEndedDomainEvent;
+import com.banditgames.platform.shared.events.GameStartFailedDomainEvent;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -19,6 +22,7 @@ public class GameEventListener {
 
     private final LoadLobbyPort loadLobbyPort;
     private final SaveLobbyPort saveLobbyPort;
+    private final PlatformEventPublisher eventPublisher;
 
     @EventListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -34,6 +38,7 @@ public class GameEventListener {
             lobby.resetAfterGameEnd();
             
             saveLobbyPort.save(lobby);
+            eventPublisher.publish(new LobbyUpdatedEvent(lobby.getId()));
 
             log.info("Lobby {} session cleared and reset to WAITING after game ended", event.lobbyId());
         } catch (Exception e) {
@@ -41,5 +46,25 @@ public class GameEventListener {
             // Don't throw - this is an async event handler and we don't want to break the game ending
         }
     }
-}
 
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGameStartFailed(GameStartFailedDomainEvent event) {
+        log.info("Received GameStartFailedDomainEvent for lobby: {} ({})", event.lobbyId(), event.reason());
+
+        try {
+            Lobby lobby = loadLobbyPort.findById(event.lobbyId())
+                .orElseThrow(() -> new IllegalArgumentException("Lobby not found: " + event.lobbyId()));
+
+            // Reopen the lobby so its players are not stuck in a game that was never created
+            lobby.abortStart();
+
+            saveLobbyPort.save(lobby);
+            eventPublisher.publish(new LobbyUpdatedEvent(lobby.getId()));
+
+            log.info("Lobby {} reset to WAITING after its game failed to start", event.lobbyId());
+        } catch (Exception e) {
+            log.error("Failed to reopen lobby after game start failed: {}", event.lobbyId(), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.banditgames.platform.lobby.adapter.events;
+
+import com.banditgames.platform.lobby.adapter.websocket.LobbyDeltaBroadcaster;
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyChange;
+import com.banditgames.platform.lobby.domain.events.LobbyCreatedEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyInviteEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyStartedEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
+import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
+import com.banditgames.platform.lobby.domain.events.PlayerLeftLobbyEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Feeds committed lobby domain events to the STOMP delta broadcaster.
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyPushListener {
+
+    private final LobbyDeltaBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyCreated(LobbyCreatedEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.CREATED, event.hostId(), Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlayerJoined(PlayerJoinedLobbyEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.PLAYER_JOINED, event.playerId(), Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlayerLeft(PlayerLeftLobbyEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.PLAYER_LEFT, event.playerId(), Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyInvite(LobbyInviteEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.PLAYER_INVITED, event.invitedPlayerId(), Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyStarted(LobbyStartedEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.STARTED, null, Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyUpdated(LobbyUpdatedEvent event) {
+        broadcaster.record(event.lobbyId(), new LobbyChange(LobbyChange.Type.UPDATED, null, Instant.now()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.banditgames.platform.lobby.adapter.events;
+
+import com.banditgames.platform.lobby.domain.events.LobbyCreatedEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyInviteEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyStartedEvent;
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
+import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
+import com.banditgames.platform.lobby.domain.events.PlayerLeftLobbyEvent;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.OpenLobbyRegistryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the open lobby registry in line with the database.
+ *
+ * The registry is loaded at startup and then refreshed from lobby domain events after the
+ * publishing transaction has committed, so it never shows uncommitted state.
+ *
+ * Domain events only reach the node that raised them, so every node's registry is also
+ * reloaded from the database periodically. Changes made on another node show up in this
+ * node's lobby browser after at most one resync interval. Until the first load succeeds,
+ * searches go to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenLobbyRegistryListener {
+
+    private final LoadLobbyPort loadLobbyPort;
+    private final OpenLobbyRegistryPort openLobbyRegistryPort;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        openLobbyRegistryPort.rebuild(loadLobbyPort.findOpenLobbies());
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.open-registry.resync-interval-ms:30000}",
+            initialDelayString = "${lobby.open-registry.resync-interval-ms:30000}")
+    public void resync() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to resync open lobby registry", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyCreated(LobbyCreatedEvent event) {
+        refresh(event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlayerJoined(PlayerJoinedLobbyEvent event) {
+        refresh(event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlayerLeft(PlayerLeftLobbyEvent event) {
+        refresh(event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyInvite(LobbyInviteEvent event) {
+        refresh(event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyStarted(LobbyStartedEvent event) {
+        // A started lobby is never open again until it is reset, which raises LobbyUpdatedEvent
+        openLobbyRegistryPort.remove(event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLobbyUpdated(LobbyUpdatedEvent event) {
+        refresh(event.lobbyId());
+    }
+
+    private void refresh(UUID lobbyId) {
+        try {
+            loadLobbyPort.findById(lobbyId).ifPresentOrElse(
+                    openLobbyRegistryPort::refresh,
+                    () -> openLobbyRegistryPort.remove(lobbyId)
+            );
+        } catch (Exception e) {
+            log.error("Failed to refresh open lobby registry for lobby: {}", lobbyId, e);
+        }
+    }
+}
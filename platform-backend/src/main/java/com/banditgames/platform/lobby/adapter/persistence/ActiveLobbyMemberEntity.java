@@ -0,0 +1,36 @@
+package com.banditgames.platform.lobby.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Index of players that are currently seated in an active lobby.
+ *
+ * Keyed by player ID so the database itself enforces that a player is in at most one
+ * active lobby. Rows are maintained by {@link LobbyPersistenceAdapter} whenever a lobby is saved.
+ */
+@Entity
+@Table(name = "lobby_active_members",
+       indexes = @Index(name = "idx_lobby_active_members_lobby", columnList = "lobby_id"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveLobbyMemberEntity {
+
+    @Id
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @Column(name = "lobby_id", nullable = false)
+    private UUID lobbyId;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,50 @@
+package com.banditgames.platform.lobby.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ActiveLobbyMemberRepository extends JpaRepository<ActiveLobbyMemberEntity, UUID> {
+
+    @Query("SELECT m.lobbyId FROM ActiveLobbyMemberEntity m WHERE m.playerId = :playerId")
+    Optional<UUID> findLobbyIdByPlayerId(UUID playerId);
+
+    @Query("SELECT m.playerId FROM ActiveLobbyMemberEntity m WHERE m.lobbyId = :lobbyId")
+    List<UUID> findPlayerIdsByLobbyId(UUID lobbyId);
+
+    /**
+     * Claims the active seat for a player. Returns 0 when the player already holds a seat,
+     * which is how the one-lobby-per-player rule is enforced without aborting the transaction.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO lobby_active_members (player_id, lobby_id, joined_at)
+        VALUES (:playerId, :lobbyId, now())
+        ON CONFLICT (player_id) DO NOTHING
+    """, nativeQuery = true)
+    int claim(UUID playerId, UUID lobbyId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ActiveLobbyMemberEntity m WHERE m.lobbyId = :lobbyId AND m.playerId IN :playerIds")
+    int release(UUID lobbyId, Collection<UUID> playerIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ActiveLobbyMemberEntity m WHERE m.lobbyId = :lobbyId")
+    int releaseAll(UUID lobbyId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ActiveLobbyMemberEntity m WHERE m.playerId = :playerId")
+    int releasePlayer(UUID playerId);
+}
@@ -16,7 +16,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "lobby_external_game_instances", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"lobby_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"lobby_id"}),
+       indexes = @Index(name = "idx_external_game_instance_id", columnList = "external_game_instance_id"))
 @Getter
 @Builder
 @NoArgsConstructor
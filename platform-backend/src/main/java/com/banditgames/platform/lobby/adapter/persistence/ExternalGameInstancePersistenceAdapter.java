@@ -29,6 +29,12 @@ public class ExternalGameInstancePersistenceAdapter
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<ExternalGameInstance> findByExternalGameInstanceId(UUID externalGameInstanceId) {
+        return repository.findFirstByExternalGameInstanceId(externalGameInstanceId)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public ExternalGameInstance save(ExternalGameInstance externalGameInstance) {
         ExternalGameInstanceEntity entity = mapper.toEntity(externalGameInstance);
@@ -19,6 +19,11 @@ public interface ExternalGameInstanceRepository extends JpaRepository<ExternalGa
      */
     Optional<ExternalGameInstanceEntity> findByLobbyIdAndExternalGameType(UUID lobbyId, String externalGameType);
     
+    /**
+     * Finds the lobby mapping of an external game instance.
+     */
+    Optional<ExternalGameInstanceEntity> findFirstByExternalGameInstanceId(UUID externalGameInstanceId);
+    
     /**
      * Deletes external game instances for a lobby.
      */
@@ -7,15 +7,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.SQLOrder;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "lobbies")
+@Table(name = "lobbies", indexes = @Index(name = "idx_lobbies_session_id", columnList = "session_id"))
 @Getter
+@Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,16 +46,28 @@ public class LobbyEntity {
     @Column(nullable = true)
     private String description;
 
+    // Sets rather than bags so Hibernate writes single-row inserts and deletes on change;
+    // joined_at is filled by the database and keeps members in the order they joined.
+    // Lobbies loaded by a query get the members of all of them in one subselect, not one select each
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "lobby_players", joinColumns = @JoinColumn(name = "lobby_id"))
     @Column(name = "player_id")
+    @Fetch(FetchMode.SUBSELECT)
+    @SQLOrder("joined_at, player_id")
     @Builder.Default
-    private List<UUID> playerIds = new ArrayList<>();
+    private Set<UUID> playerIds = new LinkedHashSet<>();
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private LobbyStatus status;
 
+    // Denormalized from the member list so search can filter and sort without joining lobby_players
+    private Integer playerCount;
+
+    private Integer freeSlots;
+
+    private Integer hostRank;
+
     @Column(nullable = false)
     private Integer maxPlayers;
 
@@ -60,17 +78,28 @@ public class LobbyEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "lobby_invites", joinColumns = @JoinColumn(name = "lobby_id"))
     @Column(name = "player_id")
+    @Fetch(FetchMode.SUBSELECT)
     @Builder.Default
-    private List<UUID> invitedPlayerIds = new ArrayList<>();
+    private Set<UUID> invitedPlayerIds = new HashSet<>();
 
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     private LocalDateTime startedAt;
 
+    // Last write to the lobby, used by the reaper to find idle lobbies
+    private LocalDateTime updatedAt;
+
+    // Member and invite collection changes bump the version too, so racing joins are detected.
+    // Never null: a null version would make existing rows look new (see migration_lobby_version.sql)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (status == null) {
             status = LobbyStatus.WAITING;
         }
@@ -79,6 +108,11 @@ public class LobbyEntity {
         }
     }
     
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
     @PostLoad
     protected void onLoad() {
         // Ensure name is never null when loading from database
@@ -2,12 +2,45 @@ package com.banditgames.platform.lobby.adapter.persistence;
 
 import com.banditgames.platform.lobby.domain.Lobby;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 @Mapper(componentModel = "spring")
 public interface LobbyMapper {
     
+    @Mapping(target = "playerIds", expression = "java(hostFirst(entity))")
     Lobby toDomain(LobbyEntity entity);
     
+    @Mapping(target = "updatedAt", ignore = true)
     LobbyEntity toEntity(Lobby lobby);
+    
+    /**
+     * Copies scalar lobby state onto a managed entity. Member and invite sets are
+     * reconciled by the persistence adapter so only changed rows are written.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "playerIds", ignore = true)
+    @Mapping(target = "invitedPlayerIds", ignore = true)
+    void updateEntity(Lobby lobby, @MappingTarget LobbyEntity entity);
+    
+    /**
+     * Members load in join order; the host is placed first in case they were not the first to join.
+     */
+    default List<UUID> hostFirst(LobbyEntity entity) {
+        List<UUID> ordered = new ArrayList<>(entity.getPlayerIds().size());
+        if (entity.getPlayerIds().contains(entity.getHostId())) {
+            ordered.add(entity.getHostId());
+        }
+        entity.getPlayerIds().stream()
+            .filter(playerId -> !playerId.equals(entity.getHostId()))
+            .forEach(ordered::add);
+        return ordered;
+    }
 }
-
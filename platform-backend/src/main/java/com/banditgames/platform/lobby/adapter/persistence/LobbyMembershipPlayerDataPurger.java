@@ -0,0 +1,54 @@
+package com.banditgames.platform.lobby.adapter.persistence;
+
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.port.in.LeaveLobbyUseCase;
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Removes a deleted player from lobby member and invite lists.
+ *
+ * Live lobbies are left through the regular leave use case, so a departing host cancels the
+ * lobby and the leave event reaches the registries and lobby push. Memberships of finished
+ * lobbies and invites carry no such state and are deleted in chunks.
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyMembershipPlayerDataPurger implements PlayerDataPurger {
+
+    private static final List<LobbyStatus> LIVE_STATUSES =
+            List.of(LobbyStatus.WAITING, LobbyStatus.STARTED, LobbyStatus.IN_PROGRESS);
+
+    private final LobbyRepository lobbyRepository;
+    private final ActiveLobbyMemberRepository activeLobbyMemberRepository;
+    private final LeaveLobbyUseCase leaveLobbyUseCase;
+
+    @Override
+    public String name() {
+        return "lobby-memberships";
+    }
+
+    @Override
+    public int purgeChunk(UUID playerId, int limit) {
+        int deleted = 0;
+        for (LobbyEntity lobby : lobbyRepository.findByPlayerIdsContainingAndStatusIn(playerId, LIVE_STATUSES)) {
+            if (deleted >= limit) {
+                return deleted;
+            }
+            leaveLobbyUseCase.leaveLobby(lobby.getId(), playerId);
+            deleted++;
+        }
+        deleted += activeLobbyMemberRepository.releasePlayer(playerId);
+        if (deleted < limit) {
+            deleted += lobbyRepository.deleteMembershipChunk(playerId, limit - deleted);
+        }
+        if (deleted < limit) {
+            deleted += lobbyRepository.deleteInviteChunk(playerId, limit - deleted);
+        }
+        return deleted;
+    }
+}
@@ -1,8 +1,10 @@
 package com.banditgames.platform.lobby.adapter.persistence;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import com.banditgames.platform.lobby.domain.LobbyStatus;
 import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import com.banditgames.platform.lobby.domain.exception.LobbyOperationException;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
 import lombok.RequiredArgsConstructor;
@@ -10,15 +12,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class LobbyPersistenceAdapter implements LoadLobbyPort, SaveLobbyPort {
     
+    private static final Set<LobbyStatus> INACTIVE_STATUSES = EnumSet.of(LobbyStatus.CANCELLED, LobbyStatus.COMPLETED);
+    
     private final LobbyRepository lobbyRepository;
+    private final ActiveLobbyMemberRepository activeLobbyMemberRepository;
     private final LobbyMapper lobbyMapper;
     
     @Override
@@ -40,48 +48,84 @@ public class LobbyPersistenceAdapter implements LoadLobbyPort, SaveLobbyPort {
     }
     
     @Override
-    public Page<Lobby> searchLobbies(UUID gameId, List<UUID> hostIds, Pageable pageable) {
-        Page<LobbyEntity> entities;
-        
-        if (gameId != null && hostIds != null && !hostIds.isEmpty()) {
-            entities = lobbyRepository.findByGameIdAndHostIdInAndStatusAndVisibility(
-                gameId, hostIds, LobbyStatus.WAITING, LobbyVisibility.PUBLIC, pageable
-            );
-        } else if (gameId != null) {
-            entities = lobbyRepository.findByGameIdAndStatusAndVisibility(
-                gameId, LobbyStatus.WAITING, LobbyVisibility.PUBLIC, pageable
-            );
-        } else if (hostIds != null && !hostIds.isEmpty()) {
-            entities = lobbyRepository.findByHostIdInAndStatusAndVisibility(
-                hostIds, LobbyStatus.WAITING, LobbyVisibility.PUBLIC, pageable
-            );
-        } else {
-            entities = lobbyRepository.findByStatusAndVisibility(
-                LobbyStatus.WAITING, LobbyVisibility.PUBLIC, pageable
-            );
-        }
-        
-        return entities.map(lobbyMapper::toDomain);
+    public Page<Lobby> searchLobbies(LobbySearchCriteria criteria, Pageable pageable) {
+        return lobbyRepository.findAll(LobbySearchSpecifications.openLobbiesMatching(criteria), pageable)
+            .map(lobbyMapper::toDomain);
     }
     
     @Override
     public Optional<Lobby> findPlayerLobby(UUID playerId) {
-        // A player can only be in ONE lobby at a time
-        // Find active lobbies (not CANCELLED or COMPLETED) for this player
-        List<LobbyEntity> entities = lobbyRepository.findByPlayerIdsContaining(playerId);
-        
-        // Filter for active lobbies and return the first one (should only be one)
-        return entities.stream()
-                .filter(entity -> entity.getStatus() != LobbyStatus.CANCELLED 
-                        && entity.getStatus() != LobbyStatus.COMPLETED)
-                .findFirst()
+        // A player can only be in ONE lobby at a time, enforced by the active member index
+        return activeLobbyMemberRepository.findLobbyIdByPlayerId(playerId)
+                .flatMap(lobbyRepository::findById)
                 .map(lobbyMapper::toDomain);
     }
     
+    @Override
+    public List<Lobby> findOpenLobbies() {
+        return lobbyRepository.findByStatusAndVisibility(LobbyStatus.WAITING, LobbyVisibility.PUBLIC).stream()
+                .map(lobbyMapper::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public List<Lobby> findLobbiesWithRunningSession() {
+        return lobbyRepository.findBySessionIdIsNotNullAndStatus(LobbyStatus.IN_PROGRESS).stream()
+                .map(lobbyMapper::toDomain)
+                .toList();
+    }
+    
     @Override
     public Lobby save(Lobby lobby) {
-        LobbyEntity entity = lobbyMapper.toEntity(lobby);
+        LobbyEntity entity = Optional.ofNullable(lobby.getId())
+            .flatMap(lobbyRepository::findById)
+            .map(existing -> applyChanges(lobby, existing))
+            .orElseGet(() -> lobbyMapper.toEntity(lobby));
         LobbyEntity saved = lobbyRepository.save(entity);
+        syncActiveMembers(saved);
         return lobbyMapper.toDomain(saved);
     }
+    
+    /**
+     * Updates the managed entity in place. Hibernate diffs the member and invite sets
+     * against their snapshot, so a join or leave writes a single row.
+     */
+    private LobbyEntity applyChanges(Lobby lobby, LobbyEntity entity) {
+        lobbyMapper.updateEntity(lobby, entity);
+        reconcile(entity.getPlayerIds(), lobby.getPlayerIds());
+        reconcile(entity.getInvitedPlayerIds(), lobby.getInvitedPlayerIds());
+        return entity;
+    }
+    
+    private static void reconcile(Set<UUID> persisted, List<UUID> desired) {
+        persisted.retainAll(desired);
+        persisted.addAll(desired);
+    }
+    
+    /**
+     * Brings the active member index in line with the saved lobby, touching only the rows that changed.
+     */
+    private void syncActiveMembers(LobbyEntity lobby) {
+        if (INACTIVE_STATUSES.contains(lobby.getStatus())) {
+            activeLobbyMemberRepository.releaseAll(lobby.getId());
+            return;
+        }
+        
+        Set<UUID> indexed = new HashSet<>(activeLobbyMemberRepository.findPlayerIdsByLobbyId(lobby.getId()));
+        Set<UUID> current = new HashSet<>(lobby.getPlayerIds());
+        
+        Set<UUID> departed = new HashSet<>(indexed);
+        departed.removeAll(current);
+        if (!departed.isEmpty()) {
+            activeLobbyMemberRepository.release(lobby.getId(), departed);
+        }
+        
+        for (UUID playerId : current) {
+            if (!indexed.contains(playerId) && activeLobbyMemberRepository.claim(playerId, lobby.getId()) == 0) {
+                throw new LobbyOperationException(
+                    "Player is already in an active lobby. A player can only be in one lobby at a time. Please leave your current lobby before joining another one."
+                );
+            }
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package com.banditgames.platform.lobby.adapter.persistence;
+
+import com.banditgames.platform.lobby.port.out.ReapLobbiesPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based lobby cleanup. Each call is one statement over a bounded batch, and
+ * {@code SKIP LOCKED} keeps it from waiting on lobbies that users are changing right now.
+ *
+ * Lobby timestamps are naive {@code TIMESTAMP} columns written from the JVM clock by
+ * {@link LobbyEntity}, so the statements take the time as a parameter instead of using the
+ * database's {@code now()}; mixing the two would skew idle cutoffs by the zone difference.
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyReaperPersistenceAdapter implements ReapLobbiesPort {
+
+    private static final String CANCEL_IDLE_SQL = """
+        WITH idle AS (
+            SELECT id FROM lobbies
+            WHERE status = 'WAITING' AND COALESCE(updated_at, created_at) < :cutoff
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), released AS (
+            DELETE FROM lobby_active_members WHERE lobby_id IN (SELECT id FROM idle)
+        )
+        UPDATE lobbies l
+        SET status = 'CANCELLED', version = l.version + 1, updated_at = :now
+        FROM idle
+        WHERE l.id = idle.id
+        RETURNING l.id
+        """;
+
+    private static final String ARCHIVE_FINISHED_SQL = """
+        WITH batch AS (
+            SELECT id FROM lobbies
+            WHERE status IN ('CANCELLED', 'COMPLETED') AND COALESCE(updated_at, created_at) < :cutoff
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), archived AS (
+            INSERT INTO lobby_archive (id, name, description, game_id, session_id, host_id, status, max_players,
+                                       visibility, player_ids, invited_player_ids, created_at, started_at, archived_at)
+            SELECT l.id, l.name, l.description, l.game_id, l.session_id, l.host_id, l.status, l.max_players, l.visibility,
+                   ARRAY(SELECT lp.player_id FROM lobby_players lp WHERE lp.lobby_id = l.id ORDER BY lp.joined_at, lp.player_id),
+                   ARRAY(SELECT li.player_id FROM lobby_invites li WHERE li.lobby_id = l.id),
+                   l.created_at, l.started_at, :now
+            FROM lobbies l JOIN batch b ON b.id = l.id
+            ON CONFLICT (id) DO NOTHING
+        ), members AS (
+            DELETE FROM lobby_players WHERE lobby_id IN (SELECT id FROM batch) RETURNING 1
+        ), invites AS (
+            DELETE FROM lobby_invites WHERE lobby_id IN (SELECT id FROM batch) RETURNING 1
+        ), instances AS (
+            DELETE FROM lobby_external_game_instances WHERE lobby_id IN (SELECT id FROM batch) RETURNING 1
+        ), removed AS (
+            DELETE FROM lobbies WHERE id IN (SELECT id FROM batch) RETURNING 1
+        )
+        SELECT (SELECT count(*) FROM removed) AS lobbies,
+               (SELECT count(*) FROM removed) + (SELECT count(*) FROM members)
+                   + (SELECT count(*) FROM invites) + (SELECT count(*) FROM instances) AS reclaimed_rows
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<UUID> cancelIdleLobbies(LocalDateTime idleSince, int limit) {
+        return jdbcTemplate.queryForList(CANCEL_IDLE_SQL, params(idleSince, limit), UUID.class);
+    }
+
+    @Override
+    @Transactional
+    public ArchivedLobbies archiveFinishedLobbies(LocalDateTime finishedBefore, int limit) {
+        return jdbcTemplate.queryForObject(ARCHIVE_FINISHED_SQL, params(finishedBefore, limit),
+            (rs, rowNum) -> new ArchivedLobbies(rs.getInt("lobbies"), rs.getInt("reclaimed_rows")));
+    }
+
+    private static MapSqlParameterSource params(LocalDateTime cutoff, int limit) {
+        return new MapSqlParameterSource()
+            .addValue("cutoff", cutoff)
+            .addValue("now", LocalDateTime.now())
+            .addValue("limit", limit);
+    }
+}
@@ -2,17 +2,19 @@ package com.banditgames.platform.lobby.adapter.persistence;
 
 import com.banditgames.platform.lobby.domain.LobbyStatus;
 import com.banditgames.platform.lobby.domain.LobbyVisibility;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface LobbyRepository extends JpaRepository<LobbyEntity, UUID> {
+public interface LobbyRepository extends JpaRepository<LobbyEntity, UUID>, JpaSpecificationExecutor<LobbyEntity> {
     
     List<LobbyEntity> findByStatus(LobbyStatus status);
     
@@ -32,18 +34,28 @@ public interface LobbyRepository extends JpaRepository<LobbyEntity, UUID> {
     
     Optional<LobbyEntity> findBySessionId(UUID sessionId);
     
+    List<LobbyEntity> findBySessionIdIsNotNullAndStatus(LobbyStatus status);
+    
     List<LobbyEntity> findByGameIdAndStatusAndVisibility(UUID gameId, LobbyStatus status, LobbyVisibility visibility);
     
     List<LobbyEntity> findByHostIdInAndStatusAndVisibility(List<UUID> hostIds, LobbyStatus status, LobbyVisibility visibility);
     
     List<LobbyEntity> findByGameIdAndHostIdInAndStatusAndVisibility(UUID gameId, List<UUID> hostIds, LobbyStatus status, LobbyVisibility visibility);
     
-    // Pageable versions for search
-    Page<LobbyEntity> findByStatusAndVisibility(LobbyStatus status, LobbyVisibility visibility, Pageable pageable);
-    
-    Page<LobbyEntity> findByGameIdAndStatusAndVisibility(UUID gameId, LobbyStatus status, LobbyVisibility visibility, Pageable pageable);
-    
-    Page<LobbyEntity> findByHostIdInAndStatusAndVisibility(List<UUID> hostIds, LobbyStatus status, LobbyVisibility visibility, Pageable pageable);
-    
-    Page<LobbyEntity> findByGameIdAndHostIdInAndStatusAndVisibility(UUID gameId, List<UUID> hostIds, LobbyStatus status, LobbyVisibility visibility, Pageable pageable);
+    // Element collection tables have no key of their own, so chunks are addressed by ctid
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM lobby_players
+        WHERE ctid IN (SELECT ctid FROM lobby_players WHERE player_id = :playerId LIMIT :limit)
+    """, nativeQuery = true)
+    int deleteMembershipChunk(UUID playerId, int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM lobby_invites
+        WHERE ctid IN (SELECT ctid FROM lobby_invites WHERE player_id = :playerId LIMIT :limit)
+    """, nativeQuery = true)
+    int deleteInviteChunk(UUID playerId, int limit);
 }
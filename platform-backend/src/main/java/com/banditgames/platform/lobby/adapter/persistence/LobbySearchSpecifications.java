@@ -0,0 +1,45 @@
+package com.banditgames.platform.lobby.adapter.persistence;
+
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds lobby browser queries that only contain the predicates a search actually uses,
+ * so the planner can pick the matching partial index on open lobbies.
+ */
+final class LobbySearchSpecifications {
+
+    private LobbySearchSpecifications() {
+    }
+
+    static Specification<LobbyEntity> openLobbiesMatching(LobbySearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("status"), LobbyStatus.WAITING));
+            predicates.add(cb.equal(root.get("visibility"), LobbyVisibility.PUBLIC));
+
+            if (criteria.gameId() != null) {
+                predicates.add(cb.equal(root.get("gameId"), criteria.gameId()));
+            }
+            if (criteria.filtersHosts()) {
+                predicates.add(root.get("hostId").in(criteria.hostIds()));
+            }
+            if (criteria.onlyWithFreeSlots()) {
+                predicates.add(cb.greaterThan(root.get("freeSlots"), 0));
+            }
+            if (criteria.minHostRank() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("hostRank"), criteria.minHostRank()));
+            }
+            if (criteria.maxHostRank() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("hostRank"), criteria.maxHostRank()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
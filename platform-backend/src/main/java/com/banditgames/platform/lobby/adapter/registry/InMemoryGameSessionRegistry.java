@@ -0,0 +1,84 @@
+package com.banditgames.platform.lobby.adapter.registry;
+
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.port.out.GameSessionRegistryPort;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory session to lobby map.
+ *
+ * Filled when the game service reports a session start and seeded at startup from lobbies
+ * that still have a running session (using the lobby start time, as the exact session start
+ * is not persisted). Ended sessions are swept after a grace period; sessions that never
+ * report an end are dropped after a maximum age so the map stays bounded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryGameSessionRegistry implements GameSessionRegistryPort {
+
+    private final LoadLobbyPort loadLobbyPort;
+
+    private final Map<UUID, ActiveGameSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${lobby.session-registry.ended-retention-ms:600000}")
+    private long endedRetentionMillis = 600_000;
+
+    @Value("${lobby.session-registry.max-age-hours:24}")
+    private long maxAgeHours = 24;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Lobby> running = loadLobbyPort.findLobbiesWithRunningSession();
+        for (Lobby lobby : running) {
+            Instant startedAt = lobby.getStartedAt() != null
+                    ? lobby.getStartedAt().atZone(ZoneId.systemDefault()).toInstant()
+                    : Instant.now();
+            sessions.putIfAbsent(lobby.getSessionId(), new ActiveGameSession(
+                    lobby.getSessionId(), lobby.getId(), List.copyOf(lobby.getPlayerIds()), startedAt, null));
+        }
+        log.info("Game session registry seeded with {} running sessions", running.size());
+    }
+
+    @Override
+    public void register(ActiveGameSession session) {
+        sessions.put(session.sessionId(), session);
+    }
+
+    @Override
+    public Optional<ActiveGameSession> find(UUID sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    @Override
+    public void markEnded(UUID sessionId, Instant endedAt) {
+        sessions.computeIfPresent(sessionId, (id, session) -> session.isEnded() ? session : session.endedAt(endedAt));
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.session-registry.sweep-interval-ms:30000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        Instant endedCutoff = now.minusMillis(endedRetentionMillis);
+        Instant startedCutoff = now.minus(Duration.ofHours(maxAgeHours));
+        sessions.values().removeIf(session -> session.isEnded()
+                ? session.endedAt().isBefore(endedCutoff)
+                : session.startedAt().isBefore(startedCutoff));
+    }
+}
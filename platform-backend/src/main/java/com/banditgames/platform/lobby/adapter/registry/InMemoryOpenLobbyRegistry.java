@@ -0,0 +1,181 @@
+package com.banditgames.platform.lobby.adapter.registry;
+
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import com.banditgames.platform.lobby.port.out.OpenLobbyRegistryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of open (WAITING, PUBLIC) lobbies, keyed by id with secondary
+ * indexes on gameId and hostId.
+ *
+ * Writes are serialized (they only happen on lobby state changes), reads are lock-free.
+ * Stored lobbies are private copies, so callers can never mutate the registry's state.
+ *
+ * The index is per node and only sees this node's lobby events; other nodes' changes arrive
+ * through the periodic rebuild driven by {@code OpenLobbyRegistryListener}.
+ */
+@Slf4j
+@Component
+public class InMemoryOpenLobbyRegistry implements OpenLobbyRegistryPort {
+
+    private static final Comparator<Lobby> DEFAULT_ORDER =
+            Comparator.comparing(Lobby::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Map<UUID, Lobby> lobbies = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> lobbiesByGame = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> lobbiesByHost = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @Override
+    public synchronized void refresh(Lobby lobby) {
+        unindex(lobby.getId());
+        if (isOpen(lobby)) {
+            Lobby snapshot = copyOf(lobby);
+            lobbies.put(snapshot.getId(), snapshot);
+            index(lobbiesByGame, snapshot.getGameId(), snapshot.getId());
+            index(lobbiesByHost, snapshot.getHostId(), snapshot.getId());
+        }
+    }
+
+    @Override
+    public synchronized void remove(UUID lobbyId) {
+        unindex(lobbyId);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Lobby> openLobbies) {
+        lobbies.clear();
+        lobbiesByGame.clear();
+        lobbiesByHost.clear();
+        openLobbies.forEach(this::refresh);
+        ready = true;
+        log.debug("Open lobby registry rebuilt with {} lobbies", lobbies.size());
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Page<Lobby> search(LobbySearchCriteria criteria, Pageable pageable) {
+        UUID gameId = criteria.gameId();
+        List<UUID> hostIds = criteria.hostIds();
+        boolean filterHosts = criteria.filtersHosts();
+
+        Stream<Lobby> candidates;
+        if (gameId != null) {
+            candidates = lookup(lobbiesByGame.getOrDefault(gameId, Set.of()));
+        } else if (filterHosts) {
+            candidates = hostIds.stream().distinct()
+                    .flatMap(hostId -> lookup(lobbiesByHost.getOrDefault(hostId, Set.of())));
+        } else {
+            candidates = lobbies.values().stream();
+        }
+        if (gameId != null && filterHosts) {
+            Set<UUID> hosts = new HashSet<>(hostIds);
+            candidates = candidates.filter(lobby -> hosts.contains(lobby.getHostId()));
+        }
+        candidates = candidates.filter(criteria::matchesSeatsAndRank);
+
+        List<Lobby> matches = candidates.sorted(comparatorFor(pageable.getSort())).toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches.stream().map(this::copyOf).toList(), pageable, matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<Lobby> content = matches.subList(from, to).stream().map(this::copyOf).toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private Stream<Lobby> lookup(Set<UUID> ids) {
+        return ids.stream().map(lobbies::get).filter(Objects::nonNull);
+    }
+
+    private void index(Map<UUID, Set<UUID>> index, UUID key, UUID lobbyId) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(lobbyId);
+        }
+    }
+
+    private void unindex(UUID lobbyId) {
+        Lobby previous = lobbies.remove(lobbyId);
+        if (previous != null) {
+            unindex(lobbiesByGame, previous.getGameId(), lobbyId);
+            unindex(lobbiesByHost, previous.getHostId(), lobbyId);
+        }
+    }
+
+    private void unindex(Map<UUID, Set<UUID>> index, UUID key, UUID lobbyId) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(lobbyId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static boolean isOpen(Lobby lobby) {
+        return lobby.getStatus() == LobbyStatus.WAITING && lobby.getVisibility() == LobbyVisibility.PUBLIC;
+    }
+
+    /**
+     * Supports sorting by the lobby fields the browser exposes; unknown properties are ignored.
+     */
+    private static Comparator<Lobby> comparatorFor(Sort sort) {
+        Comparator<Lobby> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Lobby> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(Lobby::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "name" -> Comparator.comparing(Lobby::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+                case "maxPlayers" -> Comparator.comparing(Lobby::getMaxPlayers, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "freeSlots" -> Comparator.comparingInt(Lobby::getFreeSlots);
+                case "hostRank" -> Comparator.comparing(Lobby::getHostRank, Comparator.nullsLast(Comparator.naturalOrder()));
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator != null ? comparator.thenComparing(Lobby::getId) : DEFAULT_ORDER.thenComparing(Lobby::getId);
+    }
+
+    private Lobby copyOf(Lobby lobby) {
+        return Lobby.builder()
+                .id(lobby.getId())
+                .gameId(lobby.getGameId())
+                .sessionId(lobby.getSessionId())
+                .hostId(lobby.getHostId())
+                .name(lobby.getName())
+                .description(lobby.getDescription())
+                .playerIds(new ArrayList<>(lobby.getPlayerIds()))
+                .status(lobby.getStatus())
+                .maxPlayers(lobby.getMaxPlayers())
+                .visibility(lobby.getVisibility())
+                .invitedPlayerIds(new ArrayList<>(lobby.getInvitedPlayerIds()))
+                .createdAt(lobby.getCreatedAt())
+                .startedAt(lobby.getStartedAt())
+                .hostRank(lobby.getHostRank())
+                .version(lobby.getVersion())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.banditgames.platform.lobby.adapter.web.dto.LobbyResponse;
 import com.banditgames.platform.lobby.adapter.web.dto.StartLobbyRequest;
 import com.banditgames.platform.lobby.adapter.web.dto.UpdateLobbyRequest;
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import com.banditgames.platform.lobby.port.in.*;
 import com.banditgames.platform.lobby.port.in.UpdateLobbyUseCase;
 import com.banditgames.platform.acl.port.out.PlayerContextPort;
@@ -22,7 +23,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -218,7 +221,7 @@ public class LobbyController {
 
     @Operation(
         summary = "Search for lobbies",
-        description = "Search and filter public waiting lobbies based on game ID and/or host username. " +
+        description = "Search and filter public waiting lobbies based on game ID, host username, free seats and host rank. " +
                 "All query parameters are optional and can be combined. This endpoint only returns public lobbies " +
                 "that are in WAITING status (not started yet). The controller coordinates between the player and lobby " +
                 "modules following modulith conventions: first resolves username to player IDs if provided, then " +
@@ -327,6 +330,29 @@ public class LobbyController {
                 example = "gamer"
             )
             @RequestParam(required = false) String username,
+            @Parameter(
+                description = "Only return lobbies with at least one free seat.",
+                required = false
+            )
+            @RequestParam(defaultValue = "false") boolean hasFreeSlots,
+            @Parameter(
+                description = "Lowest host rank tier to include (0 = BRONZE, 1 = SILVER, 2 = GOLD, 3 = PLATINUM, 4 = DIAMOND). " +
+                        "Must not be above maxRank.",
+                required = false,
+                example = "1"
+            )
+            @RequestParam(required = false) Integer minRank,
+            @Parameter(
+                description = "Highest host rank tier to include (0 = BRONZE, 1 = SILVER, 2 = GOLD, 3 = PLATINUM, 4 = DIAMOND).",
+                required = false,
+                example = "3"
+            )
+            @RequestParam(required = false) Integer maxRank,
+            @Parameter(
+                description = "Order results by creation time, newest first. Overrides the sort parameter.",
+                required = false
+            )
+            @RequestParam(defaultValue = "false") boolean newestFirst,
             @Parameter(
                 description = "Pagination parameters (page, size, sort). Default page size is 20.",
                 required = false
@@ -344,7 +370,12 @@ public class LobbyController {
             }
         }
 
-        Page<Lobby> lobbies = searchLobbyUseCase.searchLobbies(gameId, hostIds, pageable);
+        if (newestFirst) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+
+        LobbySearchCriteria criteria = new LobbySearchCriteria(gameId, hostIds, hasFreeSlots, minRank, maxRank);
+        Page<Lobby> lobbies = searchLobbyUseCase.searchLobbies(criteria, pageable);
         Page<LobbyResponse> response = lobbies.map(LobbyResponse::fromDomain);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,86 @@
+package com.banditgames.platform.lobby.adapter.web;
+
+import com.banditgames.platform.lobby.adapter.web.dto.EnqueueMatchmakingRequest;
+import com.banditgames.platform.lobby.adapter.web.dto.MatchmakingTicketResponse;
+import com.banditgames.platform.lobby.port.in.MatchmakingUseCase;
+import com.banditgames.platform.shared.security.AuthUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/matchmaking")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+@Tag(name = "Matchmaking", description = "API for automatic rank-based matchmaking")
+@SecurityRequirement(name = "bearerAuth")
+public class MatchmakingController {
+
+    private final MatchmakingUseCase matchmakingUseCase;
+
+    @Operation(
+        summary = "Join the matchmaking queue",
+        description = "Queues the authenticated user for the given game. Once matched, the user is placed in a started lobby, available from /api/lobbies/current."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Player queued",
+            content = @Content(schema = @Schema(implementation = MatchmakingTicketResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Player is already in a lobby"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping("/queue")
+    public ResponseEntity<MatchmakingTicketResponse> enqueue(@Valid @RequestBody EnqueueMatchmakingRequest request) {
+        UUID userId = AuthUtils.getCurrentUserId();
+        var ticket = matchmakingUseCase.enqueue(userId, request.getGameId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(MatchmakingTicketResponse.fromDomain(ticket));
+    }
+
+    @Operation(
+        summary = "Get matchmaking status",
+        description = "Returns the authenticated user's queue ticket, or 404 when the user is not queued."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Player is queued",
+            content = @Content(schema = @Schema(implementation = MatchmakingTicketResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Player is not queued"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/queue")
+    public ResponseEntity<MatchmakingTicketResponse> getTicket() {
+        UUID userId = AuthUtils.getCurrentUserId();
+        return matchmakingUseCase.findTicket(userId)
+                .map(MatchmakingTicketResponse::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+        summary = "Leave the matchmaking queue",
+        description = "Removes the authenticated user from the matchmaking queue."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Player removed from the queue"),
+        @ApiResponse(responseCode = "404", description = "Player is not queued"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @DeleteMapping("/queue")
+    public ResponseEntity<Void> cancel() {
+        UUID userId = AuthUtils.getCurrentUserId();
+        return matchmakingUseCase.cancel(userId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -22,6 +22,9 @@ public class LobbyResponse {
     private List<UUID> playerIds;
     private LobbyStatus status;
     private Integer maxPlayers;
+    private int playerCount;
+    private int freeSlots;
+    private Integer hostRank;
     private LobbyVisibility visibility;
     private List<UUID> invitedPlayerIds;
     private LocalDateTime createdAt;
@@ -38,6 +41,9 @@ public class LobbyResponse {
             .playerIds(lobby.getPlayerIds())
             .status(lobby.getStatus())
             .maxPlayers(lobby.getMaxPlayers())
+            .playerCount(lobby.getPlayerCount())
+            .freeSlots(lobby.getFreeSlots())
+            .hostRank(lobby.getHostRank())
             .visibility(lobby.getVisibility())
             .invitedPlayerIds(lobby.getInvitedPlayerIds())
             .createdAt(lobby.getCreatedAt())
@@ -0,0 +1,28 @@
+package com.banditgames.platform.lobby.adapter.web.dto;
+
+import com.banditgames.platform.lobby.domain.MatchmakingTicket;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class MatchmakingTicketResponse {
+    private UUID playerId;
+    private UUID gameId;
+    private int rankTier;
+    private Instant enqueuedAt;
+    private long waitedSeconds;
+
+    public static MatchmakingTicketResponse fromDomain(MatchmakingTicket ticket) {
+        return MatchmakingTicketResponse.builder()
+            .playerId(ticket.playerId())
+            .gameId(ticket.gameId())
+            .rankTier(ticket.rankTier())
+            .enqueuedAt(ticket.enqueuedAt())
+            .waitedSeconds(ticket.waitedUntil(Instant.now()).toSeconds())
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.banditgames.platform.lobby.adapter.websocket;
+
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyBrowserFrame;
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyChange;
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyDeltaFrame;
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes lobby changes to STOMP subscribers so clients do not have to poll.
+ *
+ * Changes are collected per lobby and flushed on a short fixed delay, so a burst of
+ * joins becomes one frame per lobby. Each flush reads the lobby once to stamp the frame
+ * with the current version and counts.
+ *
+ * Both the pending changes and the last pushed versions are kept per node, and the STOMP
+ * broker is the in-process simple broker. With several nodes, a subscriber only receives
+ * frames for changes committed on the node it is connected to, and {@code previousVersion}
+ * chains only that node's frames. Clients treat any version they cannot chain as a gap and
+ * reload the lobby over REST, so they stay correct, but see other nodes' changes only on
+ * their next reload. Cross-node fan-out needs a STOMP broker relay in {@code WebSocketConfig}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LobbyDeltaBroadcaster {
+
+    static final String LOBBY_TOPIC_PREFIX = "/topic/lobbies/";
+    static final String BROWSER_TOPIC = "/topic/lobbies";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final LoadLobbyPort loadLobbyPort;
+
+    private final ConcurrentHashMap<UUID, List<LobbyChange>> pendingChanges = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> lastPushedVersions = new ConcurrentHashMap<>();
+
+    public void record(UUID lobbyId, LobbyChange change) {
+        pendingChanges.compute(lobbyId, (id, changes) -> {
+            List<LobbyChange> list = changes != null ? changes : new ArrayList<>();
+            list.add(change);
+            return list;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.push.flush-interval-ms:250}")
+    public void flush() {
+        for (UUID lobbyId : pendingChanges.keySet()) {
+            // remove() hands the list over atomically; later changes start a new one
+            List<LobbyChange> changes = pendingChanges.remove(lobbyId);
+            if (changes == null) {
+                continue;
+            }
+            try {
+                push(lobbyId, changes);
+            } catch (Exception e) {
+                log.error("Failed to push {} changes for lobby: {}", changes.size(), lobbyId, e);
+            }
+        }
+    }
+
+    private void push(UUID lobbyId, List<LobbyChange> changes) {
+        Optional<Lobby> loaded = loadLobbyPort.findById(lobbyId);
+        if (loaded.isEmpty()) {
+            Long previous = lastPushedVersions.remove(lobbyId);
+            messagingTemplate.convertAndSend(LOBBY_TOPIC_PREFIX + lobbyId,
+                new LobbyDeltaFrame(lobbyId, null, previous, null, 0, null, changes));
+            messagingTemplate.convertAndSend(BROWSER_TOPIC, LobbyBrowserFrame.remove(lobbyId, null));
+            return;
+        }
+
+        Lobby lobby = loaded.get();
+        boolean finished = lobby.getStatus() == LobbyStatus.CANCELLED || lobby.getStatus() == LobbyStatus.COMPLETED;
+        Long previous = finished
+            ? lastPushedVersions.remove(lobbyId)
+            : lastPushedVersions.put(lobbyId, lobby.getVersion());
+
+        messagingTemplate.convertAndSend(LOBBY_TOPIC_PREFIX + lobbyId, new LobbyDeltaFrame(
+            lobbyId,
+            lobby.getVersion(),
+            previous,
+            lobby.getStatus(),
+            lobby.getPlayerIds().size(),
+            lobby.getMaxPlayers(),
+            changes
+        ));
+
+        if (lobby.getVisibility() == LobbyVisibility.PUBLIC) {
+            messagingTemplate.convertAndSend(BROWSER_TOPIC, toBrowserFrame(lobby));
+        }
+    }
+
+    private LobbyBrowserFrame toBrowserFrame(Lobby lobby) {
+        if (lobby.getStatus() != LobbyStatus.WAITING) {
+            return LobbyBrowserFrame.remove(lobby.getId(), lobby.getVersion());
+        }
+        return new LobbyBrowserFrame(
+            LobbyBrowserFrame.Action.UPSERT,
+            lobby.getId(),
+            lobby.getVersion(),
+            lobby.getName(),
+            lobby.getGameId(),
+            lobby.getHostId(),
+            lobby.getPlayerIds().size(),
+            lobby.getMaxPlayers()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.banditgames.platform.lobby.adapter.websocket.dto;
+
+import java.util.UUID;
+
+/**
+ * Frame pushed to {@code /topic/lobbies} for the public lobby browser.
+ *
+ * {@code UPSERT} carries the listing fields of an open public lobby; {@code REMOVE} means
+ * the lobby should disappear from the listing (started, cancelled or deleted).
+ */
+public record LobbyBrowserFrame(
+    Action action,
+    UUID lobbyId,
+    Long version,
+    String name,
+    UUID gameId,
+    UUID hostId,
+    int playerCount,
+    Integer maxPlayers
+) {
+
+    public enum Action {
+        UPSERT,
+        REMOVE
+    }
+
+    public static LobbyBrowserFrame remove(UUID lobbyId, Long version) {
+        return new LobbyBrowserFrame(Action.REMOVE, lobbyId, version, null, null, null, 0, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.banditgames.platform.lobby.adapter.websocket.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single change to a lobby, as carried in a delta frame.
+ *
+ * @param type     What happened
+ * @param playerId Player the change is about, if any
+ * @param at       When the change was committed
+ */
+public record LobbyChange(
+    Type type,
+    UUID playerId,
+    Instant at
+) {
+
+    public enum Type {
+        CREATED,
+        PLAYER_JOINED,
+        PLAYER_LEFT,
+        PLAYER_INVITED,
+        STARTED,
+        UPDATED
+    }
+}
@@ -0,0 +1,31 @@
+package com.banditgames.platform.lobby.adapter.websocket.dto;
+
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Frame pushed to {@code /topic/lobbies/{lobbyId}}.
+ *
+ * Clients apply {@code changes} to their copy of the lobby when it is at {@code previousVersion};
+ * on any other version they should reload the lobby over REST and continue from {@code version}.
+ *
+ * @param lobbyId         Lobby the frame is about
+ * @param version         Lobby version after the changes, or null when the lobby no longer exists
+ * @param previousVersion Version of the last frame this node pushed for this lobby, or null for its first frame
+ * @param status          Current lobby status
+ * @param playerCount     Number of seated players
+ * @param maxPlayers      Lobby capacity
+ * @param changes         Changes coalesced into this frame, oldest first
+ */
+public record LobbyDeltaFrame(
+    UUID lobbyId,
+    Long version,
+    Long previousVersion,
+    LobbyStatus status,
+    int playerCount,
+    Integer maxPlayers,
+    List<LobbyChange> changes
+) {
+}
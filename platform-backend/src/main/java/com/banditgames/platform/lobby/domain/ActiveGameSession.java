@@ -0,0 +1,31 @@
+package com.banditgames.platform.lobby.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A game-service session running for a lobby.
+ *
+ * @param sessionId Session ID assigned by the game service
+ * @param lobbyId   Lobby the session was started from
+ * @param playerIds Players seated when the session started
+ * @param startedAt When the session started
+ * @param endedAt   When the session ended, or null while it is running
+ */
+public record ActiveGameSession(
+    UUID sessionId,
+    UUID lobbyId,
+    List<UUID> playerIds,
+    Instant startedAt,
+    Instant endedAt
+) {
+
+    public ActiveGameSession endedAt(Instant endedAt) {
+        return new ActiveGameSession(sessionId, lobbyId, playerIds, startedAt, endedAt);
+    }
+
+    public boolean isEnded() {
+        return endedAt != null;
+    }
+}
@@ -37,6 +37,22 @@ public class Lobby {
     private List<UUID> invitedPlayerIds = new ArrayList<>();
     private LocalDateTime createdAt;
     private LocalDateTime startedAt;
+    /** Rank tier of the host when the lobby was created (0 = lowest rank), used by lobby search. */
+    private Integer hostRank;
+    /**
+     * Version of the row this lobby was loaded from, for information only. Saves apply changes to
+     * the entity re-read in the current transaction, so a conflict is detected only when another
+     * writer commits between that read and this transaction's flush, never against this value.
+     */
+    private Long version;
+
+    public int getPlayerCount() {
+        return playerIds.size();
+    }
+
+    public int getFreeSlots() {
+        return maxPlayers == null ? 0 : Math.max(0, maxPlayers - playerIds.size());
+    }
 
     /**
      * Validates and adds a player to the lobby.
@@ -100,6 +116,17 @@ public class Lobby {
         startedAt = LocalDateTime.now();
     }
 
+    /**
+     * Reopens a started lobby whose game could not be created, keeping the selected game.
+     * Does nothing once the game session is in progress.
+     */
+    public void abortStart() {
+        if (status == LobbyStatus.STARTED && sessionId == null) {
+            status = LobbyStatus.WAITING;
+            startedAt = null;
+        }
+    }
+
     /**
      * Completes the lobby after the game has ended.
      */
@@ -0,0 +1,51 @@
+package com.banditgames.platform.lobby.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters for the public lobby browser. Every criterion is optional; null or false means "any".
+ *
+ * @param gameId            Only lobbies for this game
+ * @param hostIds           Only lobbies hosted by one of these players
+ * @param onlyWithFreeSlots Only lobbies with at least one free seat
+ * @param minHostRank       Lowest host rank tier to include (0 = lowest rank)
+ * @param maxHostRank       Highest host rank tier to include
+ * @throws IllegalArgumentException if the lowest rank is above the highest
+ */
+public record LobbySearchCriteria(
+    UUID gameId,
+    List<UUID> hostIds,
+    boolean onlyWithFreeSlots,
+    Integer minHostRank,
+    Integer maxHostRank
+) {
+
+    public LobbySearchCriteria {
+        if (minHostRank != null && maxHostRank != null && minHostRank > maxHostRank) {
+            throw new IllegalArgumentException("minRank (" + minHostRank + ") must not be above maxRank (" + maxHostRank + ")");
+        }
+    }
+
+    public static LobbySearchCriteria of(UUID gameId, List<UUID> hostIds) {
+        return new LobbySearchCriteria(gameId, hostIds, false, null, null);
+    }
+
+    public boolean filtersHosts() {
+        return hostIds != null && !hostIds.isEmpty();
+    }
+
+    /**
+     * Checks the criteria that are not covered by the game and host indexes.
+     */
+    public boolean matchesSeatsAndRank(Lobby lobby) {
+        if (onlyWithFreeSlots && lobby.getFreeSlots() == 0) {
+            return false;
+        }
+        Integer rank = lobby.getHostRank();
+        if (minHostRank != null && (rank == null || rank < minHostRank)) {
+            return false;
+        }
+        return maxHostRank == null || (rank != null && rank <= maxHostRank);
+    }
+}
@@ -0,0 +1,25 @@
+package com.banditgames.platform.lobby.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A player's place in the matchmaking queue for one game.
+ *
+ * @param playerId   Queued player
+ * @param gameId     Game the player wants to play
+ * @param rankTier   Rank bucket the player was placed in (0 = lowest rank)
+ * @param enqueuedAt When the player joined the queue
+ */
+public record MatchmakingTicket(
+    UUID playerId,
+    UUID gameId,
+    int rankTier,
+    Instant enqueuedAt
+) {
+
+    public Duration waitedUntil(Instant now) {
+        return Duration.between(enqueuedAt, now);
+    }
+}
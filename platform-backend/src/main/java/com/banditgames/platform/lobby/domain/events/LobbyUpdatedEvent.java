@@ -0,0 +1,12 @@
+package com.banditgames.platform.lobby.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published when lobby details or status change outside of join/leave/start,
+ * e.g. a rename by the host or the reset to WAITING after a game has ended.
+ */
+public record LobbyUpdatedEvent(
+    UUID lobbyId
+) {
+}
@@ -0,0 +1,11 @@
+package com.banditgames.platform.lobby.domain.exception;
+
+/**
+ * The lobby kept changing concurrently and the operation gave up retrying; the caller may try again.
+ */
+public class LobbyBusyException extends LobbyOperationException {
+    
+    public LobbyBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.banditgames.platform.lobby.port.in;
+
+import com.banditgames.platform.lobby.domain.MatchmakingTicket;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MatchmakingUseCase {
+
+    /**
+     * Puts the player in the queue for the given game. Enqueueing again while
+     * already queued returns the existing ticket.
+     */
+    MatchmakingTicket enqueue(UUID playerId, UUID gameId);
+
+    /**
+     * Removes the player from the queue.
+     *
+     * @return true if the player was queued
+     */
+    boolean cancel(UUID playerId);
+
+    Optional<MatchmakingTicket> findTicket(UUID playerId);
+}
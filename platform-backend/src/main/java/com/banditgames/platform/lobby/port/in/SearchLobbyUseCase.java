@@ -1,12 +1,10 @@
 package com.banditgames.platform.lobby.port.in;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
-import java.util.UUID;
-
 public interface SearchLobbyUseCase {
-    Page<Lobby> searchLobbies(UUID gameId, List<UUID> hostIds, Pageable pageable);
+    Page<Lobby> searchLobbies(LobbySearchCriteria criteria, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package com.banditgames.platform.lobby.port.out;
+
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maps game-service sessions to the lobby they were started from, so session events
+ * can be routed without a database lookup.
+ */
+public interface GameSessionRegistryPort {
+
+    void register(ActiveGameSession session);
+
+    Optional<ActiveGameSession> find(UUID sessionId);
+
+    /**
+     * Records the end of a session. The entry stays readable for a short grace period so
+     * other consumers of the same session-ended message can still resolve it.
+     */
+    void markEnded(UUID sessionId, Instant endedAt);
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 public interface LoadExternalGameInstancePort {
     Optional<ExternalGameInstance> findByLobbyId(UUID lobbyId);
     Optional<ExternalGameInstance> findByLobbyIdAndGameType(UUID lobbyId, String gameType);
+    Optional<ExternalGameInstance> findByExternalGameInstanceId(UUID externalGameInstanceId);
 }
 
 
@@ -1,6 +1,7 @@
 package com.banditgames.platform.lobby.port.out;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,7 +13,9 @@ public interface LoadLobbyPort {
     Optional<Lobby> findById(UUID lobbyId);
     Optional<Lobby> findByHostIdAndStatus(UUID hostId, com.banditgames.platform.lobby.domain.LobbyStatus status);
     Optional<Lobby> findBySessionId(UUID sessionId);
-    Page<Lobby> searchLobbies(UUID gameId, List<UUID> hostIds, Pageable pageable);
+    Page<Lobby> searchLobbies(LobbySearchCriteria criteria, Pageable pageable);
     Optional<Lobby> findPlayerLobby(UUID playerId);
+    List<Lobby> findOpenLobbies();
+    List<Lobby> findLobbiesWithRunningSession();
 }
 
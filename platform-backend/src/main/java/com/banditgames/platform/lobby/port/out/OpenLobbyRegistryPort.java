@@ -0,0 +1,23 @@
+package com.banditgames.platform.lobby.port.out;
+
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Read model of the lobbies shown in the lobby browser (WAITING and PUBLIC).
+ */
+public interface OpenLobbyRegistryPort {
+    /**
+     * Stores the current state of a lobby, or drops it if it is no longer open.
+     */
+    void refresh(Lobby lobby);
+    void remove(UUID lobbyId);
+    void rebuild(Collection<Lobby> openLobbies);
+    boolean isReady();
+    Page<Lobby> search(LobbySearchCriteria criteria, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.banditgames.platform.lobby.port.out;
+
+import java.util.UUID;
+
+/**
+ * Port for reading a player's rank as an ordered tier, used to bucket matchmaking queues.
+ */
+public interface PlayerRankPort {
+
+    /**
+     * @return rank tier of the player, 0 being the lowest rank
+     */
+    int rankTier(UUID playerId);
+}
@@ -0,0 +1,32 @@
+package com.banditgames.platform.lobby.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk maintenance of lobby tables, used by the lobby reaper.
+ */
+public interface ReapLobbiesPort {
+
+    /**
+     * Cancels up to {@code limit} WAITING lobbies with no activity since {@code idleSince}
+     * and releases their members' active lobby seats.
+     *
+     * @return IDs of the cancelled lobbies
+     */
+    List<UUID> cancelIdleLobbies(LocalDateTime idleSince, int limit);
+
+    /**
+     * Moves up to {@code limit} cancelled or completed lobbies last touched before
+     * {@code finishedBefore} to the archive, removing their live rows.
+     */
+    ArchivedLobbies archiveFinishedLobbies(LocalDateTime finishedBefore, int limit);
+
+    /**
+     * @param lobbies number of lobbies archived
+     * @param rows    number of live rows deleted (lobbies, members, invites and game instance links)
+     */
+    record ArchivedLobbies(int lobbies, int rows) {
+    }
+}
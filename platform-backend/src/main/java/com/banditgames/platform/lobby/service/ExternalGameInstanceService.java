@@ -71,6 +71,17 @@ public class ExternalGameInstanceService {
                 .orElse(null);
     }
     
+    /**
+     * Retrieves the external game instance mapping for an external game instance ID.
+     * 
+     * @param externalGameInstanceId The external game instance ID
+     * @return The external game instance, or null if not found
+     */
+    public ExternalGameInstance findByExternalGameInstanceId(UUID externalGameInstanceId) {
+        return loadExternalGameInstancePort.findByExternalGameInstanceId(externalGameInstanceId)
+                .orElse(null);
+    }
+    
     /**
      * Checks if a lobby has an associated external game instance.
      * 
@@ -6,6 +6,7 @@ import com.banditgames.platform.lobby.domain.LobbyVisibility;
 import com.banditgames.platform.lobby.domain.events.LobbyCreatedEvent;
 import com.banditgames.platform.lobby.port.in.CreateLobbyUseCase;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.PlayerRankPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
 import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class CreateLobbyService implements CreateLobbyUseCase {
 
     private final LoadLobbyPort loadLobbyPort;
     private final SaveLobbyPort saveLobbyPort;
+    private final PlayerRankPort playerRankPort;
     private final PlatformEventPublisher eventPublisher;
 
     @Override
@@ -45,6 +47,7 @@ public class CreateLobbyService implements CreateLobbyUseCase {
             .visibility(isPrivate ? LobbyVisibility.PRIVATE : LobbyVisibility.PUBLIC)
             .invitedPlayerIds(new ArrayList<>())
             .createdAt(LocalDateTime.now())
+            .hostRank(playerRankPort.rankTier(hostId))
             .build();
 
         // Host automatically joins
@@ -5,13 +5,27 @@ import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
 import com.banditgames.platform.lobby.port.in.JoinLobbyUseCase;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
+import com.banditgames.platform.shared.concurrency.StripedLocks;
 import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
 
+/**
+ * Joins players to lobbies under contention.
+ *
+ * Joins to the same lobby are serialized per JVM through a striped lock, and the lobby
+ * version catches writers on other instances. A lost version race re-runs the whole
+ * transaction with fresh state, up to a bounded number of attempts.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JoinLobbyService implements JoinLobbyUseCase {
@@ -19,10 +33,45 @@ public class JoinLobbyService implements JoinLobbyUseCase {
     private final LoadLobbyPort loadLobbyPort;
     private final SaveLobbyPort saveLobbyPort;
     private final PlatformEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    
+    private final StripedLocks lobbyLocks = new StripedLocks(64);
+    
+    @Value("${lobby.join.max-attempts:5}")
+    private int maxAttempts = 5;
+    
+    @Value("${lobby.join.retry-backoff-ms:10}")
+    private long retryBackoffMillis = 10;
     
     @Override
-    @Transactional
     public Lobby joinLobby(UUID lobbyId, UUID playerId) {
+        Lock lock = lobbyLocks.forKey(lobbyId);
+        lock.lock();
+        try {
+            return joinWithRetry(lobbyId, playerId);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Lobby joinWithRetry(UUID lobbyId, UUID playerId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> attemptJoin(lobbyId, playerId));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up joining player {} to lobby {} after {} attempts", playerId, lobbyId, attempt);
+                    throw new com.banditgames.platform.lobby.domain.exception.LobbyBusyException(
+                        "Lobby is busy, please try again", e
+                    );
+                }
+                log.debug("Lobby {} changed concurrently, retrying join for player {} (attempt {})", lobbyId, playerId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+    
+    private Lobby attemptJoin(UUID lobbyId, UUID playerId) {
         // A player can only be in ONE lobby at a time
         // Check if player is already in another active lobby
         loadLobbyPort.findPlayerLobby(playerId).ifPresent(existingLobby -> {
@@ -52,5 +101,14 @@ public class JoinLobbyService implements JoinLobbyUseCase {
         
         return saved;
     }
+    
+    private void backOff(int attempt) {
+        long delay = retryBackoffMillis * attempt + ThreadLocalRandom.current().nextLong(retryBackoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new com.banditgames.platform.lobby.domain.exception.LobbyOperationException("Join interrupted", e);
+        }
+    }
 }
-
@@ -0,0 +1,113 @@
+package com.banditgames.platform.lobby.usecase;
+
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
+import com.banditgames.platform.lobby.port.out.ReapLobbiesPort;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically cancels abandoned lobbies and archives finished ones.
+ *
+ * Only the instance holding the {@value #LEASE_NAME} lease runs a pass. Work is done in
+ * bounded batches with a cap per pass, so a large backlog is worked off over several runs
+ * without long-running transactions.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbyReaperService {
+
+    static final String LEASE_NAME = "lobby-reaper";
+
+    private final ReapLobbiesPort reapLobbiesPort;
+    private final DistributedLease distributedLease;
+    private final PlatformEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lobby.reaper.idle-ttl-minutes:60}")
+    private long idleTtlMinutes = 60;
+
+    @Value("${lobby.reaper.archive-after-minutes:1440}")
+    private long archiveAfterMinutes = 1440;
+
+    @Value("${lobby.reaper.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${lobby.reaper.max-batches-per-run:25}")
+    private int maxBatchesPerRun = 25;
+
+    @Value("${lobby.reaper.lease-ttl-seconds:300}")
+    private long leaseTtlSeconds = 300;
+
+    /**
+     * Counts of one reaper pass.
+     */
+    record ReapReport(int cancelledLobbies, int archivedLobbies, int reclaimedRows) {
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.reaper.interval-ms:60000}", initialDelayString = "${lobby.reaper.initial-delay-ms:30000}")
+    public void reap() {
+        try {
+            if (!distributedLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseTtlSeconds))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire lobby reaper lease", e);
+            return;
+        }
+
+        try {
+            ReapReport report = reapOnce(LocalDateTime.now());
+            if (report.cancelledLobbies() > 0 || report.archivedLobbies() > 0) {
+                log.info("Lobby reaper cancelled {} idle lobbies, archived {} lobbies and reclaimed {} rows",
+                        report.cancelledLobbies(), report.archivedLobbies(), report.reclaimedRows());
+            }
+        } catch (Exception e) {
+            log.error("Lobby reaper pass failed", e);
+        } finally {
+            distributedLease.release(LEASE_NAME);
+        }
+    }
+
+    ReapReport reapOnce(LocalDateTime now) {
+        int cancelled = 0;
+        LocalDateTime idleSince = now.minusMinutes(idleTtlMinutes);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<UUID> lobbyIds = reapLobbiesPort.cancelIdleLobbies(idleSince, batchSize);
+            // Lets the open lobby registry and STOMP subscribers drop the cancelled lobbies
+            lobbyIds.forEach(lobbyId -> eventPublisher.publish(new LobbyUpdatedEvent(lobbyId)));
+            cancelled += lobbyIds.size();
+            if (lobbyIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        int archived = 0;
+        int reclaimedRows = 0;
+        LocalDateTime finishedBefore = now.minusMinutes(archiveAfterMinutes);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            ReapLobbiesPort.ArchivedLobbies result = reapLobbiesPort.archiveFinishedLobbies(finishedBefore, batchSize);
+            archived += result.lobbies();
+            reclaimedRows += result.rows();
+            if (result.lobbies() < batchSize) {
+                break;
+            }
+        }
+
+        meterRegistry.counter("lobby.reaper.cancelled").increment(cancelled);
+        meterRegistry.counter("lobby.reaper.archived").increment(archived);
+        meterRegistry.counter("lobby.reaper.reclaimed.rows").increment(reclaimedRows);
+        return new ReapReport(cancelled, archived, reclaimedRows);
+    }
+}
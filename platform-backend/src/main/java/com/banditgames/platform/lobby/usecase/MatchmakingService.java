@@ -0,0 +1,342 @@
+package com.banditgames.platform.lobby.usecase;
+
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.MatchmakingTicket;
+import com.banditgames.platform.lobby.port.in.CreateLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.InviteToLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.JoinLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.LeaveLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.MatchmakingUseCase;
+import com.banditgames.platform.lobby.port.in.StartLobbyUseCase;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.PlayerRankPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Rank-aware matchmaking queues.
+ *
+ * Each game has one FIFO queue per rank tier. Enqueueing only touches concurrent
+ * collections, so request threads never block on the matcher. A scheduled tick drains
+ * the queues, groups players whose tiers are within each other's search window, and
+ * turns every group into a private lobby that is started immediately. The window starts
+ * at the player's own tier and widens by one tier for every widen interval waited.
+ *
+ * A player whose step keeps failing when their group is turned into a lobby is dropped from
+ * the queue after a bounded number of attempts, so the rest of the group is not held back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchmakingService implements MatchmakingUseCase {
+
+    private final LoadLobbyPort loadLobbyPort;
+    private final PlayerRankPort playerRankPort;
+    private final CreateLobbyUseCase createLobbyUseCase;
+    private final InviteToLobbyUseCase inviteToLobbyUseCase;
+    private final JoinLobbyUseCase joinLobbyUseCase;
+    private final StartLobbyUseCase startLobbyUseCase;
+    private final LeaveLobbyUseCase leaveLobbyUseCase;
+    private final MeterRegistry meterRegistry;
+
+    // Live ticket per player; a queued ticket that is no longer here has been cancelled
+    private final ConcurrentHashMap<UUID, MatchmakingTicket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, ConcurrentHashMap<Integer, ConcurrentLinkedQueue<MatchmakingTicket>>> queues =
+        new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Timer> waitTimers = new ConcurrentHashMap<>();
+    // Failed matches blamed on each queued player; cleared once the player is matched or leaves the queue
+    private final ConcurrentHashMap<UUID, Integer> matchFailures = new ConcurrentHashMap<>();
+
+    @Value("${lobby.matchmaking.players-per-match:2}")
+    private int playersPerMatch = 2;
+
+    @Value("${lobby.matchmaking.widen-interval-ms:10000}")
+    private long widenIntervalMillis = 10_000;
+
+    @Value("${lobby.matchmaking.max-tier-window:4}")
+    private int maxTierWindow = 4;
+
+    @Value("${lobby.matchmaking.max-match-failures:3}")
+    private int maxMatchFailures = 3;
+
+    @Override
+    public MatchmakingTicket enqueue(UUID playerId, UUID gameId) {
+        if (gameId == null) {
+            throw new com.banditgames.platform.lobby.domain.exception.LobbyOperationException("Game ID is required to join matchmaking");
+        }
+
+        MatchmakingTicket existing = tickets.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (loadLobbyPort.findPlayerLobby(playerId).isPresent()) {
+            throw new com.banditgames.platform.lobby.domain.exception.LobbyOperationException(
+                "Player is already in an active lobby. Please leave your current lobby before joining matchmaking."
+            );
+        }
+
+        MatchmakingTicket ticket = new MatchmakingTicket(playerId, gameId, playerRankPort.rankTier(playerId), Instant.now());
+        MatchmakingTicket raced = tickets.putIfAbsent(playerId, ticket);
+        if (raced != null) {
+            return raced;
+        }
+
+        offer(ticket);
+        log.debug("Player {} queued for game {} in tier {}", playerId, gameId, ticket.rankTier());
+        return ticket;
+    }
+
+    @Override
+    public boolean cancel(UUID playerId) {
+        // Queued copies are skipped lazily by the matcher once the live ticket is gone
+        matchFailures.remove(playerId);
+        return tickets.remove(playerId) != null;
+    }
+
+    @Override
+    public Optional<MatchmakingTicket> findTicket(UUID playerId) {
+        return Optional.ofNullable(tickets.get(playerId));
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.matchmaking.tick-interval-ms:1000}")
+    public void tick() {
+        try {
+            int matches = matchAt(Instant.now());
+            if (matches > 0) {
+                log.info("Matchmaking created {} lobbies", matches);
+            }
+        } catch (Exception e) {
+            log.error("Matchmaking tick failed", e);
+        }
+    }
+
+    /**
+     * Runs one matching pass over all game queues.
+     *
+     * @return number of lobbies created
+     */
+    int matchAt(Instant now) {
+        int matches = 0;
+        for (Map.Entry<UUID, ConcurrentHashMap<Integer, ConcurrentLinkedQueue<MatchmakingTicket>>> queue : queues.entrySet()) {
+            matches += matchGame(queue.getKey(), queue.getValue(), now);
+        }
+        return matches;
+    }
+
+    private int matchGame(UUID gameId, Map<Integer, ConcurrentLinkedQueue<MatchmakingTicket>> buckets, Instant now) {
+        TreeMap<Integer, List<MatchmakingTicket>> waitingByTier = new TreeMap<>();
+        List<MatchmakingTicket> anchors = new ArrayList<>();
+        buckets.forEach((tier, bucket) -> {
+            MatchmakingTicket ticket;
+            while ((ticket = bucket.poll()) != null) {
+                if (tickets.get(ticket.playerId()) == ticket) {
+                    waitingByTier.computeIfAbsent(tier, t -> new ArrayList<>()).add(ticket);
+                    anchors.add(ticket);
+                }
+            }
+        });
+        if (anchors.size() < playersPerMatch) {
+            anchors.forEach(this::offer);
+            return 0;
+        }
+
+        // Longest-waiting players pick first, since their window is the widest
+        anchors.sort(Comparator.comparing(MatchmakingTicket::enqueuedAt));
+        Set<MatchmakingTicket> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        int matches = 0;
+
+        for (MatchmakingTicket anchor : anchors) {
+            if (used.contains(anchor)) {
+                continue;
+            }
+            List<MatchmakingTicket> group = formGroup(anchor, waitingByTier, used, now);
+            if (group.size() < playersPerMatch) {
+                continue;
+            }
+            used.addAll(group);
+            if (materialize(gameId, group, now)) {
+                matches++;
+            }
+        }
+
+        for (MatchmakingTicket ticket : anchors) {
+            if (!used.contains(ticket)) {
+                offer(ticket);
+            }
+        }
+        return matches;
+    }
+
+    private List<MatchmakingTicket> formGroup(MatchmakingTicket anchor, TreeMap<Integer, List<MatchmakingTicket>> waitingByTier,
+                                              Set<MatchmakingTicket> used, Instant now) {
+        List<MatchmakingTicket> group = new ArrayList<>(playersPerMatch);
+        group.add(anchor);
+        int window = tierWindow(anchor, now);
+
+        // Search outwards from the anchor's own tier so the closest ranks are preferred
+        for (int distance = 0; distance <= window && group.size() < playersPerMatch; distance++) {
+            for (int tier : distance == 0 ? List.of(anchor.rankTier()) : List.of(anchor.rankTier() - distance, anchor.rankTier() + distance)) {
+                for (MatchmakingTicket candidate : waitingByTier.getOrDefault(tier, List.of())) {
+                    if (group.size() >= playersPerMatch) {
+                        break;
+                    }
+                    if (candidate != anchor && !used.contains(candidate) && distance <= tierWindow(candidate, now)) {
+                        group.add(candidate);
+                    }
+                }
+            }
+        }
+        return group;
+    }
+
+    private int tierWindow(MatchmakingTicket ticket, Instant now) {
+        long waited = Math.max(0, ticket.waitedUntil(now).toMillis());
+        return (int) Math.min(maxTierWindow, waited / widenIntervalMillis);
+    }
+
+    /**
+     * Claims the group's tickets and creates, fills and starts their lobby.
+     * Players that could not be seated go back in the queue unless they joined a lobby meanwhile
+     * or failed the match too often.
+     */
+    private boolean materialize(UUID gameId, List<MatchmakingTicket> group, Instant now) {
+        List<MatchmakingTicket> claimed = new ArrayList<>(group.size());
+        for (MatchmakingTicket ticket : group) {
+            if (tickets.remove(ticket.playerId(), ticket)) {
+                claimed.add(ticket);
+            }
+        }
+        if (claimed.size() < group.size()) {
+            requeue(claimed, List.of());
+            return false;
+        }
+
+        try {
+            Lobby lobby = createMatch(gameId, group);
+            group.forEach(ticket -> {
+                matchFailures.remove(ticket.playerId());
+                waitTimer(gameId).record(ticket.waitedUntil(now));
+            });
+            log.debug("Matched {} players into lobby {}", group.size(), lobby.getId());
+            return true;
+        } catch (MatchFailedException e) {
+            log.warn("Failed to create matchmaking lobby for game {}: {}", gameId, e.getCause().getMessage());
+            requeue(group, e.blamed);
+            return false;
+        }
+    }
+
+    /**
+     * Creates, fills and starts the group's lobby. Every step commits on its own, so joins keep
+     * their per-lobby lock and conflict retry. A failed step cancels the lobby by having the
+     * host leave it, and is blamed on the player it was run for.
+     */
+    private Lobby createMatch(UUID gameId, List<MatchmakingTicket> group) {
+        MatchmakingTicket host = group.get(0);
+        Lobby lobby;
+        try {
+            lobby = createLobbyUseCase.createLobby(host.playerId(), "Ranked match", "Created by matchmaking", group.size(), true);
+        } catch (RuntimeException e) {
+            throw new MatchFailedException(List.of(host), e);
+        }
+
+        MatchmakingTicket joining = null;
+        try {
+            for (MatchmakingTicket ticket : group.subList(1, group.size())) {
+                joining = ticket;
+                inviteToLobbyUseCase.inviteToLobby(lobby.getId(), host.playerId(), ticket.playerId());
+                joinLobbyUseCase.joinLobby(lobby.getId(), ticket.playerId());
+            }
+            joining = null;
+            return startLobbyUseCase.startLobby(lobby.getId(), host.playerId(), gameId);
+        } catch (RuntimeException e) {
+            cancelLobby(lobby.getId(), host.playerId());
+            // A failed start is not down to one player, so the whole group shares the blame
+            throw new MatchFailedException(joining != null ? List.of(joining) : group, e);
+        }
+    }
+
+    private void cancelLobby(UUID lobbyId, UUID hostId) {
+        try {
+            leaveLobbyUseCase.leaveLobby(lobbyId, hostId);
+        } catch (RuntimeException e) {
+            // The reaper cancels the lobby once it has been idle long enough
+            log.error("Failed to cancel matchmaking lobby {} after a failed match", lobbyId, e);
+        }
+    }
+
+    private void requeue(List<MatchmakingTicket> group, List<MatchmakingTicket> blamed) {
+        for (MatchmakingTicket ticket : group) {
+            if (blamed.contains(ticket)
+                    && matchFailures.merge(ticket.playerId(), 1, Integer::sum) >= maxMatchFailures) {
+                matchFailures.remove(ticket.playerId());
+                log.warn("Dropping player {} from matchmaking for game {} after {} failed matches",
+                        ticket.playerId(), ticket.gameId(), maxMatchFailures);
+                continue;
+            }
+            if (loadLobbyPort.findPlayerLobby(ticket.playerId()).isEmpty()
+                    && tickets.putIfAbsent(ticket.playerId(), ticket) == null) {
+                offer(ticket);
+            } else {
+                matchFailures.remove(ticket.playerId());
+            }
+        }
+    }
+
+    private void offer(MatchmakingTicket ticket) {
+        queues.computeIfAbsent(ticket.gameId(), this::newGameQueue)
+            .computeIfAbsent(ticket.rankTier(), tier -> new ConcurrentLinkedQueue<>())
+            .offer(ticket);
+    }
+
+    private ConcurrentHashMap<Integer, ConcurrentLinkedQueue<MatchmakingTicket>> newGameQueue(UUID gameId) {
+        Gauge.builder("lobby.matchmaking.queued", tickets,
+                live -> live.values().stream().filter(ticket -> ticket.gameId().equals(gameId)).count())
+            .tag("game", gameId.toString())
+            .description("Players currently waiting in matchmaking")
+            .register(meterRegistry);
+        return new ConcurrentHashMap<>();
+    }
+
+    private Timer waitTimer(UUID gameId) {
+        return waitTimers.computeIfAbsent(gameId, id -> Timer.builder("lobby.matchmaking.wait")
+            .tag("game", id.toString())
+            .description("Time players spent in the matchmaking queue before being matched")
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    /**
+     * A step of turning a group into a lobby failed; carries the players it is blamed on.
+     */
+    private static class MatchFailedException extends RuntimeException {
+
+        private final transient List<MatchmakingTicket> blamed;
+
+        MatchFailedException(List<MatchmakingTicket> blamed, RuntimeException cause) {
+            super(cause.getMessage(), cause);
+            this.blamed = blamed;
+        }
+    }
+}
@@ -1,24 +1,28 @@
 package com.banditgames.platform.lobby.usecase;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import com.banditgames.platform.lobby.port.in.SearchLobbyUseCase;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.OpenLobbyRegistryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.UUID;
-
 @Service
 @RequiredArgsConstructor
 public class SearchLobbyService implements SearchLobbyUseCase {
     
     private final LoadLobbyPort loadLobbyPort;
+    private final OpenLobbyRegistryPort openLobbyRegistryPort;
     
     @Override
-    public Page<Lobby> searchLobbies(UUID gameId, List<UUID> hostIds, Pageable pageable) {
-        return loadLobbyPort.searchLobbies(gameId, hostIds, pageable);
+    public Page<Lobby> searchLobbies(LobbySearchCriteria criteria, Pageable pageable) {
+        // Served from memory once the registry has been loaded; the database is only hit during startup
+        if (openLobbyRegistryPort.isReady()) {
+            return openLobbyRegistryPort.search(criteria, pageable);
+        }
+        return loadLobbyPort.searchLobbies(criteria, pageable);
     }
 }
@@ -1,9 +1,11 @@
 package com.banditgames.platform.lobby.usecase;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
 import com.banditgames.platform.lobby.port.in.UpdateLobbyUseCase;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,7 @@ public class UpdateLobbyService implements UpdateLobbyUseCase {
     
     private final LoadLobbyPort loadLobbyPort;
     private final SaveLobbyPort saveLobbyPort;
+    private final PlatformEventPublisher eventPublisher;
     
     @Override
     @Transactional
@@ -35,7 +38,11 @@ public class UpdateLobbyService implements UpdateLobbyUseCase {
         lobby.setName(name);
         lobby.setDescription(description);
         
-        return saveLobbyPort.save(lobby);
+        Lobby saved = saveLobbyPort.save(lobby);
+        
+        eventPublisher.publish(new LobbyUpdatedEvent(saved.getId()));
+        
+        return saved;
     }
 }
 
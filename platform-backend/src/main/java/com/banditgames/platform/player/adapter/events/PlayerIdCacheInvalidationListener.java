@@ -0,0 +1,24 @@
+package com.banditgames.platform.player.adapter.events;
+
+import com.banditgames.platform.player.domain.events.PlayerUsernameChangedEvent;
+import com.banditgames.platform.player.port.in.ResolvePlayerIdUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached username lookups once a rename is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerIdCacheInvalidationListener {
+
+    private final ResolvePlayerIdUseCase resolvePlayerIdUseCase;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsernameChanged(PlayerUsernameChangedEvent event) {
+        resolvePlayerIdUseCase.evict(event.oldUsername());
+        resolvePlayerIdUseCase.evict(event.newUsername());
+    }
+}
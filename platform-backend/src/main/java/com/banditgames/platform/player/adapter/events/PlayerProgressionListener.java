@@ -0,0 +1,56 @@
+package com.banditgames.platform.player.adapter.events;
+
+import com.banditgames.platform.player.port.in.AwardExperienceUseCase;
+import com.banditgames.platform.shared.events.AchievementUnlockedDomainEvent;
+import com.banditgames.platform.shared.events.GameEndedDomainEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Translates game results and achievement unlocks into experience gains.
+ *
+ * Gains are queued only once the publishing transaction committed, so an unlock that is rolled
+ * back and redelivered (see ProcessedEvents) is not paid twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerProgressionListener {
+
+    private final AwardExperienceUseCase awardExperienceUseCase;
+
+    @Value("${player.progression.xp.win:100}")
+    private int winExp;
+
+    @Value("${player.progression.xp.participation:25}")
+    private int participationExp;
+
+    @Value("${player.progression.xp.achievement:50}")
+    private int achievementExp;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameEnded(GameEndedDomainEvent event) {
+        if (event.playerIds() != null) {
+            for (UUID playerId : event.playerIds()) {
+                if (!playerId.equals(event.winnerId())) {
+                    awardExperienceUseCase.awardExperience(playerId, participationExp);
+                }
+            }
+        }
+        if (event.winnerId() != null) {
+            awardExperienceUseCase.awardExperience(event.winnerId(), winExp);
+        }
+        log.debug("Queued experience for game in lobby: {}", event.lobbyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAchievementUnlocked(AchievementUnlockedDomainEvent event) {
+        awardExperienceUseCase.awardExperience(event.playerId(), achievementExp);
+    }
+}
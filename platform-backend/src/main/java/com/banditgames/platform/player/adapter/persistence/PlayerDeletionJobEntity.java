@@ -0,0 +1,58 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "player_deletion_jobs", indexes = {
+        @Index(name = "idx_player_deletion_jobs_player", columnList = "playerId"),
+        @Index(name = "idx_player_deletion_jobs_status", columnList = "status")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerDeletionJobEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID playerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlayerDeletionStatus status;
+
+    @Column(nullable = false)
+    private int stepIndex;
+
+    private String currentStep;
+
+    @Column(nullable = false)
+    private long deletedRows;
+
+    @Column(length = 1000)
+    private String error;
+
+    // Default for rows written before retries existed
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,50 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PlayerDeletionJobMapper {
+
+    public PlayerDeletionJob toDomain(PlayerDeletionJobEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return PlayerDeletionJob.builder()
+                .id(entity.getId())
+                .playerId(entity.getPlayerId())
+                .status(entity.getStatus())
+                .stepIndex(entity.getStepIndex())
+                .currentStep(entity.getCurrentStep())
+                .deletedRows(entity.getDeletedRows())
+                .error(entity.getError())
+                .attempts(entity.getAttempts())
+                .nextAttemptAt(entity.getNextAttemptAt())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .completedAt(entity.getCompletedAt())
+                .build();
+    }
+
+    public PlayerDeletionJobEntity toEntity(PlayerDeletionJob job) {
+        if (job == null) {
+            return null;
+        }
+
+        return PlayerDeletionJobEntity.builder()
+                .id(job.getId())
+                .playerId(job.getPlayerId())
+                .status(job.getStatus())
+                .stepIndex(job.getStepIndex())
+                .currentStep(job.getCurrentStep())
+                .deletedRows(job.getDeletedRows())
+                .error(job.getError())
+                .attempts(job.getAttempts())
+                .nextAttemptAt(job.getNextAttemptAt())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
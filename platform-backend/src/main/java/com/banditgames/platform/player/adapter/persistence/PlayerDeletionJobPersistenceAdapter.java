@@ -0,0 +1,41 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
+import com.banditgames.platform.player.port.out.PlayerDeletionJobPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class PlayerDeletionJobPersistenceAdapter implements PlayerDeletionJobPort {
+
+    private static final List<PlayerDeletionStatus> ACTIVE_STATUSES =
+            List.of(PlayerDeletionStatus.PENDING, PlayerDeletionStatus.RUNNING);
+
+    private final PlayerDeletionJobRepository repository;
+    private final PlayerDeletionJobMapper mapper;
+
+    @Override
+    public PlayerDeletionJob save(PlayerDeletionJob job) {
+        return mapper.toDomain(repository.save(mapper.toEntity(job)));
+    }
+
+    @Override
+    public Optional<PlayerDeletionJob> findLatestByPlayerId(UUID playerId) {
+        return repository.findFirstByPlayerIdOrderByCreatedAtDesc(playerId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<PlayerDeletionJob> findActive(int limit) {
+        return repository.findDue(ACTIVE_STATUSES, LocalDateTime.now(), PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
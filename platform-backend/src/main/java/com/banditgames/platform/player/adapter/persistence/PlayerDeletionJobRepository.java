@@ -0,0 +1,26 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PlayerDeletionJobRepository extends JpaRepository<PlayerDeletionJobEntity, UUID> {
+
+    Optional<PlayerDeletionJobEntity> findFirstByPlayerIdOrderByCreatedAtDesc(UUID playerId);
+
+    @Query("""
+        SELECT j FROM PlayerDeletionJobEntity j
+        WHERE j.status IN :statuses AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now)
+        ORDER BY j.createdAt ASC
+        """)
+    List<PlayerDeletionJobEntity> findDue(Collection<PlayerDeletionStatus> statuses, LocalDateTime now, Pageable pageable);
+}
@@ -6,13 +6,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "players")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -47,5 +50,8 @@ public class PlayerEntity {
     @Column(nullable = false)
     @Builder.Default
     private Integer exp = 0;
+
+    // Set when the player requested deletion; the row is hidden until the cleanup job removes it
+    private LocalDateTime deletedAt;
 }
 
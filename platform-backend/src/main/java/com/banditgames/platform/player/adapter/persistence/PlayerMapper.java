@@ -4,6 +4,8 @@ import com.banditgames.platform.player.domain.Player;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 public class PlayerMapper {
@@ -26,6 +28,24 @@ public class PlayerMapper {
                 .build();
     }
 
+    public Player toDomain(PlayerSummaryProjection projection, List<UUID> gamePreferences) {
+        if (projection == null) {
+            return null;
+        }
+
+        return Player.builder()
+                .playerId(projection.getPlayerId())
+                .username(projection.getUsername())
+                .bio(projection.getBio())
+                .gamePreferences(gamePreferences != null ?
+                    new ArrayList<>(gamePreferences) : new ArrayList<>())
+                .email(projection.getEmail())
+                .address(projection.getAddress())
+                .rank(projection.getRank())
+                .exp(projection.getExp())
+                .build();
+    }
+
     public PlayerEntity toEntity(Player player) {
         if (player == null) {
             return null;
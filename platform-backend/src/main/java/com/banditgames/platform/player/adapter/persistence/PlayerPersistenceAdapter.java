@@ -5,42 +5,78 @@ import com.banditgames.platform.player.domain.Rank;
 import com.banditgames.platform.player.port.out.DeletePlayerPort;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import com.banditgames.platform.player.port.out.SavePlayerPort;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class PlayerPersistenceAdapter implements LoadPlayerPort, SavePlayerPort, DeletePlayerPort {
 
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
 
+    // Ids confirmed to exist in the players table; lets the per-request sync skip the database.
+    // Per node, so deletions on other nodes are only noticed once the entry expires
+    private final Cache<UUID, Boolean> knownPlayerIds;
+
+    public PlayerPersistenceAdapter(
+            PlayerRepository playerRepository,
+            PlayerMapper playerMapper,
+            @Value("${player.known-ids.max-entries:100000}") long maxKnownIds,
+            @Value("${player.known-ids.ttl-ms:600000}") long knownIdTtlMillis
+    ) {
+        this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+        this.knownPlayerIds = Caffeine.newBuilder()
+                .maximumSize(maxKnownIds)
+                .expireAfterWrite(Duration.ofMillis(knownIdTtlMillis))
+                .build();
+    }
+
     @Override
     public Optional<Player> findById(UUID playerId) {
         return playerRepository.findById(playerId)
                 .map(playerMapper::toDomain);
     }
 
+    @Override
+    public Optional<UUID> findPlayerIdByUsername(String username) {
+        return playerRepository.findPlayerIdByUsername(username);
+    }
+
+    @Override
+    public List<Player> findAllByIds(Collection<UUID> playerIds) {
+        if (playerIds == null || playerIds.isEmpty()) {
+            return List.of();
+        }
+        return withPreferences(playerRepository.findByPlayerIdIn(playerIds));
+    }
+
     @Override
     public List<Player> findPlayerFriends(UUID playerId){
-        return playerRepository.findPlayerFriends(playerId).stream()
-                .map(playerMapper::toDomain).toList();
+        return withPreferences(playerRepository.findPlayerFriends(playerId));
     }
 
     @Override
     public Page<Player> searchPlayers(String username, Rank rank, Pageable pageable) {
-        return playerRepository.findAllByUsernameOrRank(username, rank, pageable).map(playerMapper::toDomain);
+        return withPreferences(playerRepository.findAllByUsernameOrRank(username, rank, pageable));
     }
 
     @Override
     public Page<Player> searchPlayersForUser(UUID userId, String username, Rank rank, Pageable pageable) {
-        return playerRepository.searchPlayersForUser(userId, username, rank, pageable).map(playerMapper::toDomain);
+        return withPreferences(playerRepository.searchPlayersForUser(userId, username, rank, pageable));
     }
 
     @Override
@@ -50,9 +86,59 @@ public class PlayerPersistenceAdapter implements LoadPlayerPort, SavePlayerPort,
         return playerMapper.toDomain(saved);
     }
 
+    @Override
+    public boolean createIfAbsent(Player player) {
+        if (knownPlayerIds.getIfPresent(player.getPlayerId()) != null) {
+            return false;
+        }
+
+        int inserted = playerRepository.insertIfAbsent(
+                player.getPlayerId(),
+                player.getUsername(),
+                player.getBio(),
+                player.getEmail(),
+                player.getAddress(),
+                player.getRank() != null ? player.getRank().name() : Rank.BRONZE.name(),
+                player.getExp() != null ? player.getExp() : 0
+        );
+        knownPlayerIds.put(player.getPlayerId(), Boolean.TRUE);
+        return inserted > 0;
+    }
+
+    @Override
+    public void markDeleted(UUID playerId) {
+        playerRepository.markDeleted(playerId);
+        knownPlayerIds.invalidate(playerId);
+    }
+
     @Override
     public void deleteById(UUID playerId) {
-        playerRepository.deleteById(playerId);
+        playerRepository.hardDeleteById(playerId);
+        knownPlayerIds.invalidate(playerId);
     }
-}
 
+    private Page<Player> withPreferences(Page<PlayerSummaryProjection> page) {
+        return new PageImpl<>(withPreferences(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Maps projected rows to domain players, loading the game preferences of all rows
+     * with a single query instead of one collection fetch per player.
+     */
+    private List<Player> withPreferences(List<PlayerSummaryProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = rows.stream().map(PlayerSummaryProjection::getPlayerId).toList();
+        Map<UUID, List<UUID>> preferences = playerRepository.findPreferencesByPlayerIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        PlayerPreferenceRow::playerId,
+                        Collectors.mapping(PlayerPreferenceRow::gameId, Collectors.toList())
+                ));
+
+        return rows.stream()
+                .map(row -> playerMapper.toDomain(row, preferences.get(row.getPlayerId())))
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import java.util.UUID;
+
+/**
+ * A single row of the player_game_preferences table, used to batch-load preferences for a page of players.
+ */
+public record PlayerPreferenceRow(UUID playerId, UUID gameId) {
+}
@@ -0,0 +1,62 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.Rank;
+import com.banditgames.platform.player.port.out.UpdatePlayerProgressPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies buffered experience gains with set-based statements.
+ *
+ * Increments are relative ({@code exp = exp + ?}), so no player row has to be read or
+ * locked before it is updated, and all deltas of one flush go out as a single JDBC batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerProgressPersistenceAdapter implements UpdatePlayerProgressPort {
+
+    private static final String ADD_EXP_SQL =
+            "UPDATE players SET exp = exp + :delta WHERE player_id = :playerId";
+
+    private static final String PROMOTE_SQL =
+            "UPDATE players SET rank = " + rankCaseExpression() + " WHERE player_id IN (:playerIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void applyExperience(Map<UUID, Integer> expDeltas) {
+        if (expDeltas.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = expDeltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("playerId", entry.getKey())
+                        .addValue("delta", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ADD_EXP_SQL, batch);
+
+        jdbcTemplate.update(PROMOTE_SQL, new MapSqlParameterSource("playerIds", expDeltas.keySet()));
+    }
+
+    /**
+     * Builds {@code CASE WHEN exp >= 20000 THEN 'DIAMOND' ... ELSE 'BRONZE' END} from the rank thresholds.
+     */
+    private static String rankCaseExpression() {
+        Rank[] ranks = Rank.values();
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int i = ranks.length - 1; i > 0; i--) {
+            sql.append(" WHEN exp >= ").append(ranks[i].getMinExp())
+                    .append(" THEN '").append(ranks[i].name()).append("'");
+        }
+        return sql.append(" ELSE '").append(ranks[0].name()).append("' END").toString();
+    }
+}
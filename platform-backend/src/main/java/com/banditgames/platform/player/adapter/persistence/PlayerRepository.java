@@ -4,29 +4,47 @@ import com.banditgames.platform.player.domain.Rank;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, UUID> {
 
-    Page<PlayerEntity> findAllByUsernameOrRank(String username, Rank rank, Pageable pageable);
+    Page<PlayerSummaryProjection> findAllByUsernameOrRank(String username, Rank rank, Pageable pageable);
 
-    @Query("""
-    SELECT p
+    List<PlayerSummaryProjection> findByPlayerIdIn(Collection<UUID> playerIds);
+
+    @Query("SELECT p.playerId FROM PlayerEntity p WHERE p.username = :username")
+    Optional<UUID> findPlayerIdByUsername(String username);
+
+    @Query(value = """
+    SELECT p.playerId AS playerId, p.username AS username, p.bio AS bio, p.email AS email,
+           p.address AS address, p.rank AS rank, p.exp AS exp
+    FROM PlayerEntity p
+    WHERE p.playerId <> :userId
+      AND (:username IS NULL OR :username = ''
+           OR LOWER(p.username) LIKE LOWER(CONCAT('%', :username, '%')))
+      AND (:rank IS NULL OR p.rank = :rank)
+""", countQuery = """
+    SELECT COUNT(p)
     FROM PlayerEntity p
     WHERE p.playerId <> :userId
       AND (:username IS NULL OR :username = ''
            OR LOWER(p.username) LIKE LOWER(CONCAT('%', :username, '%')))
       AND (:rank IS NULL OR p.rank = :rank)
 """)
-    Page<PlayerEntity> searchPlayersForUser(UUID userId, String username, Rank rank, Pageable page);
+    Page<PlayerSummaryProjection> searchPlayersForUser(UUID userId, String username, Rank rank, Pageable page);
 
     @Query("""
-        SELECT DISTINCT p
+        SELECT DISTINCT p.playerId AS playerId, p.username AS username, p.bio AS bio, p.email AS email,
+               p.address AS address, p.rank AS rank, p.exp AS exp
         FROM PlayerEntity p, FriendshipEntity f
         WHERE f.status = 'ACCEPTED'
           AND (
@@ -35,7 +53,48 @@ public interface PlayerRepository extends JpaRepository<PlayerEntity, UUID> {
             (f.addresseeId = :playerId AND p.playerId = f.requesterId)
           )
 """)
-    List<PlayerEntity> findPlayerFriends(UUID playerId);
+    List<PlayerSummaryProjection> findPlayerFriends(UUID playerId);
 
-}
+    @Query("""
+        SELECT new com.banditgames.platform.player.adapter.persistence.PlayerPreferenceRow(p.playerId, g)
+        FROM PlayerEntity p JOIN p.gamePreferences g
+        WHERE p.playerId IN :playerIds
+""")
+    List<PlayerPreferenceRow> findPreferencesByPlayerIds(Collection<UUID> playerIds);
 
+    /**
+     * Inserts a player row in a single statement, doing nothing if the id is already taken.
+     * Concurrent first requests for the same user therefore cannot fail on the primary key.
+     *
+     * @return number of inserted rows (0 or 1)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO players (player_id, username, bio, email, address, rank, exp)
+        VALUES (:playerId, :username, :bio, :email, :address, :rank, :exp)
+        ON CONFLICT (player_id) DO NOTHING
+""", nativeQuery = true)
+    int insertIfAbsent(UUID playerId, String username, String bio, String email,
+                       String address, String rank, Integer exp);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE players SET deleted_at = now() WHERE player_id = :playerId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int markDeleted(UUID playerId);
+
+    /**
+     * Physically removes a player row together with its preferences, including tombstoned rows
+     * that the entity-level restriction hides from derived queries.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH removed_preferences AS (
+            DELETE FROM player_game_preferences WHERE player_id = :playerId
+        )
+        DELETE FROM players WHERE player_id = :playerId
+""", nativeQuery = true)
+    int hardDeleteById(UUID playerId);
+}
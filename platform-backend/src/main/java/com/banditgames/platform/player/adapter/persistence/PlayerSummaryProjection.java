@@ -0,0 +1,22 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.Rank;
+
+import java.util.UUID;
+
+/**
+ * Closed projection over the scalar columns of the players table.
+ *
+ * List-style queries select through this projection so that the eager
+ * game preference collection on {@link PlayerEntity} is not initialized
+ * once per row; preferences are fetched for the whole page in one query.
+ */
+public interface PlayerSummaryProjection {
+    UUID getPlayerId();
+    String getUsername();
+    String getBio();
+    String getEmail();
+    String getAddress();
+    Rank getRank();
+    Integer getExp();
+}
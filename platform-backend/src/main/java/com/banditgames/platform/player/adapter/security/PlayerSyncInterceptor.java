@@ -2,7 +2,6 @@ package com.banditgames.platform.player.adapter.security;
 
 import com.banditgames.platform.player.domain.Player;
 import com.banditgames.platform.player.domain.Rank;
-import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import com.banditgames.platform.player.port.out.SavePlayerPort;
 import com.banditgames.platform.shared.filter.GatewayUserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +20,6 @@ import java.util.ArrayList;
 @Slf4j
 public class PlayerSyncInterceptor implements HandlerInterceptor {
 
-    private final LoadPlayerPort loadPlayerPort;
     private final SavePlayerPort savePlayerPort;
 
     @Override
@@ -37,26 +35,23 @@ public class PlayerSyncInterceptor implements HandlerInterceptor {
 
         GatewayUserPrincipal principal = (GatewayUserPrincipal) authentication.getPrincipal();
 
-        if (loadPlayerPort.findById(principal.getUserId()).isEmpty()) {
-            String email = principal.getEmail();
-            String username = principal.getUsername();
-
-            Player newPlayer = Player.builder()
-                    .playerId(principal.getUserId())
-                    .username(username)
-                    .email(email)
-                    .bio("")
-                    .address(null)
-                    .rank(Rank.BRONZE)
-                    .exp(0)
-                    .gamePreferences(new ArrayList<>())
-                    .build();
-
-            savePlayerPort.save(newPlayer);
-
+        String username = principal.getUsername();
+
+        Player newPlayer = Player.builder()
+                .playerId(principal.getUserId())
+                .username(username)
+                .email(principal.getEmail())
+                .bio("")
+                .address(null)
+                .rank(Rank.BRONZE)
+                .exp(0)
+                .gamePreferences(new ArrayList<>())
+                .build();
+
+        // Known players are answered from memory; first-time users get a single upsert-style insert
+        if (savePlayerPort.createIfAbsent(newPlayer)) {
             log.info("Auto-created player profile for user: {} with username: {}", principal.getUserId(), username);
-                    }
-
+        }
 
         return true;
     }
@@ -1,8 +1,10 @@
 package com.banditgames.platform.player.adapter.web;
 
+import com.banditgames.platform.player.adapter.web.dto.PlayerDeletionJobResponse;
 import com.banditgames.platform.player.adapter.web.dto.PlayerResponse;
 import com.banditgames.platform.player.adapter.web.dto.UpdatePlayerRequest;
 import com.banditgames.platform.player.domain.Player;
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
 import com.banditgames.platform.player.domain.Rank;
 import com.banditgames.platform.player.port.in.DeletePlayerUseCase;
 import com.banditgames.platform.player.port.in.GetPlayerUseCase;
@@ -458,14 +460,17 @@ public class PlayerController {
 
     @Operation(
         summary = "Delete authenticated player's profile",
-        description = "Permanently deletes the profile of the currently authenticated player. This action cannot be undone. " +
-                "All player data including username, bio, game preferences, and statistics will be permanently removed from the system. " +
-                "The user's Keycloak account will remain active, but they will need to create a new player profile to use the platform again."
+        description = "Deletes the profile of the currently authenticated player. This action cannot be undone. " +
+                "The profile is hidden immediately; messages, friendships, lobby memberships, statistics and achievements " +
+                "are then removed in the background. Use GET /api/players/deletion to follow the progress. " +
+                "The user's Keycloak account will remain active, and a new player profile is created on their next request " +
+                "once the deletion has completed."
     )
     @ApiResponses(value = {
         @ApiResponse(
-            responseCode = "204",
-            description = "Player profile deleted successfully. No content is returned."
+            responseCode = "202",
+            description = "Player profile hidden and deletion scheduled",
+            content = @Content(schema = @Schema(implementation = PlayerDeletionJobResponse.class))
         ),
         @ApiResponse(
             responseCode = "401",
@@ -487,10 +492,33 @@ public class PlayerController {
         )
     })
     @DeleteMapping
-    public ResponseEntity<Void> deletePlayer() {
+    public ResponseEntity<PlayerDeletionJobResponse> deletePlayer() {
         UUID userId = AuthUtils.getCurrentUserId();
-        deletePlayerUseCase.deletePlayer(userId);
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        PlayerDeletionJob job = deletePlayerUseCase.deletePlayer(userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(PlayerDeletionJobResponse.fromDomain(job));
     }
-}
 
+    @Operation(
+        summary = "Get deletion progress of authenticated player",
+        description = "Returns the most recent deletion job of the currently authenticated player."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Deletion job found",
+            content = @Content(schema = @Schema(implementation = PlayerDeletionJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No deletion was requested for this player"
+        )
+    })
+    @GetMapping("/deletion")
+    public ResponseEntity<PlayerDeletionJobResponse> getDeletionProgress() {
+        UUID userId = AuthUtils.getCurrentUserId();
+        return deletePlayerUseCase.getDeletionJob(userId)
+                .map(PlayerDeletionJobResponse::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
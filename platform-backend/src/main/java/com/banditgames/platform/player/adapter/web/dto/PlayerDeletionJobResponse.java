@@ -0,0 +1,57 @@
+package com.banditgames.platform.player.adapter.web.dto;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of an asynchronous player deletion")
+public class PlayerDeletionJobResponse {
+
+    @Schema(description = "Deletion job identifier", example = "9b2f1c44-2f0e-4a53-9a43-5a1d7c2b8e10")
+    private UUID jobId;
+
+    @Schema(description = "Player being deleted", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID playerId;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private PlayerDeletionStatus status;
+
+    @Schema(description = "Cleanup step currently in progress", example = "chat-messages")
+    private String currentStep;
+
+    @Schema(description = "Number of dependent rows removed so far", example = "1500")
+    private long deletedRows;
+
+    @Schema(description = "Failure reason when status is FAILED")
+    private String error;
+
+    @Schema(description = "When the deletion was requested", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the deletion finished", example = "2024-01-15T10:30:12")
+    private LocalDateTime completedAt;
+
+    public static PlayerDeletionJobResponse fromDomain(PlayerDeletionJob job) {
+        return PlayerDeletionJobResponse.builder()
+                .jobId(job.getId())
+                .playerId(job.getPlayerId())
+                .status(job.getStatus())
+                .currentStep(job.getCurrentStep())
+                .deletedRows(job.getDeletedRows())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
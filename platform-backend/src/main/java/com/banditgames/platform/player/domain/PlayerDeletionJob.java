@@ -0,0 +1,105 @@
+package com.banditgames.platform.player.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tracks the asynchronous removal of a player's data.
+ *
+ * The job walks through an ordered list of cleanup steps (one per module owning player data)
+ * and finally removes the player row itself. {@code currentStep} names the step currently
+ * being worked on, so a restarted application resumes where it left off even if steps were
+ * added or removed in between; {@code stepIndex} only counts the steps finished so far.
+ *
+ * A failing step is retried after a growing delay; {@code attempts} counts consecutive
+ * failures and is reset whenever a chunk goes through.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerDeletionJob {
+    private UUID id;
+    private UUID playerId;
+
+    @Builder.Default
+    private PlayerDeletionStatus status = PlayerDeletionStatus.PENDING;
+
+    private int stepIndex;
+    private String currentStep;
+    private long deletedRows;
+    private String error;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static PlayerDeletionJob start(UUID playerId) {
+        LocalDateTime now = LocalDateTime.now();
+        return PlayerDeletionJob.builder()
+                .id(UUID.randomUUID())
+                .playerId(playerId)
+                .status(PlayerDeletionStatus.PENDING)
+                .stepIndex(0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public void recordChunk(int deleted) {
+        this.status = PlayerDeletionStatus.RUNNING;
+        this.deletedRows += deleted;
+        this.error = null;
+        this.attempts = 0;
+        this.nextAttemptAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void startStep(String stepName) {
+        this.currentStep = stepName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(String stepName) {
+        this.stepIndex++;
+        this.currentStep = stepName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Records a failed attempt at the current step; the job is picked up again after the delay.
+     */
+    public void retryLater(String error, Duration delay) {
+        this.attempts++;
+        this.error = error;
+        this.updatedAt = LocalDateTime.now();
+        this.nextAttemptAt = this.updatedAt.plus(delay);
+    }
+
+    public void complete() {
+        this.status = PlayerDeletionStatus.COMPLETED;
+        this.currentStep = null;
+        this.updatedAt = LocalDateTime.now();
+        this.completedAt = this.updatedAt;
+    }
+
+    public void fail(String error) {
+        this.status = PlayerDeletionStatus.FAILED;
+        this.attempts++;
+        this.error = error;
+        this.nextAttemptAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == PlayerDeletionStatus.COMPLETED || status == PlayerDeletionStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.banditgames.platform.player.domain;
+
+public enum PlayerDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
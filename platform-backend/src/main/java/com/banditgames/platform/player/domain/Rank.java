@@ -1,9 +1,32 @@
 package com.banditgames.platform.player.domain;
 
 public enum Rank {
-    BRONZE,
-    SILVER,
-    GOLD,
-    PLATINUM,
-    DIAMOND,
+    BRONZE(0),
+    SILVER(1_000),
+    GOLD(5_000),
+    PLATINUM(10_000),
+    DIAMOND(20_000);
+
+    private final int minExp; // Experience required to reach this rank
+
+    Rank(int minExp) {
+        this.minExp = minExp;
+    }
+
+    public int getMinExp() {
+        return minExp;
+    }
+
+    /**
+     * Returns the highest rank whose experience threshold is reached.
+     */
+    public static Rank forExp(int exp) {
+        Rank result = BRONZE;
+        for (Rank rank : values()) {
+            if (exp >= rank.minExp) {
+                result = rank;
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,10 @@
+package com.banditgames.platform.player.domain.events;
+
+import java.util.UUID;
+
+public record PlayerUsernameChangedEvent(
+    UUID playerId,
+    String oldUsername,
+    String newUsername
+) {
+}
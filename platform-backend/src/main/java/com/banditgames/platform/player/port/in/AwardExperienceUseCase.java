@@ -0,0 +1,11 @@
+package com.banditgames.platform.player.port.in;
+
+import java.util.UUID;
+
+public interface AwardExperienceUseCase {
+    /**
+     * Records an experience gain for a player. Gains are buffered and applied asynchronously,
+     * so the player's stored exp and rank may lag behind by up to one flush interval.
+     */
+    void awardExperience(UUID playerId, int amount);
+}
@@ -1,8 +1,17 @@
 package com.banditgames.platform.player.port.in;
 
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DeletePlayerUseCase {
-    void deletePlayer(UUID playerId);
-}
+    /**
+     * Hides the player immediately and schedules removal of all of its data.
+     *
+     * @return the deletion job tracking the cleanup
+     */
+    PlayerDeletionJob deletePlayer(UUID playerId);
 
+    Optional<PlayerDeletionJob> getDeletionJob(UUID playerId);
+}
@@ -2,6 +2,7 @@ package com.banditgames.platform.player.port.in;
 
 import com.banditgames.platform.player.domain.Player;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +10,8 @@ import java.util.UUID;
 public interface GetPlayerUseCase {
     Optional<Player> getPlayer(UUID playerId);
 
+    List<Player> getPlayers(Collection<UUID> playerIds);
+
     List<Player> getPlayerFriends(UUID playerId);
 }
 
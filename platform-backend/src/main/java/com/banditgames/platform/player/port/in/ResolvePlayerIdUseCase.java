@@ -0,0 +1,13 @@
+package com.banditgames.platform.player.port.in;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ResolvePlayerIdUseCase {
+    /**
+     * Resolves a username to a player id using an exact (case-sensitive) match.
+     */
+    Optional<UUID> resolvePlayerId(String username);
+
+    void evict(String username);
+}
@@ -3,6 +3,13 @@ package com.banditgames.platform.player.port.out;
 import java.util.UUID;
 
 public interface DeletePlayerPort {
+    /**
+     * Tombstones the player so it is no longer visible, without touching dependent data.
+     */
+    void markDeleted(UUID playerId);
+
+    /**
+     * Physically removes the player row.
+     */
     void deleteById(UUID playerId);
 }
-
@@ -0,0 +1,16 @@
+package com.banditgames.platform.player.port.out;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PlayerDeletionJobPort {
+    PlayerDeletionJob save(PlayerDeletionJob job);
+    Optional<PlayerDeletionJob> findLatestByPlayerId(UUID playerId);
+    /**
+     * Pending or running jobs that are not waiting out a retry delay, oldest first.
+     */
+    List<PlayerDeletionJob> findActive(int limit);
+}
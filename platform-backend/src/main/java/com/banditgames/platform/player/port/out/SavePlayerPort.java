@@ -4,5 +4,11 @@ import com.banditgames.platform.player.domain.Player;
 
 public interface SavePlayerPort {
     Player save(Player player);
-}
 
+    /**
+     * Creates the player profile unless a profile with the same id already exists.
+     *
+     * @return true if a new profile was inserted, false if it was already present
+     */
+    boolean createIfAbsent(Player player);
+}
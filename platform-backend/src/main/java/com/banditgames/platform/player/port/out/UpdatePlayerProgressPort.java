@@ -0,0 +1,11 @@
+package com.banditgames.platform.player.port.out;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface UpdatePlayerProgressPort {
+    /**
+     * Adds the given experience deltas to the players and promotes their rank where a threshold is crossed.
+     */
+    void applyExperience(Map<UUID, Integer> expDeltas);
+}
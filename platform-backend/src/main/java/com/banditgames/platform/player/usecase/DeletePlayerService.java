@@ -1,29 +1,43 @@
 package com.banditgames.platform.player.usecase;
 
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
 import com.banditgames.platform.player.domain.exception.PlayerNotFoundException;
 import com.banditgames.platform.player.port.in.DeletePlayerUseCase;
 import com.banditgames.platform.player.port.out.DeletePlayerPort;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import com.banditgames.platform.player.port.out.PlayerDeletionJobPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Tombstones the player right away and hands the actual data removal to
+ * {@link PlayerDeletionJobProcessor}, which works through it in small chunks.
+ */
 @Service
 @RequiredArgsConstructor
 public class DeletePlayerService implements DeletePlayerUseCase {
 
     private final LoadPlayerPort loadPlayerPort;
     private final DeletePlayerPort deletePlayerPort;
+    private final PlayerDeletionJobPort playerDeletionJobPort;
 
     @Override
     @Transactional
-    public void deletePlayer(UUID playerId) {
+    public PlayerDeletionJob deletePlayer(UUID playerId) {
         loadPlayerPort.findById(playerId)
                 .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + playerId));
-        
-        deletePlayerPort.deleteById(playerId);
+
+        deletePlayerPort.markDeleted(playerId);
+
+        return playerDeletionJobPort.save(PlayerDeletionJob.start(playerId));
     }
-}
 
+    @Override
+    public Optional<PlayerDeletionJob> getDeletionJob(UUID playerId) {
+        return playerDeletionJobPort.findLatestByPlayerId(playerId);
+    }
+}
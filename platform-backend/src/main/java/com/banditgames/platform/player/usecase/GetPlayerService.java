@@ -6,6 +6,7 @@ import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +22,11 @@ public class GetPlayerService implements GetPlayerUseCase {
         return loadPlayerPort.findById(playerId);
     }
 
+    @Override
+    public List<Player> getPlayers(Collection<UUID> playerIds) {
+        return loadPlayerPort.findAllByIds(playerIds);
+    }
+
     @Override
     public List<Player> getPlayerFriends(UUID playerId) {
         return loadPlayerPort.findPlayerFriends(playerId);
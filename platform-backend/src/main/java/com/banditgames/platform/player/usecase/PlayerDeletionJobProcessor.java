@@ -0,0 +1,156 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import com.banditgames.platform.player.port.out.DeletePlayerPort;
+import com.banditgames.platform.player.port.out.PlayerDeletionJobPort;
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Drives pending player deletion jobs.
+ *
+ * Every tick advances each active job by one chunk of its current cleanup step; the tick
+ * interval therefore throttles how fast dependent rows are deleted. Once every module's
+ * {@link PlayerDataPurger} reports nothing left, the player row itself is removed.
+ *
+ * Only the instance holding the {@value #LEASE_NAME} lease processes jobs, so a job is never
+ * worked on by two nodes at once. A failing step is retried with exponential backoff and the
+ * job is marked failed only after the configured number of consecutive failures.
+ */
+@Slf4j
+@Service
+public class PlayerDeletionJobProcessor {
+
+    static final String LEASE_NAME = "player-deletion";
+    static final String FINAL_STEP = "player-profile";
+
+    private final PlayerDeletionJobPort playerDeletionJobPort;
+    private final DeletePlayerPort deletePlayerPort;
+    private final DistributedLease distributedLease;
+    private final List<PlayerDataPurger> purgers;
+
+    @Value("${player.deletion.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${player.deletion.max-jobs-per-tick:5}")
+    private int maxJobsPerTick = 5;
+
+    @Value("${player.deletion.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${player.deletion.retry-initial-delay-ms:1000}")
+    private long retryInitialDelayMillis = 1000;
+
+    @Value("${player.deletion.retry-max-delay-ms:300000}")
+    private long retryMaxDelayMillis = 300_000;
+
+    @Value("${player.deletion.lease-ttl-seconds:30}")
+    private long leaseTtlSeconds = 30;
+
+    public PlayerDeletionJobProcessor(
+            PlayerDeletionJobPort playerDeletionJobPort,
+            DeletePlayerPort deletePlayerPort,
+            DistributedLease distributedLease,
+            List<PlayerDataPurger> purgers
+    ) {
+        this.playerDeletionJobPort = playerDeletionJobPort;
+        this.deletePlayerPort = deletePlayerPort;
+        this.distributedLease = distributedLease;
+        // Steps run in name order; jobs remember the step by name, so adding or removing a purger is safe
+        this.purgers = purgers.stream()
+                .sorted(Comparator.comparing(PlayerDataPurger::name))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${player.deletion.tick-interval-ms:250}")
+    public void processActiveJobs() {
+        try {
+            if (!distributedLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseTtlSeconds))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire player deletion lease", e);
+            return;
+        }
+
+        try {
+            for (PlayerDeletionJob job : playerDeletionJobPort.findActive(maxJobsPerTick)) {
+                processNextChunk(job);
+            }
+        } catch (Exception e) {
+            log.error("Player deletion tick failed", e);
+        } finally {
+            distributedLease.release(LEASE_NAME);
+        }
+    }
+
+    void processNextChunk(PlayerDeletionJob job) {
+        try {
+            if (job.getCurrentStep() == null) {
+                job.startStep(stepAfter(null));
+            }
+            String step = job.getCurrentStep();
+            if (FINAL_STEP.equals(step)) {
+                deletePlayerPort.deleteById(job.getPlayerId());
+                job.complete();
+                log.info("Player {} deleted, {} dependent rows removed", job.getPlayerId(), job.getDeletedRows());
+            } else {
+                PlayerDataPurger purger = purgers.stream()
+                        .filter(candidate -> candidate.name().equals(step))
+                        .findFirst()
+                        .orElse(null);
+                if (purger == null) {
+                    log.warn("Player deletion job {} was at unknown step {}, moving on", job.getId(), step);
+                    job.advanceTo(stepAfter(step));
+                } else {
+                    int deleted = purger.purgeChunk(job.getPlayerId(), chunkSize);
+                    job.recordChunk(deleted);
+                    if (deleted < chunkSize) {
+                        job.advanceTo(stepAfter(step));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            handleFailure(job, e);
+        }
+
+        playerDeletionJobPort.save(job);
+    }
+
+    private void handleFailure(PlayerDeletionJob job, Exception e) {
+        int attempt = job.getAttempts() + 1;
+        if (attempt >= maxAttempts) {
+            log.error("Player deletion job {} failed at step {} after {} attempts", job.getId(), job.getCurrentStep(), attempt, e);
+            job.fail(e.getMessage());
+            return;
+        }
+        Duration delay = retryDelay(attempt);
+        log.warn("Player deletion job {} failed at step {} (attempt {}), retrying in {} ms: {}",
+                job.getId(), job.getCurrentStep(), attempt, delay.toMillis(), e.getMessage());
+        job.retryLater(e.getMessage(), delay);
+    }
+
+    private Duration retryDelay(int attempt) {
+        long delay = retryInitialDelayMillis << Math.min(attempt - 1, 20);
+        return Duration.ofMillis(Math.min(delay, retryMaxDelayMillis));
+    }
+
+    /**
+     * The first step named after the given one, or the final step; null gives the first step.
+     */
+    private String stepAfter(String step) {
+        return purgers.stream()
+                .map(PlayerDataPurger::name)
+                .filter(name -> step == null || name.compareTo(step) > 0)
+                .findFirst()
+                .orElse(FINAL_STEP);
+    }
+}
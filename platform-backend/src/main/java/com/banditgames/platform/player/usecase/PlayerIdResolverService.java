@@ -0,0 +1,81 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.port.in.ResolvePlayerIdUseCase;
+import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Exact-match username to player id lookup with a bounded LRU cache.
+ *
+ * Unknown usernames are cached as well (for a shorter time), so that external games
+ * reporting players that do not exist on the platform do not hit the database on every event.
+ * Entries are evicted when a player changes their username.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerIdResolverService implements ResolvePlayerIdUseCase {
+
+    private final LoadPlayerPort loadPlayerPort;
+
+    @Value("${player.id-cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    @Value("${player.id-cache.ttl-ms:600000}")
+    private long ttlMillis = 600_000;
+
+    @Value("${player.id-cache.negative-ttl-ms:30000}")
+    private long negativeTtlMillis = 30_000;
+
+    private final Map<String, CachedPlayerId> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPlayerId> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Override
+    public Optional<UUID> resolvePlayerId(String username) {
+        if (username == null || username.isBlank()) {
+            return Optional.empty();
+        }
+        String key = username.trim();
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            CachedPlayerId cached = cache.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                return Optional.ofNullable(cached.playerId());
+            }
+        }
+
+        Optional<UUID> playerId = loadPlayerPort.findPlayerIdByUsername(key);
+        long expiresAt = now + (playerId.isPresent() ? ttlMillis : negativeTtlMillis);
+        synchronized (cache) {
+            cache.put(key, new CachedPlayerId(playerId.orElse(null), expiresAt));
+        }
+        log.debug("Resolved username '{}' to player id {}", key, playerId.orElse(null));
+        return playerId;
+    }
+
+    @Override
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.remove(username.trim());
+        }
+    }
+
+    private record CachedPlayerId(UUID playerId, long expiresAt) {
+    }
+}
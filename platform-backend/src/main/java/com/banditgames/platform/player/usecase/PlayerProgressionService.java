@@ -0,0 +1,67 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.port.in.AwardExperienceUseCase;
+import com.banditgames.platform.player.port.out.UpdatePlayerProgressPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers experience gains in memory and writes them in periodic batches.
+ *
+ * Several results for the same player inside one flush window collapse into a
+ * single increment, so bursts of game endings do not contend on player rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerProgressionService implements AwardExperienceUseCase {
+
+    private final UpdatePlayerProgressPort updatePlayerProgressPort;
+
+    private final ConcurrentHashMap<UUID, Integer> pendingExp = new ConcurrentHashMap<>();
+
+    @Override
+    public void awardExperience(UUID playerId, int amount) {
+        if (playerId == null || amount <= 0) {
+            return;
+        }
+        pendingExp.merge(playerId, amount, Integer::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${player.progression.flush-interval-ms:2000}")
+    public void flush() {
+        if (pendingExp.isEmpty()) {
+            return;
+        }
+
+        // remove() hands over each entry atomically; gains merged afterwards land in the next batch
+        Map<UUID, Integer> batch = new HashMap<>();
+        for (UUID playerId : pendingExp.keySet()) {
+            Integer delta = pendingExp.remove(playerId);
+            if (delta != null) {
+                batch.put(playerId, delta);
+            }
+        }
+
+        try {
+            updatePlayerProgressPort.applyExperience(batch);
+            log.debug("Applied experience for {} players", batch.size());
+        } catch (Exception e) {
+            log.error("Failed to apply experience for {} players, re-queueing", batch.size(), e);
+            batch.forEach((playerId, delta) -> pendingExp.merge(playerId, delta, Integer::sum));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,15 +1,18 @@
 package com.banditgames.platform.player.usecase;
 
 import com.banditgames.platform.player.domain.Player;
+import com.banditgames.platform.player.domain.events.PlayerUsernameChangedEvent;
 import com.banditgames.platform.player.domain.exception.PlayerNotFoundException;
 import com.banditgames.platform.player.port.in.UpdatePlayerUseCase;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import com.banditgames.platform.player.port.out.SavePlayerPort;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -18,6 +21,7 @@ public class UpdatePlayerService implements UpdatePlayerUseCase {
 
     private final LoadPlayerPort loadPlayerPort;
     private final SavePlayerPort savePlayerPort;
+    private final PlatformEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -25,6 +29,7 @@ public class UpdatePlayerService implements UpdatePlayerUseCase {
         Player player = loadPlayerPort.findById(playerId)
                 .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + playerId));
 
+        String oldUsername = player.getUsername();
         if (username != null) {
             player.setUsername(username);
         }
@@ -38,7 +43,13 @@ public class UpdatePlayerService implements UpdatePlayerUseCase {
             player.setGamePreferences(gamePreferences);
         }
 
-        return savePlayerPort.save(player);
+        Player saved = savePlayerPort.save(player);
+
+        if (!Objects.equals(oldUsername, saved.getUsername())) {
+            eventPublisher.publish(new PlayerUsernameChangedEvent(playerId, oldUsername, saved.getUsername()));
+        }
+
+        return saved;
     }
 }
 
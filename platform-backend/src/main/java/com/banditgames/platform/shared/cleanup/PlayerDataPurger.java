@@ -0,0 +1,25 @@
+package com.banditgames.platform.shared.cleanup;
+
+import java.util.UUID;
+
+/**
+ * Removes data owned by a module that still references a deleted player.
+ *
+ * Implementations live in the owning module's persistence adapter and are driven by the
+ * player deletion job. Each call deletes at most {@code limit} rows in its own short
+ * transaction, so a heavy user's data is removed in many small steps instead of one long lock.
+ */
+public interface PlayerDataPurger {
+
+    /**
+     * Stable name of this cleanup step, used to report deletion progress.
+     */
+    String name();
+
+    /**
+     * Deletes up to {@code limit} rows referencing the player.
+     *
+     * @return number of rows deleted; a value below {@code limit} means nothing is left
+     */
+    int purgeChunk(UUID playerId, int limit);
+}
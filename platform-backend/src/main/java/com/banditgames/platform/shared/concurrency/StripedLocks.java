@@ -0,0 +1,32 @@
+package com.banditgames.platform.shared.concurrency;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks addressed by key hash.
+ *
+ * Callers working on the same key always get the same lock, while unrelated keys
+ * mostly land on different stripes. Memory stays constant no matter how many keys are seen.
+ */
+public class StripedLocks {
+
+    private final Lock[] stripes;
+
+    public StripedLocks(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        this.stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock forKey(Object key) {
+        int hash = key.hashCode();
+        // Spread high bits so keys that differ only there still hit different stripes
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -0,0 +1,12 @@
+package com.banditgames.platform.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs across modules.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
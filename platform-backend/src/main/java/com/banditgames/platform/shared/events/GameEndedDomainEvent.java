@@ -1,14 +1,17 @@
 package com.banditgames.platform.shared.events;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Shared domain event published when a game ends.
  * This event can be consumed by any module that needs to react to game completion.
+ *
+ * @param playerIds all participants of the game, including the winner
  */
 public record GameEndedDomainEvent(
     UUID lobbyId,
-    UUID winnerId
+    UUID winnerId,
+    List<UUID> playerIds
 ) {
 }
-
@@ -0,0 +1,13 @@
+package com.banditgames.platform.shared.events;
+
+import java.util.UUID;
+
+/**
+ * Shared domain event published when a started lobby's game could not be created.
+ * The lobby module reopens the lobby, so its players can start again.
+ */
+public record GameStartFailedDomainEvent(
+    UUID lobbyId,
+    String reason
+) {
+}
@@ -2,10 +2,12 @@ package com.banditgames.platform.shared.exception;
 
 import com.banditgames.platform.friends.domain.exception.FriendshipNotFoundException;
 import com.banditgames.platform.friends.domain.exception.FriendshipOperationException;
+import com.banditgames.platform.lobby.domain.exception.LobbyBusyException;
 import com.banditgames.platform.lobby.domain.exception.LobbyNotFoundException;
 import com.banditgames.platform.lobby.domain.exception.LobbyOperationException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -54,6 +56,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(LobbyBusyException.class)
+    public ResponseEntity<ErrorResponse> handleLobbyBusyException(
+        LobbyBusyException ex,
+        WebRequest request
+    ) {
+        String path = getPath(request);
+        ErrorResponse errorResponse = ErrorResponse.of(
+            HttpStatus.CONFLICT.value(),
+            "Concurrent Modification",
+            ex.getMessage(),
+            path
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(FriendshipNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleFriendshipNotFoundException(
         FriendshipNotFoundException ex,
@@ -84,6 +101,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+        OptimisticLockingFailureException ex,
+        WebRequest request
+    ) {
+        String path = getPath(request);
+        ErrorResponse errorResponse = ErrorResponse.of(
+            HttpStatus.CONFLICT.value(),
+            "Concurrent Modification",
+            "The resource was modified by another request. Please retry.",
+            path
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalStateException(
         IllegalStateException ex,
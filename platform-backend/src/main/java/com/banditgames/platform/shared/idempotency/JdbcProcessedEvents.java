@@ -0,0 +1,206 @@
+package com.banditgames.platform.shared.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link ProcessedEvents} backed by the {@code processed_events} table, with an in-memory
+ * LRU of recently processed events in front.
+ *
+ * A duplicate of a recent event is dropped from memory without touching the database.
+ * Any other event is claimed with a single {@code INSERT ... ON CONFLICT DO NOTHING} in the
+ * consumer's transaction: no row inserted means another delivery already processed it, and
+ * concurrent deliveries of one event are serialized by the primary key. Events enter the
+ * LRU only after their transaction committed, so a rolled-back action is retried normally.
+ *
+ * Rows older than the dedupe window are purged periodically.
+ */
+@Slf4j
+@Component
+public class JdbcProcessedEvents implements ProcessedEvents {
+
+    private static final String CLAIM_SQL = """
+        INSERT INTO processed_events (consumer, event_id, processed_at)
+        VALUES (:consumer, :eventId, now())
+        ON CONFLICT (consumer, event_id) DO NOTHING
+        """;
+
+    private static final String PURGE_SQL = """
+        DELETE FROM processed_events
+        WHERE (consumer, event_id) IN (
+            SELECT consumer, event_id FROM processed_events
+            WHERE processed_at < now() - make_interval(secs => :retentionSeconds)
+            LIMIT :limit
+        )
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Boolean> recent;
+
+    @Value("${messaging.idempotency.retention-hours:168}")
+    private long retentionHours = 168;
+
+    @Value("${messaging.idempotency.purge-batch-size:5000}")
+    private int purgeBatchSize = 5000;
+
+    public JdbcProcessedEvents(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${messaging.idempotency.cache-size:100000}") int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.recent = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean runOnce(String consumer, String eventId, Runnable action) {
+        if (eventId == null) {
+            action.run();
+            return true;
+        }
+        String key = key(consumer, eventId);
+        if (isRecent(key)) {
+            duplicate(consumer, "memory");
+            return false;
+        }
+
+        Boolean ran = transactionTemplate.execute(status -> {
+            rememberAfterCommit(List.of(key));
+            if (claim(consumer, eventId) == 0) {
+                duplicate(consumer, "database");
+                return false;
+            }
+            action.run();
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    @Override
+    public <T> List<T> runOnceEach(String consumer, List<T> events, Function<T, String> eventId, Consumer<List<T>> action) {
+        List<T> candidates = new ArrayList<>(events.size());
+        List<SqlParameterSource> claims = new ArrayList<>(events.size());
+        Set<String> keys = new LinkedHashSet<>();
+        for (T event : events) {
+            String id = eventId.apply(event);
+            if (id == null) {
+                candidates.add(event);
+            } else if (isRecent(key(consumer, id)) || !keys.add(key(consumer, id))) {
+                duplicate(consumer, "memory");
+            } else {
+                candidates.add(event);
+                claims.add(claimParameters(consumer, id));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionTemplate.execute(status -> {
+            rememberAfterCommit(keys);
+            int[] claimed = claims.isEmpty()
+                    ? new int[0]
+                    : jdbcTemplate.batchUpdate(CLAIM_SQL, claims.toArray(SqlParameterSource[]::new));
+            List<T> fresh = new ArrayList<>(candidates.size());
+            int claim = 0;
+            for (T event : candidates) {
+                // The driver may report SUCCESS_NO_INFO (-2) for rewritten batches; that counts as claimed
+                if (eventId.apply(event) != null && claimed[claim++] == 0) {
+                    duplicate(consumer, "database");
+                    continue;
+                }
+                fresh.add(event);
+            }
+            if (!fresh.isEmpty()) {
+                action.accept(fresh);
+            }
+            return fresh;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            int purged;
+            do {
+                purged = jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource()
+                        .addValue("retentionSeconds", (double) Duration.ofHours(retentionHours).toSeconds())
+                        .addValue("limit", purgeBatchSize));
+                if (purged > 0) {
+                    log.debug("Purged {} processed event rows", purged);
+                }
+            } while (purged == purgeBatchSize);
+        } catch (Exception e) {
+            log.error("Failed to purge processed events", e);
+        }
+    }
+
+    private int claim(String consumer, String eventId) {
+        return jdbcTemplate.update(CLAIM_SQL, claimParameters(consumer, eventId));
+    }
+
+    private static MapSqlParameterSource claimParameters(String consumer, String eventId) {
+        return new MapSqlParameterSource()
+                .addValue("consumer", consumer)
+                .addValue("eventId", eventId);
+    }
+
+    private boolean isRecent(String key) {
+        synchronized (recent) {
+            return recent.get(key) != null;
+        }
+    }
+
+    /**
+     * Duplicates found in the database were committed by another delivery, so every key
+     * claimed or rejected in the transaction is safe to remember once it commits.
+     */
+    private void rememberAfterCommit(Collection<String> keys) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (recent) {
+                    keys.forEach(key -> recent.put(key, Boolean.TRUE));
+                }
+            }
+        });
+    }
+
+    private void duplicate(String consumer, String source) {
+        meterRegistry.counter("messaging.events.duplicates", "consumer", consumer, "source", source).increment();
+    }
+
+    private static String key(String consumer, String eventId) {
+        return consumer + '\n' + eventId;
+    }
+}
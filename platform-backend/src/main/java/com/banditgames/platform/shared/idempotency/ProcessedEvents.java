@@ -0,0 +1,46 @@
+package com.banditgames.platform.shared.idempotency;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Idempotency guard for message consumers.
+ *
+ * Remembers which events each consumer has processed, so an event that is delivered
+ * again (after a consumer crash, a retry or a replay) is skipped instead of applied twice.
+ */
+public interface ProcessedEvents {
+
+    /**
+     * Runs the action unless the consumer already processed the event.
+     *
+     * The event is recorded in the same transaction as the action, so it only counts as
+     * processed once the action's changes are committed. The action must throw when it fails:
+     * a failure it swallows commits the record, and the retry is then dropped as a duplicate.
+     * Events without an id always run.
+     *
+     * @return false if the event was a duplicate and the action was skipped
+     */
+    boolean runOnce(String consumer, String eventId, Runnable action);
+
+    /**
+     * Batch form of {@link #runOnce}: runs the action once, in one transaction, with the
+     * events of the batch the consumer has not processed yet.
+     *
+     * @return the events passed to the action, in batch order
+     */
+    <T> List<T> runOnceEach(String consumer, List<T> events, Function<T, String> eventId, Consumer<List<T>> action);
+
+    /**
+     * Reads the event id of a JSON event, in either snake_case or camelCase.
+     */
+    static String eventIdOf(Map<String, Object> event) {
+        Object eventId = event.get("event_id");
+        if (eventId == null) {
+            eventId = event.get("eventId");
+        }
+        return eventId != null ? eventId.toString() : null;
+    }
+}
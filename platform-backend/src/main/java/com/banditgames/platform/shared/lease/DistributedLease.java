@@ -0,0 +1,24 @@
+package com.banditgames.platform.shared.lease;
+
+import java.time.Duration;
+
+/**
+ * Named, time-bounded lease shared by all application instances.
+ *
+ * Used to make sure a scheduled job runs on one node at a time. A lease that is not
+ * released (for example because the node died) expires on its own after its TTL.
+ */
+public interface DistributedLease {
+
+    /**
+     * Acquires or renews the lease for this instance.
+     *
+     * @return true if this instance now holds the lease
+     */
+    boolean tryAcquire(String name, Duration ttl);
+
+    /**
+     * Releases the lease if this instance holds it.
+     */
+    void release(String name);
+}
@@ -0,0 +1,56 @@
+package com.banditgames.platform.shared.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * {@link DistributedLease} backed by the {@code scheduler_leases} table.
+ *
+ * Acquisition is a single upsert that only takes over a row when it has expired or
+ * already belongs to this instance, so two nodes can never both see success.
+ */
+@Slf4j
+@Component
+public class JdbcDistributedLease implements DistributedLease {
+
+    private static final String ACQUIRE_SQL = """
+        INSERT INTO scheduler_leases (name, owner, expires_at)
+        VALUES (:name, :owner, now() + make_interval(secs => :ttlSeconds))
+        ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+        WHERE scheduler_leases.expires_at < now() OR scheduler_leases.owner = EXCLUDED.owner
+        """;
+
+    private static final String RELEASE_SQL =
+        "DELETE FROM scheduler_leases WHERE name = :name AND owner = :owner";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JdbcDistributedLease(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration ttl) {
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, new MapSqlParameterSource()
+            .addValue("name", name)
+            .addValue("owner", owner)
+            .addValue("ttlSeconds", (double) ttl.toSeconds()));
+        if (updated == 0) {
+            log.debug("Lease {} is held by another instance", name);
+        }
+        return updated > 0;
+    }
+
+    @Override
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource()
+            .addValue("name", name)
+            .addValue("owner", owner));
+    }
+}
@@ -0,0 +1,49 @@
+package com.banditgames.platform.shared.messaging;
+
+import java.util.UUID;
+
+/**
+ * Naming and routing of sharded game event queues.
+ *
+ * Events are spread over shards by player with jump consistent hashing: one player's
+ * events always land on the same shard, and changing the shard count from n to n + 1
+ * moves only about 1/(n + 1) of the players to another shard.
+ */
+public final class GameEventShards {
+
+    /**
+     * Player whose share of an event a shard message carries.
+     */
+    public static final String PLAYER_HEADER = "x-shard-player-id";
+
+    private GameEventShards() {
+    }
+
+    public static String queueName(String baseQueue, int shard) {
+        return baseQueue + ".shard." + shard;
+    }
+
+    /**
+     * @return the shard of the player, in {@code [0, shardCount)}
+     */
+    public static int shardOf(UUID playerId, int shardCount) {
+        return jumpHash(playerId.getMostSignificantBits() ^ playerId.getLeastSignificantBits(), shardCount);
+    }
+
+    /**
+     * Jump consistent hash (Lamping and Veach, 2014).
+     */
+    static int jumpHash(long key, int buckets) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("buckets must be positive");
+        }
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+}
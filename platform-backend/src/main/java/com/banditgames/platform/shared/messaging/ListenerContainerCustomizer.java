@@ -0,0 +1,141 @@
+package com.banditgames.platform.shared.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applies {@link ListenerContainerProperties} to each listener container, instruments it and
+ * hands listener failures to the {@link ListenerFailureRouter}.
+ *
+ * Every container reports, tagged with its listener id and queues:
+ * - messaging.listener.processing: time spent in the listener, by outcome
+ * - messaging.listener.consumers: active consumers
+ * - messaging.listener.utilization: share of active consumers busy with a message
+ */
+@Slf4j
+class ListenerContainerCustomizer implements ContainerCustomizer<SimpleMessageListenerContainer> {
+
+    private final ListenerContainerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ListenerFailureRouter failureRouter;
+    private final Advice[] sharedAdvice;
+
+    /**
+     * @param sharedAdvice advice already configured on the factory, kept inside the metrics advice
+     */
+    ListenerContainerCustomizer(ListenerContainerProperties properties, MeterRegistry meterRegistry,
+                                ListenerFailureRouter failureRouter, Advice[] sharedAdvice) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.failureRouter = failureRouter;
+        this.sharedAdvice = sharedAdvice != null ? sharedAdvice : new Advice[0];
+    }
+
+    @Override
+    public void configure(SimpleMessageListenerContainer container) {
+        String listenerId = container.getListenerId();
+        ListenerContainerProperties.Container settings = properties.getContainers().get(listenerId);
+        if (settings != null) {
+            if (settings.getMaxConcurrency() != null) {
+                container.setMaxConcurrentConsumers(settings.getMaxConcurrency());
+            }
+            if (settings.getConcurrency() != null) {
+                container.setConcurrentConsumers(settings.getConcurrency());
+            }
+            if (settings.getPrefetch() != null) {
+                container.setPrefetchCount(settings.getPrefetch());
+            }
+            if (settings.getBatchSize() != null) {
+                // A consumer can only fill a batch from messages it has been sent
+                container.setConsumerBatchEnabled(true);
+                container.setBatchSize(settings.getBatchSize());
+                container.setPrefetchCount(Math.max(settings.getBatchSize(),
+                    settings.getPrefetch() != null ? settings.getPrefetch() : settings.getBatchSize()));
+            }
+            if (settings.getReceiveTimeoutMs() != null) {
+                container.setReceiveTimeout(settings.getReceiveTimeoutMs());
+            }
+        }
+
+        boolean virtualThreads = settings != null && settings.getVirtualThreads() != null
+            ? settings.getVirtualThreads()
+            : properties.isVirtualThreads();
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(listenerId + "-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+
+        Tags tags = Tags.of("listener", listenerId, "queue", String.join(",", container.getQueueNames()));
+        ProcessingMetrics metrics = new ProcessingMetrics(meterRegistry, tags);
+        Gauge.builder("messaging.listener.consumers", container, SimpleMessageListenerContainer::getActiveConsumerCount)
+            .tags(tags)
+            .description("Active consumers of the listener container")
+            .register(meterRegistry);
+        Gauge.builder("messaging.listener.utilization", container,
+                c -> metrics.inFlight.get() / (double) Math.max(1, c.getActiveConsumerCount()))
+            .tags(tags)
+            .description("Share of active consumers currently processing a message")
+            .register(meterRegistry);
+
+        // Failures are routed outside the metrics advice, so failed processing is still timed as such
+        Advice[] adviceChain = new Advice[sharedAdvice.length + 2];
+        adviceChain[0] = failureRouter.adviceFor(listenerId);
+        adviceChain[1] = metrics;
+        System.arraycopy(sharedAdvice, 0, adviceChain, 2, sharedAdvice.length);
+        container.setAdviceChain(adviceChain);
+
+        log.debug("Listener container {} on {}: settings={}, virtualThreads={}", listenerId, tags, settings, virtualThreads);
+    }
+
+    /**
+     * Times each listener invocation, retries included, and counts invocations in progress.
+     */
+    private static final class ProcessingMetrics implements MethodInterceptor {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer success;
+        private final Timer failure;
+
+        private ProcessingMetrics(MeterRegistry meterRegistry, Tags tags) {
+            this.success = timer(meterRegistry, tags, "success");
+            this.failure = timer(meterRegistry, tags, "failure");
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, Tags tags, String outcome) {
+            return Timer.builder("messaging.listener.processing")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .description("Time spent processing a delivery in the listener")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            boolean succeeded = false;
+            try {
+                Object result = invocation.proceed();
+                succeeded = true;
+                return result;
+            } finally {
+                inFlight.decrementAndGet();
+                (succeeded ? success : failure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.banditgames.platform.shared.messaging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-listener RabbitMQ container settings.
+ *
+ * Containers are keyed by their {@code @RabbitListener} id. Values left unset keep the
+ * {@code spring.rabbitmq.listener.simple.*} defaults shared by all listeners.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "messaging.listeners")
+public class ListenerContainerProperties {
+
+    /** Run listener code on virtual threads unless a container says otherwise */
+    private boolean virtualThreads = false;
+
+    private Map<String, Container> containers = new LinkedHashMap<>();
+
+    @Data
+    public static class Container {
+
+        /** Consumers started with the container */
+        private Integer concurrency;
+
+        /** Upper bound the container may scale consumers up to under load */
+        private Integer maxConcurrency;
+
+        /** Unacknowledged messages each consumer may hold */
+        private Integer prefetch;
+
+        private Boolean virtualThreads;
+
+        /**
+         * Messages handed to a batch listener at once; setting it enables consumer-side batching.
+         * The listener must be declared with {@code batch = "true"}.
+         */
+        private Integer batchSize;
+
+        /**
+         * How long a consumer waits for the next message before delivering a partial batch,
+         * which bounds the latency added by batching
+         */
+        private Long receiveTimeoutMs;
+    }
+}
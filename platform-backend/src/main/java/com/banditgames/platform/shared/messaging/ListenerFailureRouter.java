@@ -0,0 +1,221 @@
+package com.banditgames.platform.shared.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes deliveries whose listener failed to delayed retry queues, then to the dead letter queue.
+ *
+ * The failed message is republished and the original acknowledged, so the consumer thread moves
+ * on at once instead of sleeping through a backoff. Attempt N waits in the retry queue of the
+ * N-th configured delay; when its TTL expires the broker dead-letters it through the default
+ * exchange with its routing key, which is the name of the queue it failed on. Once all delays
+ * are used, or for failures a retry cannot fix (unreadable or invalid messages), the message
+ * goes to the dead letter queue with failure headers.
+ *
+ * Retry queues are bound to a headers exchange on {@link #DELAY_HEADER}, so one set of retry
+ * queues serves every listener queue.
+ */
+@Slf4j
+@Component
+public class ListenerFailureRouter {
+
+    public static final String ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String DELAY_HEADER = "x-retry-delay-ms";
+    public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    public static final String LISTENER_HEADER = "x-listener-id";
+    public static final String FAILURE_REASON_HEADER = "x-failure-reason";
+    public static final String DEAD_LETTER_ID_HEADER = "x-dead-letter-id";
+    public static final String DEAD_LETTERED_AT_HEADER = "x-dead-lettered-at";
+
+    /**
+     * Every header this router, and the broker when a retry expires, adds to a failed message.
+     */
+    public static final List<String> FAILURE_HEADERS = List.of(
+        ATTEMPT_HEADER,
+        DELAY_HEADER,
+        ORIGINAL_QUEUE_HEADER,
+        LISTENER_HEADER,
+        FAILURE_REASON_HEADER,
+        DEAD_LETTER_ID_HEADER,
+        DEAD_LETTERED_AT_HEADER,
+        RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE,
+        RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY,
+        RepublishMessageRecoverer.X_EXCEPTION_MESSAGE,
+        RepublishMessageRecoverer.X_EXCEPTION_STACKTRACE,
+        "x-death"
+    );
+
+    private static final int MAX_STACKTRACE_LENGTH = 8_000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${messaging.retry.exchange:game_events.retry}")
+    private String retryExchange = "game_events.retry";
+
+    @Value("${messaging.retry.delays-ms:1000,10000,60000}")
+    private List<Long> delaysMillis = List.of(1_000L, 10_000L, 60_000L);
+
+    @Value("${messaging.retry.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis = 5_000;
+
+    @Value("${game.events.dead-letter.exchange:game_events_dlx}")
+    private String dlxName = "game_events_dlx";
+
+    @Value("${game.events.dead-letter.queue:game_events_dlq}")
+    private String dlqName = "game_events_dlq";
+
+    public ListenerFailureRouter(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Name of the retry queue holding messages for the given delay.
+     */
+    public static String retryQueueName(String retryExchange, long delayMillis) {
+        return retryExchange + "." + delayMillis + "ms";
+    }
+
+    /**
+     * Container advice that hands listener failures of one listener to this router.
+     */
+    MethodInterceptor adviceFor(String listenerId) {
+        return invocation -> invoke(listenerId, invocation);
+    }
+
+    private Object invoke(String listenerId, MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (ImmediateRequeueAmqpException e) {
+            throw e;
+        } catch (Exception e) {
+            Object data = invocation.getArguments()[1];
+            if (data instanceof Message message) {
+                route(listenerId, message, e);
+            } else if (data instanceof List<?> batch) {
+                for (Object message : batch) {
+                    route(listenerId, (Message) message, e);
+                }
+            } else {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    private void route(String listenerId, Message message, Exception failure) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        Map<String, Object> headers = properties.getHeaders();
+        Object previous = headers.get(ATTEMPT_HEADER);
+        int attempt = previous instanceof Number number ? number.intValue() : 0;
+
+        // First failure only: later attempts arrive through the default exchange
+        if (!headers.containsKey(ORIGINAL_QUEUE_HEADER)) {
+            headers.put(ORIGINAL_QUEUE_HEADER, queue);
+            headers.put(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE, String.valueOf(properties.getReceivedExchange()));
+            headers.put(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY, String.valueOf(properties.getReceivedRoutingKey()));
+        }
+        headers.put(LISTENER_HEADER, listenerId);
+        headers.put(RepublishMessageRecoverer.X_EXCEPTION_MESSAGE, rootCause(failure).toString());
+
+        boolean retryable = isRetryable(failure);
+        if (retryable && attempt < delaysMillis.size()) {
+            long delay = delaysMillis.get(attempt);
+            headers.put(ATTEMPT_HEADER, attempt + 1);
+            headers.put(DELAY_HEADER, String.valueOf(delay));
+            publish(retryExchange, queue, message);
+            meterRegistry.counter("messaging.listener.retries",
+                "listener", listenerId, "queue", queue, "delay", delay + "ms").increment();
+            log.warn("Listener {} failed on {} (attempt {}), retrying in {} ms: {}",
+                listenerId, queue, attempt + 1, delay, rootCause(failure).toString());
+            return;
+        }
+
+        String reason = retryable ? "exhausted" : "non-retryable";
+        headers.put(FAILURE_REASON_HEADER, reason);
+        headers.put(DEAD_LETTER_ID_HEADER, UUID.randomUUID().toString());
+        headers.put(DEAD_LETTERED_AT_HEADER, System.currentTimeMillis());
+        headers.put(RepublishMessageRecoverer.X_EXCEPTION_STACKTRACE, stackTrace(failure));
+        headers.remove(DELAY_HEADER);
+        publish(dlxName, dlqName, message);
+        meterRegistry.counter("messaging.listener.dead-lettered",
+            "listener", listenerId, "queue", queue, "reason", reason).increment();
+        log.error("Listener {} failed on {} after {} attempts ({}), moved to {}",
+            listenerId, queue, attempt + 1, reason, dlqName, failure);
+    }
+
+    /**
+     * Publishes and waits for the broker's confirm. If the message cannot be handed over,
+     * the original is requeued rather than acknowledged, so it is never lost.
+     */
+    private void publish(String exchange, String routingKey, Message message) {
+        CorrelationData correlation = new CorrelationData();
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlation);
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck() || correlation.getReturned() != null) {
+                throw new ImmediateRequeueAmqpException("Failed to route message to " + exchange + "/" + routingKey
+                    + ": " + (correlation.getReturned() != null ? correlation.getReturned().getReplyText() : confirm.getReason()));
+            }
+        } catch (ImmediateRequeueAmqpException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImmediateRequeueAmqpException("Interrupted while routing failed message", e);
+        } catch (Exception e) {
+            throw new ImmediateRequeueAmqpException("Failed to route message to " + exchange + "/" + routingKey, e);
+        }
+    }
+
+    /**
+     * Unreadable or invalid messages fail the same way on every attempt.
+     */
+    private static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MessageConversionException
+                    || cause instanceof AmqpRejectAndDontRequeueException
+                    || cause instanceof IllegalArgumentException
+                    || cause instanceof ClassCastException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    private static String stackTrace(Throwable failure) {
+        StringWriter writer = new StringWriter();
+        failure.printStackTrace(new PrintWriter(writer));
+        String trace = writer.toString();
+        return trace.length() > MAX_STACKTRACE_LENGTH ? trace.substring(0, MAX_STACKTRACE_LENGTH) : trace;
+    }
+}
@@ -1,5 +1,6 @@
 package com.banditgames.platform.shared.messaging;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -7,9 +8,14 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * RabbitMQ configuration for async messaging between platform-backend and game-service.
  * Configures exchanges, queues, bindings, and message converters.
@@ -58,6 +64,21 @@ public class RabbitMQConfig {
     @Value("${game.events.dead-letter.queue:game_events_dlq}")
     private String dlqName;
     
+    @Value("${game.events.sharding.enabled:false}")
+    private boolean shardingEnabled;
+    
+    @Value("${game.events.sharding.shard-count:4}")
+    private int shardCount;
+    
+    @Value("${game.events.sharding.exchange:game_events.shards}")
+    private String shardExchangeName;
+    
+    @Value("${messaging.retry.exchange:game_events.retry}")
+    private String retryExchangeName;
+    
+    @Value("${messaging.retry.delays-ms:1000,10000,60000}")
+    private List<Long> retryDelaysMillis;
+    
     /**
      * Topic exchange for game events.
      */
@@ -98,6 +119,35 @@ public class RabbitMQConfig {
             .with(dlqName);
     }
     
+    /**
+     * Delayed retry queues for failed listener deliveries, one per retry delay.
+     * Messages are routed in by their retry delay header and, once their TTL expires,
+     * dead-lettered through the default exchange back to the queue they failed on.
+     */
+    @Bean
+    public Declarables retryQueues() {
+        HeadersExchange retryExchange = ExchangeBuilder
+            .headersExchange(retryExchangeName)
+            .durable(true)
+            .build();
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(retryExchange);
+        for (long delay : retryDelaysMillis) {
+            Queue queue = QueueBuilder
+                .durable(ListenerFailureRouter.retryQueueName(retryExchangeName, delay))
+                .withArgument("x-message-ttl", delay)
+                .withArgument("x-dead-letter-exchange", "")
+                .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder
+                .bind(queue)
+                .to(retryExchange)
+                .whereAll(Map.of(ListenerFailureRouter.DELAY_HEADER, String.valueOf(delay)))
+                .match());
+        }
+        return new Declarables(declarables);
+    }
+    
     /**
      * Queue for move requests sent to game-service.
      */
@@ -240,6 +290,38 @@ public class RabbitMQConfig {
             .with("game.session.ended");
     }
     
+    /**
+     * Shard queues for achievements evaluation on session ended, declared when sharding is enabled.
+     * Each shard is bound to the direct shard exchange with its index as routing key and has
+     * a single active consumer across all instances, so one player's events stay in order.
+     */
+    @Bean
+    public Declarables sessionEndedAchievementsShards() {
+        if (!shardingEnabled) {
+            return new Declarables();
+        }
+        DirectExchange shardExchange = ExchangeBuilder
+            .directExchange(shardExchangeName)
+            .durable(true)
+            .build();
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(shardExchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder
+                .durable(GameEventShards.queueName(sessionEndedAchievementsQueue, shard))
+                .singleActiveConsumer()
+                .withArgument("x-dead-letter-exchange", dlxName)
+                .withArgument("x-dead-letter-routing-key", dlqName)
+                .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder
+                .bind(queue)
+                .to(shardExchange)
+                .with(String.valueOf(shard)));
+        }
+        return new Declarables(declarables);
+    }
+    
     @Bean
     public Binding moveRequestsBinding() {
         return BindingBuilder
@@ -513,13 +595,22 @@ public class RabbitMQConfig {
     
     /**
      * Listener container factory with JSON message converter.
+     * Applies the spring.rabbitmq.listener.simple.* defaults (prefetch), then the per-listener
+     * overrides and metrics of {@link ListenerContainerProperties}. Listener failures are
+     * retried through delayed retry queues by {@link ListenerFailureRouter}.
      */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
-            ConnectionFactory connectionFactory) {
+            ConnectionFactory connectionFactory,
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ListenerContainerProperties listenerContainerProperties,
+            ListenerFailureRouter listenerFailureRouter,
+            MeterRegistry meterRegistry) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
-        factory.setConnectionFactory(connectionFactory);
+        configurer.configure(factory, connectionFactory);
         factory.setMessageConverter(jsonMessageConverter());
+        factory.setContainerCustomizer(new ListenerContainerCustomizer(
+            listenerContainerProperties, meterRegistry, listenerFailureRouter, factory.getAdviceChain()));
         return factory;
     }
 }
@@ -0,0 +1,26 @@
+-- Migration: Outbox for messages to the game service
+-- Rows are written in the same transaction as the lobby change and relayed to RabbitMQ afterwards
+-- This script is idempotent and safe to run multiple times
+
+CREATE TABLE IF NOT EXISTS game_session_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    lobby_id UUID NOT NULL,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    last_error VARCHAR(1000),
+    published_at TIMESTAMP WITH TIME ZONE,
+    failed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Pending rows per lobby, in order; the relay only ever reads these
+CREATE INDEX IF NOT EXISTS idx_game_session_outbox_pending
+    ON game_session_outbox(lobby_id, id)
+    WHERE published_at IS NULL AND failed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_game_session_outbox_published
+    ON game_session_outbox(published_at)
+    WHERE published_at IS NOT NULL;
@@ -0,0 +1,21 @@
+-- Migration: Backfill the active lobby member index
+-- Each player may hold at most one row, so the primary key enforces one active lobby per player.
+-- This script is idempotent and safe to run multiple times
+
+CREATE TABLE IF NOT EXISTS lobby_active_members (
+    player_id UUID PRIMARY KEY,
+    lobby_id UUID NOT NULL,
+    joined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_lobby_active_members_lobby ON lobby_active_members (lobby_id);
+
+-- Seed from existing memberships of lobbies that are still active.
+-- Players found in several active lobbies keep the most recently created one.
+INSERT INTO lobby_active_members (player_id, lobby_id, joined_at)
+SELECT DISTINCT ON (lp.player_id) lp.player_id, lp.lobby_id, COALESCE(l.created_at, CURRENT_TIMESTAMP)
+FROM lobby_players lp
+JOIN lobbies l ON l.id = lp.lobby_id
+WHERE l.status NOT IN ('COMPLETED', 'CANCELLED')
+ORDER BY lp.player_id, l.created_at DESC
+ON CONFLICT (player_id) DO NOTHING;
@@ -0,0 +1,28 @@
+-- Migration: Archive table for finished lobbies
+-- Cancelled and completed lobbies are moved here by the lobby reaper, together with
+-- their member and invite lists, so the live lobby tables only hold recent lobbies.
+-- This script is idempotent and safe to run multiple times
+
+CREATE TABLE IF NOT EXISTS lobby_archive (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255),
+    description TEXT,
+    game_id UUID,
+    session_id UUID,
+    host_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    max_players INTEGER NOT NULL,
+    visibility VARCHAR(50) NOT NULL,
+    player_ids UUID[] NOT NULL DEFAULT '{}',
+    invited_player_ids UUID[] NOT NULL DEFAULT '{}',
+    created_at TIMESTAMP,
+    started_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_lobby_archive_host ON lobby_archive (host_id);
+
+ALTER TABLE lobbies ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+
+-- Lets the reaper find idle and finished lobbies without scanning the whole table
+CREATE INDEX IF NOT EXISTS idx_lobbies_status_activity ON lobbies (status, COALESCE(updated_at, created_at));
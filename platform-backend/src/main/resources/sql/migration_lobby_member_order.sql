@@ -0,0 +1,6 @@
+-- Migration: Join time on lobby memberships, so members load in the order they joined
+-- clock_timestamp() rather than now(): players added in one transaction still get distinct times
+-- Rows written before the column existed all get the same time and fall back to player id order
+-- This script is idempotent and safe to run multiple times
+
+ALTER TABLE lobby_players ADD COLUMN IF NOT EXISTS joined_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT clock_timestamp();
@@ -0,0 +1,42 @@
+-- Migration: Denormalized lobby search columns and partial indexes for the lobby browser
+-- This script is idempotent and safe to run multiple times
+
+ALTER TABLE lobbies ADD COLUMN IF NOT EXISTS player_count INTEGER;
+ALTER TABLE lobbies ADD COLUMN IF NOT EXISTS free_slots INTEGER;
+ALTER TABLE lobbies ADD COLUMN IF NOT EXISTS host_rank INTEGER;
+
+-- Backfill seat counts for lobbies written before the columns existed
+UPDATE lobbies l
+SET player_count = counts.players,
+    free_slots = GREATEST(l.max_players - counts.players, 0)
+FROM (
+    SELECT l2.id, COUNT(lp.player_id) AS players
+    FROM lobbies l2
+    LEFT JOIN lobby_players lp ON lp.lobby_id = l2.id
+    GROUP BY l2.id
+) counts
+WHERE counts.id = l.id AND l.player_count IS NULL;
+
+-- Backfill host rank tiers (same order as the player Rank enum)
+UPDATE lobbies l
+SET host_rank = CASE p.rank
+    WHEN 'BRONZE' THEN 0
+    WHEN 'SILVER' THEN 1
+    WHEN 'GOLD' THEN 2
+    WHEN 'PLATINUM' THEN 3
+    WHEN 'DIAMOND' THEN 4
+END
+FROM players p
+WHERE p.player_id = l.host_id AND l.host_rank IS NULL;
+
+-- Open public lobbies only. The database search is the fallback used until the in-memory
+-- registry is loaded, and open lobbies are a small set, so one index ordered by creation
+-- serves every filter combination: the INCLUDE columns answer the game, host, seat and rank
+-- predicates and the count query without reading lobby rows.
+CREATE INDEX IF NOT EXISTS idx_lobbies_open_by_created ON lobbies (created_at DESC)
+    INCLUDE (free_slots, host_rank, host_id, game_id)
+    WHERE status = 'WAITING' AND visibility = 'PUBLIC';
+
+-- Superseded by idx_lobbies_open_by_created
+DROP INDEX IF EXISTS idx_lobbies_open_by_game;
+DROP INDEX IF EXISTS idx_lobbies_open_by_host;
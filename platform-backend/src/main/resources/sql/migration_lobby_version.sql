@@ -0,0 +1,10 @@
+-- Migration: Non-null optimistic lock version on lobbies
+-- This script is idempotent and safe to run multiple times
+
+ALTER TABLE lobbies ADD COLUMN IF NOT EXISTS version BIGINT;
+
+-- Rows written before the column existed have no version; Hibernate cannot increment a null one
+UPDATE lobbies SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE lobbies ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE lobbies ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,13 @@
+-- Migration: Events already processed per consumer, so redelivered events are skipped
+-- Rows are written in the same transaction as the consumer's changes and purged after the dedupe window
+-- This script is idempotent and safe to run multiple times
+
+CREATE TABLE IF NOT EXISTS processed_events (
+    consumer VARCHAR(100) NOT NULL,
+    event_id VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (consumer, event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at
+    ON processed_events(processed_at);
@@ -0,0 +1,8 @@
+-- Migration: Lease table for scheduled jobs that must run on a single instance at a time
+-- This script is idempotent and safe to run multiple times
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
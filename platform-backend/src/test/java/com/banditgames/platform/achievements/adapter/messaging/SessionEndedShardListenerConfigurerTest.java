@@ -0,0 +1,71 @@
+package com.banditgames.platform.achievements.adapter.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SessionEndedShardListenerConfigurerTest {
+
+    private AmqpAdmin amqpAdmin;
+    private RabbitListenerEndpointRegistrar registrar;
+    private SessionEndedShardListenerConfigurer configurer;
+
+    @BeforeEach
+    void setUp() {
+        amqpAdmin = mock(AmqpAdmin.class);
+        registrar = mock(RabbitListenerEndpointRegistrar.class);
+        configurer = new SessionEndedShardListenerConfigurer(mock(SessionEndedShardRouter.class),
+                mock(GameEventConsumer.class), new ObjectMapper(), amqpAdmin);
+        ReflectionTestUtils.setField(configurer, "shardingEnabled", true);
+        ReflectionTestUtils.setField(configurer, "shardCount", 2);
+    }
+
+    @Test
+    void registersTheRouterAndOneListenerPerShard() {
+        configurer.configureRabbitListeners(registrar);
+
+        verify(amqpAdmin).getQueueInfo("game.session.ended.achievements.shard.2");
+        verify(registrar, times(3)).registerEndpoint(any());
+    }
+
+    @Test
+    void refusesToStart_whileAShardBeyondTheCountHoldsMessages() {
+        when(amqpAdmin.getQueueInfo("game.session.ended.achievements.shard.2"))
+                .thenReturn(new QueueInformation("game.session.ended.achievements.shard.2", 0, 0));
+        when(amqpAdmin.getQueueInfo("game.session.ended.achievements.shard.3"))
+                .thenReturn(new QueueInformation("game.session.ended.achievements.shard.3", 5, 0));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> configurer.configureRabbitListeners(registrar));
+
+        assertTrue(error.getMessage().contains("shard.3"));
+        verify(registrar, never()).registerEndpoint(any());
+    }
+
+    @Test
+    void startsWhenTheBrokerCannotBeAsked() {
+        when(amqpAdmin.getQueueInfo(anyString())).thenThrow(new AmqpConnectException(new RuntimeException("down")));
+
+        configurer.configureRabbitListeners(registrar);
+
+        verify(registrar, times(3)).registerEndpoint(any());
+    }
+
+    @Test
+    void registersNothing_whenShardingIsDisabled() {
+        ReflectionTestUtils.setField(configurer, "shardingEnabled", false);
+
+        configurer.configureRabbitListeners(registrar);
+
+        verifyNoInteractions(amqpAdmin, registrar);
+    }
+}
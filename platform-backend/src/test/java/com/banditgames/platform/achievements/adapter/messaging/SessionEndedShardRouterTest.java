@@ -0,0 +1,80 @@
+package com.banditgames.platform.achievements.adapter.messaging;
+
+import com.banditgames.platform.shared.messaging.GameEventShards;
+import com.banditgames.platform.shared.messaging.ListenerFailureRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SessionEndedShardRouterTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    private RabbitTemplate rabbitTemplate;
+    private SessionEndedShardRouter router;
+    private boolean ack = true;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        router = new SessionEndedShardRouter(rabbitTemplate);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void route_sendsOneMessagePerPlayer_toThePlayersShard_withoutFailureHeaders() {
+        MessageProperties properties = new MessageProperties();
+        ListenerFailureRouter.FAILURE_HEADERS.forEach(header -> properties.setHeader(header, "from the router queue"));
+        properties.setHeader("trace-id", "t-1");
+        Message message = new Message("{}".getBytes(), properties);
+
+        router.route(message, Map.of("player_ids", List.of(alice.toString(), bob.toString(), alice.toString())));
+
+        ArgumentCaptor<String> routingKeys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(2)).send(eq("game_events.shards"), routingKeys.capture(), sent.capture(), any());
+        assertEquals(List.of(String.valueOf(GameEventShards.shardOf(alice, 4)), String.valueOf(GameEventShards.shardOf(bob, 4))),
+                routingKeys.getAllValues());
+        for (Message shardMessage : sent.getAllValues()) {
+            Map<String, Object> headers = shardMessage.getMessageProperties().getHeaders();
+            ListenerFailureRouter.FAILURE_HEADERS.forEach(header -> assertFalse(headers.containsKey(header), header));
+            assertEquals("t-1", headers.get("trace-id"));
+        }
+        assertEquals(alice.toString(), sent.getAllValues().get(0).getMessageProperties().getHeaders().get(GameEventShards.PLAYER_HEADER));
+        // The routed message itself is left as it was
+        assertTrue(properties.getHeaders().containsKey(ListenerFailureRouter.ATTEMPT_HEADER));
+    }
+
+    @Test
+    void route_failsWhenAShardMessageIsNotConfirmed() {
+        ack = false;
+
+        assertThrows(AmqpException.class, () -> router.route(new Message("{}".getBytes(), new MessageProperties()),
+                Map.of("player_ids", List.of(alice.toString()))));
+    }
+
+    @Test
+    void route_withoutPlayers_sendsNothing() {
+        router.route(new Message("{}".getBytes(), new MessageProperties()), Map.of("game_id", "g"));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+}
@@ -0,0 +1,164 @@
+package com.banditgames.platform.achievements.usecase;
+
+import com.banditgames.platform.achievements.domain.Achievement;
+import com.banditgames.platform.achievements.domain.AchievementEvaluator;
+import com.banditgames.platform.achievements.domain.PlayerStatistics;
+import com.banditgames.platform.achievements.port.in.EvaluateAchievementsUseCase.GameEndedEvaluationContext;
+import com.banditgames.platform.achievements.port.in.EvaluateAchievementsUseCase.GameMoveEvaluationContext;
+import com.banditgames.platform.achievements.port.in.SavePlayerAcquiredNewAchievementUseCase;
+import com.banditgames.platform.achievements.port.out.LoadAchievementsPort;
+import com.banditgames.platform.achievements.port.out.LoadPlayerStatisticsPort;
+import com.banditgames.platform.acl.port.out.GameSessionContextPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EvaluateAchievementsServiceTest {
+
+    private LoadAchievementsPort loadAchievementsPort;
+    private LoadPlayerStatisticsPort loadPlayerStatisticsPort;
+    private SavePlayerAcquiredNewAchievementUseCase savePlayerAcquiredNewAchievementUseCase;
+    private AchievementEvaluator evaluator;
+    private GameSessionContextPort gameSessionContextPort;
+    private EvaluateAchievementsService service;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final Achievement firstMove = Achievement.builder().id(UUID.randomUUID()).gameId(gameId).name("First move").build();
+
+    @BeforeEach
+    void setUp() {
+        loadAchievementsPort = mock(LoadAchievementsPort.class);
+        loadPlayerStatisticsPort = mock(LoadPlayerStatisticsPort.class);
+        savePlayerAcquiredNewAchievementUseCase = mock(SavePlayerAcquiredNewAchievementUseCase.class);
+        evaluator = mock(AchievementEvaluator.class);
+        gameSessionContextPort = mock(GameSessionContextPort.class);
+        service = new EvaluateAchievementsService(loadAchievementsPort, loadPlayerStatisticsPort,
+                savePlayerAcquiredNewAchievementUseCase, List.of(evaluator), gameSessionContextPort);
+
+        when(loadAchievementsPort.findByGameId(gameId)).thenReturn(List.of(firstMove));
+        when(loadPlayerStatisticsPort.loadStatistics(any(), eq(gameId))).thenAnswer(invocation ->
+                PlayerStatistics.builder().playerId(invocation.getArgument(0)).gameId(gameId).build());
+        when(evaluator.canEvaluate(any())).thenReturn(true);
+    }
+
+    @Test
+    void evaluateOnMovesApplied_groupsMovesByPlayer_andWritesStatisticsOnce() {
+        when(evaluator.evaluate(any(), any(), any(), any())).thenReturn(false);
+
+        service.evaluateOnMovesApplied(List.of(move(alice), move(bob), move(alice)));
+
+        verify(loadAchievementsPort, times(1)).findByGameId(gameId);
+        verify(loadPlayerStatisticsPort, times(1)).loadStatistics(alice, gameId);
+        verify(loadPlayerStatisticsPort, times(1)).loadStatistics(bob, gameId);
+        verify(evaluator, times(3)).evaluate(any(), any(), any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<PlayerStatistics>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(loadPlayerStatisticsPort).updateStatistics(written.capture());
+        assertEquals(2, written.getValue().size());
+        verify(loadPlayerStatisticsPort, never()).updateStatistics(any(), any(), any());
+    }
+
+    @Test
+    void evaluateOnMovesApplied_unlocksAchievementOncePerBatch() {
+        when(evaluator.evaluate(any(), any(), any(), any())).thenReturn(true);
+
+        service.evaluateOnMovesApplied(List.of(move(alice), move(alice), move(alice)));
+
+        verify(evaluator, times(1)).evaluate(any(), any(), any(), any());
+        verify(savePlayerAcquiredNewAchievementUseCase, times(1)).saveNewAchievement(
+                new SavePlayerAcquiredNewAchievementUseCase.SavePlayerAcquiredNewAchievement(alice, firstMove.getId()));
+    }
+
+    @Test
+    void evaluateOnGameEndedForPlayer_updatesOnlyThatPlayer_withOpponentsFromWholeGame() {
+        when(evaluator.evaluate(any(), any(), any(), any())).thenReturn(false);
+        GameEndedEvaluationContext ended = new GameEndedEvaluationContext(
+                gameId, "chess", null, alice, List.of(alice, bob), Map.of());
+
+        service.evaluateOnGameEndedForPlayer(ended, alice);
+
+        ArgumentCaptor<PlayerStatistics> written = ArgumentCaptor.forClass(PlayerStatistics.class);
+        verify(loadPlayerStatisticsPort).updateStatistics(eq(alice), eq(gameId), written.capture());
+        verify(loadPlayerStatisticsPort, never()).loadStatistics(eq(bob), any());
+        assertEquals(1, written.getValue().getTotalWins());
+        assertEquals(Set.of(bob), written.getValue().getUniqueOpponents());
+    }
+
+    @Test
+    void evaluationFailures_propagate_soTheEventIsRetried() {
+        when(evaluator.evaluate(any(), any(), any(), any())).thenReturn(true);
+        doThrow(new IllegalStateException("database down")).when(savePlayerAcquiredNewAchievementUseCase).saveNewAchievement(any());
+        GameEndedEvaluationContext ended = new GameEndedEvaluationContext(
+                gameId, "chess", null, alice, List.of(alice, bob), Map.of());
+
+        assertThrows(IllegalStateException.class, () -> service.evaluateOnGameEnded(ended));
+        assertThrows(IllegalStateException.class, () -> service.evaluateOnMovesApplied(List.of(move(alice), move(bob))));
+        verify(loadPlayerStatisticsPort, never()).updateStatistics(any());
+    }
+
+    @Test
+    void gameDuration_readsTimestampsWithAnOffset() {
+        assertEquals(Duration.ofMinutes(5), playTimeFor(Instant.parse("2026-01-01T10:00:00Z"), "2026-01-01T12:05:00+02:00"));
+    }
+
+    @Test
+    void gameDuration_readsNaiveTimestampsAsUtc() {
+        assertEquals(Duration.ofMinutes(5), playTimeFor(Instant.parse("2026-01-01T10:00:00Z"), "2026-01-01T10:05:00"));
+    }
+
+    @Test
+    void gameDuration_fallsBackToNow_forUnparseableTimestamps() {
+        Instant before = Instant.now();
+        Duration playTime = playTimeFor(before.minusSeconds(60), "yesterday");
+
+        assertTrue(playTime.compareTo(Duration.ofSeconds(60)) >= 0);
+        assertTrue(playTime.compareTo(Duration.between(before.minusSeconds(60), Instant.now())) <= 0);
+    }
+
+    @Test
+    void gameDuration_isSkipped_whenEndIsBeforeStart_orStartIsUnknown() {
+        assertNull(playTimeFor(Instant.parse("2026-01-01T10:00:00Z"), "2026-01-01T09:00:00Z"));
+
+        when(gameSessionContextPort.findSessionStart(any())).thenReturn(Optional.empty());
+        clearInvocations(loadPlayerStatisticsPort);
+        service.evaluateOnGameEndedForPlayer(ended(Map.of("timestamp", "2026-01-01T10:05:00Z")), alice);
+        verify(loadPlayerStatisticsPort).updateStatistics(eq(alice), eq(gameId),
+                argThat(statistics -> statistics.getTotalPlayTime() == null));
+    }
+
+    private Duration playTimeFor(Instant startedAt, String timestamp) {
+        when(evaluator.evaluate(any(), any(), any(), any())).thenReturn(false);
+        when(gameSessionContextPort.findSessionStart(any())).thenReturn(Optional.of(startedAt));
+        clearInvocations(loadPlayerStatisticsPort);
+
+        service.evaluateOnGameEndedForPlayer(ended(Map.of("timestamp", timestamp)), alice);
+
+        ArgumentCaptor<PlayerStatistics> written = ArgumentCaptor.forClass(PlayerStatistics.class);
+        verify(loadPlayerStatisticsPort).updateStatistics(eq(alice), eq(gameId), written.capture());
+        return written.getValue().getTotalPlayTime();
+    }
+
+    private GameEndedEvaluationContext ended(Map<String, Object> rawEvent) {
+        return new GameEndedEvaluationContext(gameId, "chess", UUID.randomUUID().toString(), alice, List.of(alice, bob), rawEvent);
+    }
+
+    private GameMoveEvaluationContext move(UUID playerId) {
+        return new GameMoveEvaluationContext(gameId, "chess", playerId, Map.of());
+    }
+}
@@ -0,0 +1,44 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapMappingTest {
+
+    @Test
+    void apply_producesOneEntryPerDeclaredKey_includingNulls() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("fen", "finalFen|''");
+        fields.put("whitePlayerId", "$firstPlayerId|'unknown'");
+        fields.put("reason", "endReason");
+        MapMapping mapping = MapMapping.compile(fields, List.of("firstPlayerId", "secondPlayerId"));
+
+        Map<String, Object> state = mapping.apply(Map.of("finalFen", "8/8"), "p1", "p2");
+
+        assertEquals(3, state.size());
+        assertEquals("8/8", state.get("fen"));
+        assertEquals("p1", state.get("whitePlayerId"));
+        assertTrue(state.containsKey("reason"));
+        assertNull(state.get("reason"));
+    }
+
+    @Test
+    void apply_returnsANewMutableMapEachTime() {
+        MapMapping mapping = MapMapping.compile(Map.of("status", "status|''"), List.of());
+
+        Map<String, Object> first = mapping.apply(Map.of());
+        first.put("extra", true);
+
+        assertEquals(Map.of("status", ""), mapping.apply(Map.of()));
+    }
+
+    @Test
+    void compile_rejectsInvalidExpressions() {
+        assertThrows(IllegalStateException.class, () -> MapMapping.compile(Map.of("id", "$secondPlayerId"), List.of("firstPlayerId")));
+    }
+}
@@ -0,0 +1,75 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import com.banditgames.platform.acl.adapter.external.ExternalGameStarted;
+import com.banditgames.platform.acl.adapter.external.ExternalMoveMade;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordMappingTest {
+
+    private static final UUID GAME_ID = UUID.randomUUID();
+
+    private final RecordMapping<ExternalGameStarted> started = RecordMapping.compile(ExternalGameStarted.class, Map.of(
+            "gameId", "gameId",
+            "firstPlayer", "players.white",
+            "secondPlayer", "players.black|'guest'",
+            "timestamp", "timestamp"), List.of());
+
+    @Test
+    void apply_mapsAndConvertsEachComponent() {
+        ExternalGameStarted result = started.apply(Map.of(
+                "gameId", GAME_ID.toString(),
+                "players", Map.of("white", "alice", "black", "bob"),
+                "timestamp", "2026-01-01T10:00:00Z"));
+
+        assertEquals(new ExternalGameStarted(GAME_ID, "alice", "bob", Instant.parse("2026-01-01T10:00:00Z")), result);
+    }
+
+    @Test
+    void apply_leavesUndeclaredAndMissingComponentsEmpty() {
+        RecordMapping<ExternalMoveMade> move = RecordMapping.compile(ExternalMoveMade.class, Map.of(
+                "gameId", "gameId",
+                "moveNumber", "moveNumber"), List.of());
+
+        ExternalMoveMade result = move.apply(Map.of("gameId", GAME_ID));
+
+        assertEquals(GAME_ID, result.gameId());
+        assertNull(result.notation());
+        assertEquals(0, result.moveNumber());
+        assertEquals(12, move.apply(Map.of("moveNumber", "12")).moveNumber());
+        assertEquals(7, move.apply(Map.of("moveNumber", 7L)).moveNumber());
+    }
+
+    @Test
+    void apply_acceptsEpochMillis_dates_andJacksonDateStrings() {
+        Instant at = Instant.parse("2026-01-01T10:00:00Z");
+
+        assertEquals(at, started.apply(Map.of("timestamp", at.toEpochMilli())).timestamp());
+        assertEquals(at, started.apply(Map.of("timestamp", Date.from(at))).timestamp());
+        assertEquals(at, started.apply(Map.of("timestamp", "2026-01-01T10:00:00.000+0000")).timestamp());
+    }
+
+    @Test
+    void apply_reportsTheSourceOfAnUnconvertibleValue() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> started.apply(Map.of("gameId", "not-a-uuid")));
+
+        assertTrue(error.getMessage().contains("'gameId'"));
+        assertThrows(IllegalArgumentException.class, () -> started.apply(Map.of("timestamp", "yesterday")));
+    }
+
+    @Test
+    void compile_rejectsUnknownFields() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> RecordMapping.compile(ExternalGameStarted.class, Map.of("winner", "winner"), List.of()));
+
+        assertTrue(error.getMessage().contains("winner"));
+    }
+}
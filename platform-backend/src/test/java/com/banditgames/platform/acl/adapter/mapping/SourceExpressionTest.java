@@ -0,0 +1,70 @@
+package com.banditgames.platform.acl.adapter.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceExpressionTest {
+
+    private static final Object[] NO_VARIABLES = new Object[0];
+
+    @Test
+    void read_followsDottedPaths_andReturnsNullForMissingOrNonMapSegments() {
+        SourceExpression expression = SourceExpression.compile("move.from", List.of());
+
+        assertEquals("e2", expression.read(Map.of("move", Map.of("from", "e2")), NO_VARIABLES));
+        assertNull(expression.read(Map.of("move", "e2e4"), NO_VARIABLES));
+        assertNull(expression.read(Map.of(), NO_VARIABLES));
+    }
+
+    @Test
+    void read_triesAlternativesLeftToRight_thenTheLiteralDefault() {
+        SourceExpression expression = SourceExpression.compile("currentFen | initialFen | 'start'", List.of());
+
+        assertEquals("a", expression.read(Map.of("currentFen", "a", "initialFen", "b"), NO_VARIABLES));
+        assertEquals("b", expression.read(Map.of("initialFen", "b"), NO_VARIABLES));
+        assertEquals("start", expression.read(Map.of(), NO_VARIABLES));
+    }
+
+    @Test
+    void read_skipsNullValues() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("winner", null);
+
+        assertEquals("", SourceExpression.compile("winner|''", List.of()).read(source, NO_VARIABLES));
+    }
+
+    @Test
+    void integerLiterals_areIntOrLong() {
+        assertEquals(0, SourceExpression.compile("totalMoves|0", List.of()).read(Map.of(), NO_VARIABLES));
+        assertEquals(-5, SourceExpression.compile("offset|-5", List.of()).read(Map.of(), NO_VARIABLES));
+        assertEquals(10_000_000_000L, SourceExpression.compile("big|10000000000", List.of()).read(Map.of(), NO_VARIABLES));
+    }
+
+    @Test
+    void variables_areReadByPosition_andMissingValuesFallThrough() {
+        SourceExpression expression = SourceExpression.compile("$secondPlayerId|'unknown'", List.of("firstPlayerId", "secondPlayerId"));
+
+        assertEquals("p2", expression.read(Map.of(), new Object[]{"p1", "p2"}));
+        assertEquals("unknown", expression.read(Map.of(), new Object[]{"p1"}));
+        assertEquals("unknown", expression.read(Map.of(), new Object[]{"p1", null}));
+    }
+
+    @Test
+    void compile_rejectsInvalidExpressions() {
+        assertThrows(IllegalStateException.class, () -> SourceExpression.compile(" ", List.of()));
+        assertThrows(IllegalStateException.class, () -> SourceExpression.compile("'default'|path", List.of()));
+        assertThrows(IllegalStateException.class, () -> SourceExpression.compile("$unknown", List.of("firstPlayerId")));
+        assertThrows(IllegalStateException.class, () -> SourceExpression.compile("move..from", List.of()));
+        assertThrows(IllegalStateException.class, () -> SourceExpression.compile(".from", List.of()));
+    }
+
+    @Test
+    void toString_isTheDeclaredExpression() {
+        assertEquals("a|'b'", SourceExpression.compile("a|'b'", List.of()).toString());
+    }
+}
@@ -0,0 +1,163 @@
+package com.banditgames.platform.acl.adapter.messaging;
+
+import com.banditgames.platform.acl.adapter.ExternalGameContextCache;
+import com.banditgames.platform.acl.adapter.client.ChessBackendClient;
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.domain.events.LobbyStartedEvent;
+import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.service.ExternalGameInstanceService;
+import com.banditgames.platform.player.domain.Player;
+import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import com.banditgames.platform.shared.events.GameStartFailedDomainEvent;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChessGameLobbyHandlerTest {
+
+    private static final UUID CHESS_GAME_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    private final UUID lobbyId = UUID.randomUUID();
+    private final UUID white = UUID.randomUUID();
+    private final UUID black = UUID.randomUUID();
+
+    private LoadLobbyPort loadLobbyPort;
+    private ExternalGameInstanceService externalGameInstanceService;
+    private ChessBackendClient chessBackendClient;
+    private RabbitTemplate rabbitTemplate;
+    private PlatformEventPublisher eventPublisher;
+    private ChessGameLobbyHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        LoadPlayerPort loadPlayerPort = mock(LoadPlayerPort.class);
+        loadLobbyPort = mock(LoadLobbyPort.class);
+        externalGameInstanceService = mock(ExternalGameInstanceService.class);
+        chessBackendClient = mock(ChessBackendClient.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        eventPublisher = mock(PlatformEventPublisher.class);
+        handler = new ChessGameLobbyHandler(loadPlayerPort, loadLobbyPort, externalGameInstanceService,
+                chessBackendClient, mock(ChessGameRegistrationPublisher.class), mock(ExternalGameContextCache.class),
+                rabbitTemplate, eventPublisher);
+        ReflectionTestUtils.setField(handler, "chessFrontendUrl", "http://localhost:3333");
+        ReflectionTestUtils.setField(handler, "gameEventsExchange", "game_events");
+
+        when(loadPlayerPort.findById(white)).thenReturn(Optional.of(Player.builder().playerId(white).username("white").build()));
+        when(loadPlayerPort.findById(black)).thenReturn(Optional.of(Player.builder().playerId(black).username("black").build()));
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(Optional.of(Lobby.builder()
+                .id(lobbyId)
+                .gameId(CHESS_GAME_ID)
+                .hostId(white)
+                .playerIds(new ArrayList<>(List.of(white, black)))
+                .status(LobbyStatus.WAITING)
+                .maxPlayers(2)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    void start_waitsForThePreregistrationOfTheSameLobby() throws Exception {
+        CompletableFuture<Void> preregistered = new CompletableFuture<>();
+        when(chessBackendClient.preregisterPlayers(any(), any())).thenReturn(preregistered);
+        when(chessBackendClient.createGame(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        handler.onPlayerJoinedLobby(new PlayerJoinedLobbyEvent(lobbyId, black));
+        handler.onLobbyStarted(started());
+
+        verify(chessBackendClient, timeout(1000)).preregisterPlayers(any(), any());
+        verify(chessBackendClient, after(200).never()).createGame(any(), any());
+
+        preregistered.complete(null);
+        handler.pendingWork(lobbyId).get(5, TimeUnit.SECONDS);
+
+        verify(chessBackendClient).createGame(any(), any());
+        verify(rabbitTemplate).convertAndSend(eq("game_events"), eq("game.session.start.requested"), any(Object.class));
+        verify(eventPublisher, never()).publish(any());
+        awaitQueueCleared();
+    }
+
+    @Test
+    void start_whenTheBackendFails_reopensTheLobby() throws Exception {
+        when(chessBackendClient.createGame(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("circuit open")));
+
+        handler.onLobbyStarted(started());
+        handler.pendingWork(lobbyId).get(5, TimeUnit.SECONDS);
+
+        verify(eventPublisher, timeout(1000)).publish(any(GameStartFailedDomainEvent.class));
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        awaitQueueCleared();
+    }
+
+    @Test
+    void start_whenTheSessionStartCannotBePublished_reopensTheLobby() throws Exception {
+        when(chessBackendClient.createGame(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        doThrow(new IllegalStateException("broker down"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        handler.onLobbyStarted(started());
+        handler.pendingWork(lobbyId).get(5, TimeUnit.SECONDS);
+
+        verify(eventPublisher, timeout(1000)).publish(new GameStartFailedDomainEvent(lobbyId, "game session start could not be published"));
+    }
+
+    @Test
+    void failedWork_doesNotStallTheLobbysLaterWork() throws Exception {
+        when(chessBackendClient.preregisterPlayers(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("backend down")));
+        when(chessBackendClient.createGame(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        handler.onPlayerJoinedLobby(new PlayerJoinedLobbyEvent(lobbyId, black));
+        handler.onLobbyStarted(started());
+        handler.pendingWork(lobbyId).get(5, TimeUnit.SECONDS);
+
+        verify(chessBackendClient, timeout(1000)).createGame(any(), any());
+    }
+
+    @Test
+    void rejectedWork_isDropped_withoutLeakingTheLobbyQueue() {
+        handler.shutdown();
+
+        handler.onPlayerJoinedLobby(new PlayerJoinedLobbyEvent(lobbyId, black));
+
+        assertTrue(handler.pendingWork(lobbyId).isDone());
+        awaitQueueCleared();
+        verifyNoInteractions(chessBackendClient);
+    }
+
+    private LobbyStartedEvent started() {
+        return new LobbyStartedEvent(lobbyId, CHESS_GAME_ID, List.of(white, black), LocalDateTime.now());
+    }
+
+    private void awaitQueueCleared() {
+        // The cleanup callback may still be running on the thread that completed the work
+        Map<?, ?> queues = (Map<?, ?>) ReflectionTestUtils.getField(handler, "lobbyQueues");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queues.containsKey(lobbyId)) {
+            assertTrue(System.nanoTime() < deadline, "lobby queue entry was not removed");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.banditgames.platform.admin.adapter.messaging;
+
+import com.banditgames.platform.shared.messaging.ListenerFailureRouter;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RabbitDeadLetterQueueAdapterTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private Channel channel;
+    private RabbitDeadLetterQueueAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        channel = mock(Channel.class);
+        adapter = new RabbitDeadLetterQueueAdapter(rabbitTemplate);
+
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void replay_skipsLettersAlreadyReplayedByThisJob() throws Exception {
+        long earlierJob = System.currentTimeMillis() - 60_000;
+        long thisJob = System.currentTimeMillis() + 60_000;
+        when(channel.basicGet(eq("game_events_dlq"), eq(false))).thenReturn(
+                response(1, "a", null),
+                response(2, "b", earlierJob),
+                response(3, "c", thisJob),
+                null);
+        List<String> selected = new ArrayList<>();
+        List<String> replayed = new ArrayList<>();
+
+        adapter.replay(10, 10, letter -> selected.add(letter.getId()), letter -> replayed.add(letter.getId()));
+
+        assertEquals(List.of("a", "b"), selected);
+        assertEquals(List.of("a", "b"), replayed);
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verify(channel, never()).basicAck(eq(3L), anyBoolean());
+        verify(channel).basicNack(3, true, true);
+    }
+
+    @Test
+    void replay_stampsReplayTime_andIncrementsReplayCount() throws Exception {
+        when(channel.basicGet(eq("game_events_dlq"), eq(false))).thenReturn(response(1, "a", null)).thenReturn(null);
+        long before = System.currentTimeMillis();
+
+        adapter.replay(10, 10, letter -> true, letter -> { });
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq("achievements_game_events"), sent.capture(), any(CorrelationData.class));
+        Map<String, Object> headers = sent.getValue().getMessageProperties().getHeaders();
+        assertEquals(1, headers.get(RabbitDeadLetterQueueAdapter.REPLAY_COUNT_HEADER));
+        assertTrue(((Number) headers.get(RabbitDeadLetterQueueAdapter.REPLAYED_AT_HEADER)).longValue() >= before);
+        assertFalse(headers.containsKey(ListenerFailureRouter.DEAD_LETTER_ID_HEADER));
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void replay_neverNacksAnAckedTag() throws Exception {
+        when(channel.basicGet(eq("game_events_dlq"), eq(false))).thenReturn(
+                response(1, "a", null),
+                response(2, "b", null),
+                response(3, "c", null),
+                null);
+
+        adapter.replay(10, 10, letter -> !letter.getId().equals("b"), letter -> { });
+
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(3, false);
+        ArgumentCaptor<Long> nacked = ArgumentCaptor.forClass(Long.class);
+        verify(channel).basicNack(nacked.capture(), eq(true), eq(true));
+        assertEquals(2L, nacked.getValue());
+    }
+
+    @Test
+    void replay_requeuesUnreplayedLetters_whenRepublishFails() throws Exception {
+        when(channel.basicGet(eq("game_events_dlq"), eq(false))).thenReturn(response(1, "a", null), response(2, "b", null));
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(false, "nacked"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        assertThrows(RuntimeException.class, () -> adapter.replay(10, 10, letter -> true, letter -> { }));
+
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel).basicNack(1, true, true);
+    }
+
+    private static GetResponse response(long deliveryTag, String id, Long replayedAt) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ListenerFailureRouter.DEAD_LETTER_ID_HEADER, id);
+        headers.put(ListenerFailureRouter.ORIGINAL_QUEUE_HEADER, "achievements_game_events");
+        if (replayedAt != null) {
+            headers.put(RabbitDeadLetterQueueAdapter.REPLAYED_AT_HEADER, replayedAt);
+        }
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder().headers(headers).build();
+        Envelope envelope = new Envelope(deliveryTag, false, "", "game_events_dlq");
+        return new GetResponse(envelope, properties, "{}".getBytes(StandardCharsets.UTF_8), 0);
+    }
+}
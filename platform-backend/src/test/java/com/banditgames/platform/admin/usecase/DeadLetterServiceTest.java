@@ -0,0 +1,134 @@
+package com.banditgames.platform.admin.usecase;
+
+import com.banditgames.platform.admin.domain.DeadLetter;
+import com.banditgames.platform.admin.domain.DeadLetterFilter;
+import com.banditgames.platform.admin.domain.ReplayJob;
+import com.banditgames.platform.admin.domain.ReplaySelection;
+import com.banditgames.platform.admin.domain.ReplayStatus;
+import com.banditgames.platform.admin.port.out.DeadLetterQueuePort;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeadLetterServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+    private DeadLetterQueuePort deadLetterQueuePort;
+    private DistributedLease distributedLease;
+    private List<Runnable> submitted;
+    private DeadLetterService service;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterQueuePort = mock(DeadLetterQueuePort.class);
+        distributedLease = mock(DistributedLease.class);
+        submitted = new ArrayList<>();
+        Executor executor = submitted::add;
+        service = new DeadLetterService(deadLetterQueuePort, distributedLease, new SimpleMeterRegistry(), executor);
+
+        when(distributedLease.tryAcquire(eq(DeadLetterService.LEASE_NAME), any())).thenReturn(true);
+    }
+
+    @Test
+    void getDeadLetters_filtersByRoutingKeyAndTime_thenPages() {
+        when(deadLetterQueuePort.peek(anyInt())).thenReturn(List.of(
+                letter("a", "game.session.ended", NOW.minusSeconds(120)),
+                letter("b", "game.session.ended", NOW.minusSeconds(30)),
+                letter("c", "game.move.applied", NOW.minusSeconds(20)),
+                letter("d", "game.session.ended", NOW.minusSeconds(10))
+        ));
+
+        Page<DeadLetter> page = service.getDeadLetters(
+                new DeadLetterFilter("game.session.ended", NOW.minusSeconds(60), null), PageRequest.of(1, 1));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of("d"), page.getContent().stream().map(DeadLetter::getId).toList());
+    }
+
+    @Test
+    void startReplay_replaysOnlySelectedLetters_andReleasesLease() {
+        List<DeadLetter> queue = List.of(
+                letter("a", "game.session.ended", NOW),
+                letter("b", "game.session.ended", NOW),
+                letter("c", "game.move.applied", NOW)
+        );
+        List<String> replayed = new ArrayList<>();
+        doAnswer(invocation -> {
+            Predicate<DeadLetter> selector = invocation.getArgument(2);
+            Consumer<DeadLetter> onReplayed = invocation.getArgument(3);
+            for (DeadLetter letter : queue) {
+                if (selector.test(letter)) {
+                    replayed.add(letter.getId());
+                    onReplayed.accept(letter);
+                }
+            }
+            return null;
+        }).when(deadLetterQueuePort).replay(anyInt(), anyInt(), any(), any());
+
+        ReplayJob job = service.startReplay(new ReplaySelection(Set.of("a", "c"), DeadLetterFilter.all(), 0));
+        assertEquals(ReplayStatus.RUNNING, job.getStatus());
+        submitted.forEach(Runnable::run);
+
+        assertEquals(List.of("a", "c"), replayed);
+        assertEquals(ReplayStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getScanned());
+        assertEquals(2, job.getReplayed());
+        assertSame(job, service.getReplay(job.getId()).orElseThrow());
+        verify(distributedLease).release(DeadLetterService.LEASE_NAME);
+    }
+
+    @Test
+    void startReplay_rejected_whileAnotherReplayRuns() {
+        service.startReplay(new ReplaySelection(null, null, 10));
+
+        assertThrows(IllegalStateException.class,
+                () -> service.startReplay(new ReplaySelection(null, null, 10)));
+        verify(distributedLease, times(1)).tryAcquire(eq(DeadLetterService.LEASE_NAME), any());
+    }
+
+    @Test
+    void startReplay_rejected_whenLeaseHeldElsewhere() {
+        when(distributedLease.tryAcquire(eq(DeadLetterService.LEASE_NAME), any())).thenReturn(false);
+
+        assertThrows(IllegalStateException.class,
+                () -> service.startReplay(new ReplaySelection(null, null, 10)));
+        assertTrue(submitted.isEmpty());
+    }
+
+    @Test
+    void runReplay_marksJobFailed_whenQueueFails() {
+        doThrow(new IllegalStateException("broker unavailable"))
+                .when(deadLetterQueuePort).replay(anyInt(), anyInt(), any(), any());
+
+        ReplayJob job = service.startReplay(new ReplaySelection(null, null, 10));
+        submitted.forEach(Runnable::run);
+
+        assertEquals(ReplayStatus.FAILED, job.getStatus());
+        assertEquals("broker unavailable", job.getError());
+        verify(distributedLease).release(DeadLetterService.LEASE_NAME);
+    }
+
+    private static DeadLetter letter(String id, String routingKey, Instant deadLetteredAt) {
+        return DeadLetter.builder()
+                .id(id)
+                .originalRoutingKey(routingKey)
+                .deadLetteredAt(deadLetteredAt)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.banditgames.platform.games.adapter.messaging;
+
+import com.banditgames.platform.lobby.domain.ActiveGameSession;
+import com.banditgames.platform.lobby.port.out.GameSessionRegistryPort;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.shared.events.GameEndedDomainEvent;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import com.banditgames.platform.shared.idempotency.ProcessedEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameSessionEndedConsumerTest {
+
+    private final UUID sessionId = UUID.randomUUID();
+    private final UUID lobbyId = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    private PlatformEventPublisher eventPublisher;
+    private GameSessionRegistryPort gameSessionRegistryPort;
+    private GameSessionEndedConsumer consumer;
+    private final Set<String> processed = new HashSet<>();
+    private boolean inClaim;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(PlatformEventPublisher.class);
+        gameSessionRegistryPort = mock(GameSessionRegistryPort.class);
+
+        // Stands in for the processed_events table: the action runs only for an unseen id
+        ProcessedEvents processedEvents = new ProcessedEvents() {
+            @Override
+            public boolean runOnce(String consumer, String eventId, Runnable action) {
+                if (!processed.add(consumer + ":" + eventId)) {
+                    return false;
+                }
+                inClaim = true;
+                try {
+                    action.run();
+                } finally {
+                    inClaim = false;
+                }
+                return true;
+            }
+
+            @Override
+            public <T> List<T> runOnceEach(String consumer, List<T> events, Function<T, String> eventId,
+                                           Consumer<List<T>> action) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        consumer = new GameSessionEndedConsumer(eventPublisher, mock(LoadLobbyPort.class), gameSessionRegistryPort, processedEvents);
+
+        when(gameSessionRegistryPort.find(sessionId)).thenReturn(Optional.of(
+                new ActiveGameSession(sessionId, lobbyId, List.of(alice, bob), Instant.now(), null)));
+    }
+
+    @Test
+    void onGameSessionEnded_publishesDomainEvent_afterTheClaim() {
+        doAnswer(invocation -> {
+            assertFalse(inClaim, "domain event must be published after the claim committed");
+            return null;
+        }).when(eventPublisher).publish(any());
+
+        consumer.onGameSessionEnded(event("e-1"));
+
+        verify(gameSessionRegistryPort).markEnded(eq(sessionId), any());
+        verify(eventPublisher).publish(new GameEndedDomainEvent(lobbyId, alice, List.of(alice, bob)));
+    }
+
+    @Test
+    void onGameSessionEnded_skipsDuplicate() {
+        consumer.onGameSessionEnded(event("e-1"));
+        consumer.onGameSessionEnded(event("e-1"));
+
+        verify(eventPublisher, times(1)).publish(any());
+        verify(gameSessionRegistryPort, times(1)).markEnded(eq(sessionId), any());
+    }
+
+    private Map<String, Object> event(String eventId) {
+        return Map.of(
+                "event_id", eventId,
+                "session_id", sessionId.toString(),
+                "status", "FINISHED",
+                "winner_id", alice.toString());
+    }
+}
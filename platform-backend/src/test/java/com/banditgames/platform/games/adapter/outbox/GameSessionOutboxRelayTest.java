@@ -0,0 +1,293 @@
+package com.banditgames.platform.games.adapter.outbox;
+
+import com.banditgames.platform.shared.lease.DistributedLease;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameSessionOutboxRelayTest {
+
+    private static final UUID LOBBY_A = UUID.randomUUID();
+    private static final UUID LOBBY_B = UUID.randomUUID();
+
+    private InMemoryOutbox outbox;
+    private RabbitTemplate rabbitTemplate;
+    private DistributedLease distributedLease;
+    private GameSessionOutboxRelay relay;
+    private List<String> sentRoutingKeys;
+    private Function<String, CorrelationData.Confirm> broker;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new InMemoryOutbox();
+        rabbitTemplate = mock(RabbitTemplate.class);
+        distributedLease = mock(DistributedLease.class);
+        relay = new GameSessionOutboxRelay(outbox, rabbitTemplate, distributedLease, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "confirmTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+
+        sentRoutingKeys = new ArrayList<>();
+        broker = routingKey -> new CorrelationData.Confirm(true, null);
+
+        when(distributedLease.tryAcquire(eq(GameSessionOutboxRelay.LEASE_NAME), any())).thenReturn(true);
+        when(rabbitTemplate.<Object>invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+        doAnswer(invocation -> {
+            String routingKey = invocation.getArgument(1);
+            CorrelationData correlation = invocation.getArgument(3);
+            sentRoutingKeys.add(routingKey);
+            CorrelationData.Confirm confirm = broker.apply(routingKey);
+            if (confirm != null) {
+                correlation.getFuture().complete(confirm);
+            }
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void relay_publishesDueMessages_andReleasesLease() {
+        outbox.add(LOBBY_A, "a1");
+        outbox.add(LOBBY_B, "b1");
+
+        relay.relay();
+
+        assertEquals(List.of("a1", "b1"), sentRoutingKeys);
+        assertTrue(outbox.isPublished("a1"));
+        assertTrue(outbox.isPublished("b1"));
+        verify(distributedLease).release(GameSessionOutboxRelay.LEASE_NAME);
+    }
+
+    @Test
+    void relay_skipped_whenLeaseHeldElsewhere() {
+        when(distributedLease.tryAcquire(eq(GameSessionOutboxRelay.LEASE_NAME), any())).thenReturn(false);
+        outbox.add(LOBBY_A, "a1");
+
+        relay.relay();
+
+        assertTrue(sentRoutingKeys.isEmpty());
+        verify(distributedLease, never()).release(any());
+    }
+
+    @Test
+    void nackedHead_blocksLaterMessagesOfSameLobby_untilRetried() {
+        outbox.add(LOBBY_A, "a1");
+        outbox.add(LOBBY_A, "a2");
+        outbox.add(LOBBY_B, "b1");
+        broker = routingKey -> new CorrelationData.Confirm(!routingKey.equals("a1"), "queue full");
+
+        relay.relayBatch();
+
+        assertEquals(List.of("a1", "b1"), sentRoutingKeys);
+        assertFalse(outbox.isPublished("a1"));
+        assertTrue(outbox.isPublished("b1"));
+        assertEquals(List.of(Duration.ofSeconds(1)), outbox.retryDelays);
+
+        // Not due yet: a2 must not overtake a1
+        relay.relayBatch();
+        assertEquals(List.of("a1", "b1"), sentRoutingKeys);
+
+        outbox.elapse(Duration.ofSeconds(1));
+        broker = routingKey -> new CorrelationData.Confirm(true, null);
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertEquals(List.of("a1", "b1", "a1", "a2"), sentRoutingKeys);
+        assertTrue(outbox.isPublished("a1"));
+        assertTrue(outbox.isPublished("a2"));
+    }
+
+    @Test
+    void missingConfirm_retriesWithExponentialBackoff_thenMarksFailed() {
+        outbox.add(LOBBY_A, "a1");
+        broker = routingKey -> null;
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            relay.relayBatch();
+            outbox.elapse(Duration.ofMinutes(1));
+        }
+
+        assertEquals(List.of(Duration.ofSeconds(1), Duration.ofSeconds(2)), outbox.retryDelays);
+        assertTrue(outbox.isFailed("a1"));
+        assertTrue(outbox.lastError("a1").startsWith("No confirm"));
+
+        relay.relayBatch();
+        assertEquals(3, sentRoutingKeys.size());
+    }
+
+    @Test
+    void retryDelay_isCappedAtMaxDelay() {
+        ReflectionTestUtils.setField(relay, "maxAttempts", 10);
+        ReflectionTestUtils.setField(relay, "retryMaxDelayMillis", 3000L);
+        outbox.add(LOBBY_A, "a1");
+        broker = routingKey -> new CorrelationData.Confirm(false, "nacked");
+
+        for (int attempt = 0; attempt < 4; attempt++) {
+            relay.relayBatch();
+            outbox.elapse(Duration.ofMinutes(1));
+        }
+
+        assertEquals(List.of(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(3), Duration.ofSeconds(3)),
+                outbox.retryDelays);
+    }
+
+    @Test
+    void missingConfirms_shareOneDeadlinePerBatch() {
+        ReflectionTestUtils.setField(relay, "confirmTimeoutMillis", 200L);
+        for (int i = 0; i < 20; i++) {
+            outbox.add(UUID.randomUUID(), "m" + i);
+        }
+        broker = routingKey -> null;
+
+        long started = System.nanoTime();
+        relay.relayBatch();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Twenty separate timeouts would take four seconds
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0, "took " + elapsed);
+        assertEquals(20, outbox.retryDelays.size());
+    }
+
+    @Test
+    void relay_renewsLeaseBeforeEachBatch_andStopsOnceItIsLost() {
+        ReflectionTestUtils.setField(relay, "batchSize", 1);
+        outbox.add(LOBBY_A, "a1");
+        outbox.add(LOBBY_B, "b1");
+        outbox.add(UUID.randomUUID(), "c1");
+        when(distributedLease.tryAcquire(eq(GameSessionOutboxRelay.LEASE_NAME), any())).thenReturn(true, true, false);
+
+        relay.relay();
+
+        assertEquals(List.of("a1", "b1"), sentRoutingKeys);
+        verify(distributedLease, times(3)).tryAcquire(eq(GameSessionOutboxRelay.LEASE_NAME), any());
+        verify(distributedLease).release(GameSessionOutboxRelay.LEASE_NAME);
+    }
+
+    @Test
+    void returnedMessage_isRetried() {
+        outbox.add(LOBBY_A, "a1");
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.setReturned(mock(org.springframework.amqp.core.ReturnedMessage.class));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        relay.relayBatch();
+
+        assertFalse(outbox.isPublished("a1"));
+        assertTrue(outbox.lastError("a1").startsWith("Returned as unroutable"));
+    }
+
+    /**
+     * Mirrors the table semantics: only the oldest pending row of each lobby is due, and only
+     * once its next attempt time has passed. The routing key doubles as the message name.
+     */
+    private static class InMemoryOutbox extends GameSessionOutbox {
+
+        private final Map<Long, Row> rows = new LinkedHashMap<>();
+        private final List<Duration> retryDelays = new ArrayList<>();
+        private Duration now = Duration.ZERO;
+        private long sequence;
+
+        InMemoryOutbox() {
+            super(null, new ObjectMapper());
+        }
+
+        void add(UUID lobbyId, String name) {
+            long id = ++sequence;
+            rows.put(id, new Row(id, lobbyId, name));
+        }
+
+        void elapse(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        boolean isPublished(String name) {
+            return row(name).published;
+        }
+
+        boolean isFailed(String name) {
+            return row(name).failed;
+        }
+
+        String lastError(String name) {
+            return row(name).error;
+        }
+
+        @Override
+        public List<OutboxMessage> findDue(int limit) {
+            Map<UUID, Row> heads = new LinkedHashMap<>();
+            rows.values().stream()
+                    .filter(row -> !row.published && !row.failed)
+                    .forEach(row -> heads.putIfAbsent(row.lobbyId, row));
+            return heads.values().stream()
+                    .filter(row -> row.nextAttemptAt.compareTo(now) <= 0)
+                    .limit(limit)
+                    .map(row -> new OutboxMessage(row.id, row.lobbyId, "game_events", row.name, "{}", row.attempts))
+                    .toList();
+        }
+
+        @Override
+        public void markPublished(Collection<Long> ids) {
+            ids.forEach(id -> rows.get(id).published = true);
+        }
+
+        @Override
+        public void markRetry(long id, String error, Duration delay) {
+            Row row = rows.get(id);
+            row.attempts++;
+            row.error = error;
+            row.nextAttemptAt = now.plus(delay);
+            retryDelays.add(delay);
+        }
+
+        @Override
+        public void markFailed(long id, String error) {
+            Row row = rows.get(id);
+            row.attempts++;
+            row.error = error;
+            row.failed = true;
+        }
+
+        private Row row(String name) {
+            return rows.values().stream().filter(row -> row.name.equals(name)).findFirst().orElseThrow();
+        }
+    }
+
+    private static class Row {
+        private final long id;
+        private final UUID lobbyId;
+        private final String name;
+        private int attempts;
+        private Duration nextAttemptAt = Duration.ZERO;
+        private boolean published;
+        private boolean failed;
+        private String error;
+
+        Row(long id, UUID lobbyId, String name) {
+            this.id = id;
+            this.lobbyId = lobbyId;
+            this.name = name;
+        }
+    }
+}
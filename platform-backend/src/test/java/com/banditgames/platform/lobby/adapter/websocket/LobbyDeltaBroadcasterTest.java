@@ -0,0 +1,160 @@
+package com.banditgames.platform.lobby.adapter.websocket;
+
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyBrowserFrame;
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyChange;
+import com.banditgames.platform.lobby.adapter.websocket.dto.LobbyDeltaFrame;
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbyStatus;
+import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LobbyDeltaBroadcasterTest {
+
+    private final UUID lobbyId = UUID.randomUUID();
+    private final UUID host = UUID.randomUUID();
+    private final UUID guest = UUID.randomUUID();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private LoadLobbyPort loadLobbyPort;
+    private LobbyDeltaBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        loadLobbyPort = mock(LoadLobbyPort.class);
+        broadcaster = new LobbyDeltaBroadcaster(messagingTemplate, loadLobbyPort);
+    }
+
+    @Test
+    void flush_coalescesABurstIntoOneFrame_andChainsVersions() {
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(
+                Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PUBLIC, 3L)),
+                Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PUBLIC, 4L)));
+        LobbyChange created = change(LobbyChange.Type.CREATED, host);
+        LobbyChange joined = change(LobbyChange.Type.PLAYER_JOINED, guest);
+
+        broadcaster.record(lobbyId, created);
+        broadcaster.record(lobbyId, joined);
+        broadcaster.flush();
+
+        LobbyDeltaFrame first = lobbyFrames().get(0);
+        assertEquals(List.of(created, joined), first.changes());
+        assertEquals(3L, first.version());
+        assertNull(first.previousVersion());
+        verify(loadLobbyPort, times(1)).findById(lobbyId);
+
+        broadcaster.record(lobbyId, change(LobbyChange.Type.PLAYER_LEFT, guest));
+        broadcaster.flush();
+
+        LobbyDeltaFrame second = lobbyFrames().get(1);
+        assertEquals(4L, second.version());
+        assertEquals(3L, second.previousVersion());
+        verify(messagingTemplate, times(2)).convertAndSend(eq(LobbyDeltaBroadcaster.BROWSER_TOPIC),
+                argThat((LobbyBrowserFrame frame) -> frame.action() == LobbyBrowserFrame.Action.UPSERT));
+    }
+
+    @Test
+    void flush_withNothingRecorded_sendsNothing() {
+        broadcaster.flush();
+
+        verifyNoInteractions(messagingTemplate, loadLobbyPort);
+    }
+
+    @Test
+    void flush_deletedLobby_sendsRemoval_andForgetsItsVersion() {
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(
+                Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PUBLIC, 3L)),
+                Optional.empty());
+
+        broadcaster.record(lobbyId, change(LobbyChange.Type.CREATED, host));
+        broadcaster.flush();
+        broadcaster.record(lobbyId, change(LobbyChange.Type.PLAYER_LEFT, host));
+        broadcaster.flush();
+
+        LobbyDeltaFrame removed = lobbyFrames().get(1);
+        assertNull(removed.version());
+        assertEquals(3L, removed.previousVersion());
+        verify(messagingTemplate).convertAndSend(LobbyDeltaBroadcaster.BROWSER_TOPIC, LobbyBrowserFrame.remove(lobbyId, null));
+    }
+
+    @Test
+    void flush_finishedLobby_removesItFromTheBrowser_andRestartsTheVersionChain() {
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(
+                Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PUBLIC, 3L)),
+                Optional.of(lobby(LobbyStatus.CANCELLED, LobbyVisibility.PUBLIC, 4L)),
+                Optional.of(lobby(LobbyStatus.CANCELLED, LobbyVisibility.PUBLIC, 5L)));
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.record(lobbyId, change(LobbyChange.Type.UPDATED, null));
+            broadcaster.flush();
+        }
+
+        List<LobbyDeltaFrame> frames = lobbyFrames();
+        assertEquals(3L, frames.get(1).previousVersion());
+        assertNull(frames.get(2).previousVersion());
+        verify(messagingTemplate).convertAndSend(LobbyDeltaBroadcaster.BROWSER_TOPIC, LobbyBrowserFrame.remove(lobbyId, 4L));
+    }
+
+    @Test
+    void flush_privateLobby_skipsTheBrowserTopic() {
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PRIVATE, 1L)));
+
+        broadcaster.record(lobbyId, change(LobbyChange.Type.PLAYER_INVITED, guest));
+        broadcaster.flush();
+
+        assertEquals(1, lobbyFrames().size());
+        verify(messagingTemplate, never()).convertAndSend(eq(LobbyDeltaBroadcaster.BROWSER_TOPIC), any(Object.class));
+    }
+
+    @Test
+    void flush_failureForOneLobby_doesNotBlockTheOthers() {
+        UUID broken = UUID.randomUUID();
+        when(loadLobbyPort.findById(broken)).thenThrow(new IllegalStateException("database down"));
+        when(loadLobbyPort.findById(lobbyId)).thenReturn(Optional.of(lobby(LobbyStatus.WAITING, LobbyVisibility.PUBLIC, 1L)));
+
+        broadcaster.record(broken, change(LobbyChange.Type.UPDATED, null));
+        broadcaster.record(lobbyId, change(LobbyChange.Type.UPDATED, null));
+        broadcaster.flush();
+        broadcaster.flush();
+
+        assertEquals(1, lobbyFrames().size());
+        verify(loadLobbyPort, times(1)).findById(broken);
+    }
+
+    private List<LobbyDeltaFrame> lobbyFrames() {
+        ArgumentCaptor<LobbyDeltaFrame> frames = ArgumentCaptor.forClass(LobbyDeltaFrame.class);
+        verify(messagingTemplate, atLeast(0)).convertAndSend(eq(LobbyDeltaBroadcaster.LOBBY_TOPIC_PREFIX + lobbyId), frames.capture());
+        return frames.getAllValues();
+    }
+
+    private LobbyChange change(LobbyChange.Type type, UUID playerId) {
+        return new LobbyChange(type, playerId, Instant.now());
+    }
+
+    private Lobby lobby(LobbyStatus status, LobbyVisibility visibility, Long version) {
+        return Lobby.builder()
+                .id(lobbyId)
+                .hostId(host)
+                .name("lobby")
+                .playerIds(new ArrayList<>(List.of(host)))
+                .status(status)
+                .maxPlayers(4)
+                .visibility(visibility)
+                .version(version)
+                .build();
+    }
+}
@@ -133,6 +133,23 @@ class LobbyTest {
         assertNotNull(lobby.getStartedAt());
     }
 
+    @Test
+    void abortStart_reopensStartedLobby_butNotARunningSession() {
+        Lobby lobby = baseLobby(LobbyVisibility.PUBLIC, 2, LobbyStatus.STARTED);
+        UUID gameId = UUID.randomUUID();
+        lobby.setGameId(gameId);
+
+        lobby.abortStart();
+
+        assertEquals(LobbyStatus.WAITING, lobby.getStatus());
+        assertEquals(gameId, lobby.getGameId());
+
+        Lobby running = baseLobby(LobbyVisibility.PUBLIC, 2, LobbyStatus.STARTED);
+        running.setSessionId(UUID.randomUUID());
+        running.abortStart();
+        assertEquals(LobbyStatus.STARTED, running.getStatus());
+    }
+
     @Test
     void complete_onlyWhenStarted() {
         Lobby lobby = baseLobby(LobbyVisibility.PUBLIC, 4, LobbyStatus.WAITING);
@@ -173,5 +190,43 @@ class LobbyTest {
         lobby = baseLobby(LobbyVisibility.PUBLIC, 4, LobbyStatus.CANCELLED);
         assertFalse(lobby.canJoin(UUID.randomUUID()));
     }
-}
 
+    @Test
+    void freeSlots_trackMembership() {
+        Lobby lobby = baseLobby(LobbyVisibility.PUBLIC, 2, LobbyStatus.WAITING);
+        assertEquals(1, lobby.getPlayerCount());
+        assertEquals(1, lobby.getFreeSlots());
+
+        lobby.join(UUID.randomUUID());
+
+        assertEquals(2, lobby.getPlayerCount());
+        assertEquals(0, lobby.getFreeSlots());
+    }
+
+    @Test
+    void searchCriteria_rejectsMinRankAboveMaxRank() {
+        assertThrows(IllegalArgumentException.class, () -> new LobbySearchCriteria(null, null, false, 3, 1));
+        assertDoesNotThrow(() -> new LobbySearchCriteria(null, null, false, 2, 2));
+        assertDoesNotThrow(() -> new LobbySearchCriteria(null, null, false, 3, null));
+    }
+
+    @Test
+    void searchCriteria_filtersOnFreeSlotsAndHostRank() {
+        Lobby lobby = Lobby.builder()
+                .id(UUID.randomUUID())
+                .hostId(UUID.randomUUID())
+                .playerIds(new ArrayList<>())
+                .status(LobbyStatus.WAITING)
+                .maxPlayers(1)
+                .visibility(LobbyVisibility.PUBLIC)
+                .invitedPlayerIds(new ArrayList<>())
+                .hostRank(2)
+                .build();
+
+        assertTrue(new LobbySearchCriteria(null, null, true, 1, 3).matchesSeatsAndRank(lobby));
+        assertFalse(new LobbySearchCriteria(null, null, false, 3, null).matchesSeatsAndRank(lobby));
+
+        lobby.join(lobby.getHostId());
+        assertFalse(new LobbySearchCriteria(null, null, true, null, null).matchesSeatsAndRank(lobby));
+    }
+}
@@ -5,6 +5,7 @@ package com.banditgames.platform.lobby.usecase;
 import com.banditgames.platform.lobby.domain.Lobby;
 import com.banditgames.platform.lobby.domain.LobbyStatus;
 import com.banditgames.platform.lobby.domain.LobbyVisibility;
+import com.banditgames.platform.lobby.domain.exception.LobbyOperationException;
 import com.banditgames.platform.lobby.domain.events.PlayerJoinedLobbyEvent;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
 import com.banditgames.platform.lobby.port.out.SaveLobbyPort;
@@ -12,10 +13,20 @@ import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,7 +43,7 @@ class JoinLobbyServiceTest {
         loadLobbyPort = mock(LoadLobbyPort.class);
         saveLobbyPort = mock(SaveLobbyPort.class);
         publisher = mock(PlatformEventPublisher.class);
-        service = new JoinLobbyService(loadLobbyPort, saveLobbyPort, publisher);
+        service = new JoinLobbyService(loadLobbyPort, saveLobbyPort, publisher, TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -64,4 +75,111 @@ class JoinLobbyServiceTest {
         assertEquals(lobbyId, captor.getValue().lobbyId());
         assertEquals(p2, captor.getValue().playerId());
     }
+
+    @Test
+    void joinLobby_retriesOnVersionConflict() {
+        UUID lobbyId = UUID.randomUUID();
+        UUID host = UUID.randomUUID();
+        UUID p2 = UUID.randomUUID();
+
+        when(loadLobbyPort.findById(lobbyId)).thenAnswer(inv -> Optional.of(waitingLobby(lobbyId, host, 4)));
+        when(saveLobbyPort.save(any(Lobby.class)))
+                .thenThrow(new OptimisticLockingFailureException("stale"))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        Lobby saved = service.joinLobby(lobbyId, p2);
+
+        assertTrue(saved.getPlayerIds().contains(p2));
+        verify(loadLobbyPort, times(2)).findById(lobbyId);
+        verify(publisher, times(1)).publish(any(PlayerJoinedLobbyEvent.class));
+    }
+
+    @Test
+    void joinLobby_concurrentJoinersAcrossInstances_neverOverfill() throws Exception {
+        UUID lobbyId = UUID.randomUUID();
+        UUID host = UUID.randomUUID();
+        int capacity = 50;
+        int joiners = 300;
+
+        // Versioned store: a save based on an outdated read is rejected, like the JPA @Version check
+        AtomicReference<Lobby> store = new AtomicReference<>(waitingLobby(lobbyId, host, capacity));
+        when(loadLobbyPort.findById(lobbyId)).thenAnswer(inv -> Optional.of(copyOf(store.get())));
+        when(saveLobbyPort.save(any(Lobby.class))).thenAnswer(inv -> {
+            Lobby candidate = inv.getArgument(0);
+            synchronized (store) {
+                if (!candidate.getVersion().equals(store.get().getVersion())) {
+                    throw new OptimisticLockingFailureException("stale lobby version");
+                }
+                store.set(copyOf(candidate, candidate.getVersion() + 1));
+                return copyOf(store.get());
+            }
+        });
+
+        // Two services with separate lock pools stand in for two application instances
+        JoinLobbyService otherInstance = new JoinLobbyService(
+                loadLobbyPort, saveLobbyPort, publisher, TransactionOperations.withoutTransaction());
+        List<JoinLobbyService> instances = List.of(service, otherInstance);
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < joiners; i++) {
+            JoinLobbyService instance = instances.get(i % instances.size());
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    instance.joinLobby(lobbyId, UUID.randomUUID());
+                    return true;
+                } catch (LobbyOperationException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int joined = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                joined++;
+            }
+        }
+        pool.shutdown();
+
+        // Host took the first seat
+        assertEquals(capacity - 1, joined);
+        assertEquals(capacity, store.get().getPlayerIds().size());
+        assertEquals(capacity, new HashSet<>(store.get().getPlayerIds()).size());
+    }
+
+    private static Lobby waitingLobby(UUID lobbyId, UUID host, int maxPlayers) {
+        List<UUID> players = new ArrayList<>();
+        players.add(host);
+        return Lobby.builder()
+                .id(lobbyId)
+                .hostId(host)
+                .playerIds(players)
+                .status(LobbyStatus.WAITING)
+                .maxPlayers(maxPlayers)
+                .visibility(LobbyVisibility.PUBLIC)
+                .invitedPlayerIds(new ArrayList<>())
+                .version(0L)
+                .build();
+    }
+
+    private static Lobby copyOf(Lobby lobby) {
+        return copyOf(lobby, lobby.getVersion());
+    }
+
+    private static Lobby copyOf(Lobby lobby, Long version) {
+        return Lobby.builder()
+                .id(lobby.getId())
+                .hostId(lobby.getHostId())
+                .playerIds(new ArrayList<>(lobby.getPlayerIds()))
+                .status(lobby.getStatus())
+                .maxPlayers(lobby.getMaxPlayers())
+                .visibility(lobby.getVisibility())
+                .invitedPlayerIds(new ArrayList<>(lobby.getInvitedPlayerIds()))
+                .version(version)
+                .build();
+    }
 }
@@ -0,0 +1,94 @@
+package com.banditgames.platform.lobby.usecase;
+
+import com.banditgames.platform.lobby.domain.events.LobbyUpdatedEvent;
+import com.banditgames.platform.lobby.port.out.ReapLobbiesPort;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LobbyReaperServiceTest {
+
+    private ReapLobbiesPort reapLobbiesPort;
+    private DistributedLease distributedLease;
+    private PlatformEventPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private LobbyReaperService service;
+
+    @BeforeEach
+    void setUp() {
+        reapLobbiesPort = mock(ReapLobbiesPort.class);
+        distributedLease = mock(DistributedLease.class);
+        publisher = mock(PlatformEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new LobbyReaperService(reapLobbiesPort, distributedLease, publisher, meterRegistry);
+
+        when(reapLobbiesPort.cancelIdleLobbies(any(), anyInt())).thenReturn(List.of());
+        when(reapLobbiesPort.archiveFinishedLobbies(any(), anyInt())).thenReturn(new ReapLobbiesPort.ArchivedLobbies(0, 0));
+    }
+
+    @Test
+    void reap_skipsPass_whenLeaseHeldElsewhere() {
+        when(distributedLease.tryAcquire(eq(LobbyReaperService.LEASE_NAME), any())).thenReturn(false);
+
+        service.reap();
+
+        verifyNoInteractions(reapLobbiesPort);
+        verify(distributedLease, never()).release(any());
+    }
+
+    @Test
+    void reap_releasesLease_afterPass() {
+        when(distributedLease.tryAcquire(eq(LobbyReaperService.LEASE_NAME), any())).thenReturn(true);
+
+        service.reap();
+
+        verify(reapLobbiesPort).cancelIdleLobbies(any(), anyInt());
+        verify(distributedLease).release(LobbyReaperService.LEASE_NAME);
+    }
+
+    @Test
+    void reapOnce_cancelsInBatches_andPublishesUpdates() {
+        List<UUID> fullBatch = IntStream.range(0, 200).mapToObj(i -> UUID.randomUUID()).toList();
+        List<UUID> lastBatch = List.of(UUID.randomUUID());
+        when(reapLobbiesPort.cancelIdleLobbies(any(), eq(200))).thenReturn(fullBatch).thenReturn(lastBatch);
+
+        LobbyReaperService.ReapReport report = service.reapOnce(LocalDateTime.now());
+
+        assertEquals(201, report.cancelledLobbies());
+        verify(reapLobbiesPort, times(2)).cancelIdleLobbies(any(), eq(200));
+        verify(publisher, times(201)).publish(any(LobbyUpdatedEvent.class));
+    }
+
+    @Test
+    void reapOnce_reportsArchivedRows() {
+        when(reapLobbiesPort.archiveFinishedLobbies(any(), eq(200)))
+                .thenReturn(new ReapLobbiesPort.ArchivedLobbies(200, 900), new ReapLobbiesPort.ArchivedLobbies(5, 17));
+
+        LobbyReaperService.ReapReport report = service.reapOnce(LocalDateTime.now());
+
+        assertEquals(205, report.archivedLobbies());
+        assertEquals(917, report.reclaimedRows());
+        assertEquals(917.0, meterRegistry.counter("lobby.reaper.reclaimed.rows").count());
+    }
+
+    @Test
+    void reapOnce_usesConfiguredCutoffs() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 12, 0);
+
+        service.reapOnce(now);
+
+        verify(reapLobbiesPort).cancelIdleLobbies(now.minusMinutes(60), 200);
+        verify(reapLobbiesPort).archiveFinishedLobbies(now.minusMinutes(1440), 200);
+    }
+}
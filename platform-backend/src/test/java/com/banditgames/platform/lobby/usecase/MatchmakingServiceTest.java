@@ -0,0 +1,188 @@
+package com.banditgames.platform.lobby.usecase;
+
+import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.MatchmakingTicket;
+import com.banditgames.platform.lobby.domain.exception.LobbyOperationException;
+import com.banditgames.platform.lobby.port.in.CreateLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.InviteToLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.JoinLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.LeaveLobbyUseCase;
+import com.banditgames.platform.lobby.port.in.StartLobbyUseCase;
+import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.PlayerRankPort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MatchmakingServiceTest {
+
+    private LoadLobbyPort loadLobbyPort;
+    private PlayerRankPort playerRankPort;
+    private CreateLobbyUseCase createLobbyUseCase;
+    private InviteToLobbyUseCase inviteToLobbyUseCase;
+    private JoinLobbyUseCase joinLobbyUseCase;
+    private StartLobbyUseCase startLobbyUseCase;
+    private LeaveLobbyUseCase leaveLobbyUseCase;
+    private SimpleMeterRegistry meterRegistry;
+    private MatchmakingService service;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID lobbyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        loadLobbyPort = mock(LoadLobbyPort.class);
+        playerRankPort = mock(PlayerRankPort.class);
+        createLobbyUseCase = mock(CreateLobbyUseCase.class);
+        inviteToLobbyUseCase = mock(InviteToLobbyUseCase.class);
+        joinLobbyUseCase = mock(JoinLobbyUseCase.class);
+        startLobbyUseCase = mock(StartLobbyUseCase.class);
+        leaveLobbyUseCase = mock(LeaveLobbyUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MatchmakingService(loadLobbyPort, playerRankPort, createLobbyUseCase, inviteToLobbyUseCase,
+                joinLobbyUseCase, startLobbyUseCase, leaveLobbyUseCase, meterRegistry);
+
+        when(loadLobbyPort.findPlayerLobby(any())).thenReturn(Optional.empty());
+        Lobby lobby = Lobby.builder().id(lobbyId).build();
+        when(createLobbyUseCase.createLobby(any(), anyString(), anyString(), anyInt(), anyBoolean())).thenReturn(lobby);
+        when(startLobbyUseCase.startLobby(eq(lobbyId), any(), eq(gameId))).thenReturn(lobby);
+    }
+
+    @Test
+    void enqueue_isIdempotent() {
+        UUID player = UUID.randomUUID();
+
+        MatchmakingTicket first = service.enqueue(player, gameId);
+        MatchmakingTicket second = service.enqueue(player, gameId);
+
+        assertSame(first, second);
+        verify(playerRankPort, times(1)).rankTier(player);
+    }
+
+    @Test
+    void enqueue_rejectsPlayerAlreadyInLobby() {
+        UUID player = UUID.randomUUID();
+        when(loadLobbyPort.findPlayerLobby(player)).thenReturn(Optional.of(Lobby.builder().id(lobbyId).build()));
+
+        assertThrows(LobbyOperationException.class, () -> service.enqueue(player, gameId));
+        assertTrue(service.findTicket(player).isEmpty());
+    }
+
+    @Test
+    void matchAt_pairsSameTierPlayers_andStartsLobby() {
+        UUID host = UUID.randomUUID();
+        UUID guest = UUID.randomUUID();
+        when(playerRankPort.rankTier(any())).thenReturn(2);
+        service.enqueue(host, gameId);
+        service.enqueue(guest, gameId);
+
+        int matches = service.matchAt(Instant.now());
+
+        assertEquals(1, matches);
+        verify(createLobbyUseCase).createLobby(eq(host), anyString(), anyString(), eq(2), eq(true));
+        verify(inviteToLobbyUseCase).inviteToLobby(lobbyId, host, guest);
+        verify(joinLobbyUseCase).joinLobby(lobbyId, guest);
+        verify(startLobbyUseCase).startLobby(lobbyId, host, gameId);
+        assertTrue(service.findTicket(host).isEmpty());
+        assertTrue(service.findTicket(guest).isEmpty());
+
+        Timer waitTimer = meterRegistry.find("lobby.matchmaking.wait").tag("game", gameId.toString()).timer();
+        assertNotNull(waitTimer);
+        assertEquals(2, waitTimer.count());
+    }
+
+    @Test
+    void matchAt_widensTierWindowAsPlayersWait() {
+        UUID bronze = UUID.randomUUID();
+        UUID gold = UUID.randomUUID();
+        when(playerRankPort.rankTier(bronze)).thenReturn(0);
+        when(playerRankPort.rankTier(gold)).thenReturn(2);
+        service.enqueue(bronze, gameId);
+        service.enqueue(gold, gameId);
+
+        assertEquals(0, service.matchAt(Instant.now()));
+        assertTrue(service.findTicket(bronze).isPresent());
+
+        // Two widen intervals later both windows reach two tiers
+        assertEquals(1, service.matchAt(Instant.now().plusSeconds(21)));
+        verify(startLobbyUseCase).startLobby(eq(lobbyId), any(), eq(gameId));
+    }
+
+    @Test
+    void matchAt_skipsCancelledPlayers() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        service.enqueue(first, gameId);
+        service.enqueue(second, gameId);
+
+        assertTrue(service.cancel(second));
+
+        assertEquals(0, service.matchAt(Instant.now()));
+        verifyNoInteractions(createLobbyUseCase);
+        assertTrue(service.findTicket(first).isPresent());
+    }
+
+    @Test
+    void matchAt_requeuesPlayers_whenLobbyCreationFails() {
+        UUID host = UUID.randomUUID();
+        UUID guest = UUID.randomUUID();
+        service.enqueue(host, gameId);
+        service.enqueue(guest, gameId);
+        doThrow(new LobbyOperationException("boom")).when(joinLobbyUseCase).joinLobby(lobbyId, guest);
+
+        assertEquals(0, service.matchAt(Instant.now()));
+
+        assertTrue(service.findTicket(host).isPresent());
+        assertTrue(service.findTicket(guest).isPresent());
+        verify(leaveLobbyUseCase).leaveLobby(lobbyId, host);
+    }
+
+    @Test
+    void matchAt_dropsPlayerThatCannotBeSeated_andKeepsTheRestQueued() {
+        UUID host = UUID.randomUUID();
+        UUID unseatable = UUID.randomUUID();
+        service.enqueue(host, gameId);
+        service.enqueue(unseatable, gameId);
+        doThrow(new LobbyOperationException("boom")).when(joinLobbyUseCase).joinLobby(lobbyId, unseatable);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertEquals(0, service.matchAt(Instant.now()));
+        }
+
+        assertTrue(service.findTicket(unseatable).isEmpty());
+        assertTrue(service.findTicket(host).isPresent());
+        verify(joinLobbyUseCase, times(3)).joinLobby(lobbyId, unseatable);
+
+        // The remaining player is matched with someone else
+        UUID next = UUID.randomUUID();
+        service.enqueue(next, gameId);
+        assertEquals(1, service.matchAt(Instant.now()));
+        assertTrue(service.findTicket(host).isEmpty());
+    }
+
+    @Test
+    void matchAt_failedStart_isBlamedOnTheWholeGroup() {
+        UUID host = UUID.randomUUID();
+        UUID guest = UUID.randomUUID();
+        service.enqueue(host, gameId);
+        service.enqueue(guest, gameId);
+        when(startLobbyUseCase.startLobby(lobbyId, host, gameId)).thenThrow(new LobbyOperationException("no game"));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertEquals(0, service.matchAt(Instant.now()));
+        }
+
+        assertTrue(service.findTicket(host).isEmpty());
+        assertTrue(service.findTicket(guest).isEmpty());
+        verify(leaveLobbyUseCase, times(3)).leaveLobby(lobbyId, host);
+    }
+}
@@ -1,7 +1,9 @@
 package com.banditgames.platform.lobby.usecase;
 
 import com.banditgames.platform.lobby.domain.Lobby;
+import com.banditgames.platform.lobby.domain.LobbySearchCriteria;
 import com.banditgames.platform.lobby.port.out.LoadLobbyPort;
+import com.banditgames.platform.lobby.port.out.OpenLobbyRegistryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -18,27 +20,45 @@ import static org.mockito.Mockito.*;
 class SearchLobbyServiceTest {
 
     private LoadLobbyPort loadLobbyPort;
+    private OpenLobbyRegistryPort openLobbyRegistryPort;
     private SearchLobbyService service;
 
     @BeforeEach
     void setUp() {
         loadLobbyPort = mock(LoadLobbyPort.class);
-        service = new SearchLobbyService(loadLobbyPort);
+        openLobbyRegistryPort = mock(OpenLobbyRegistryPort.class);
+        service = new SearchLobbyService(loadLobbyPort, openLobbyRegistryPort);
     }
 
     @Test
-    void searchLobbies_delegatesToPort() {
+    void searchLobbies_fallsBackToPortWhileRegistryLoads() {
         UUID gameId = UUID.randomUUID();
         List<UUID> hostIds = List.of(UUID.randomUUID(), UUID.randomUUID());
         Pageable pageable = PageRequest.of(0, 20);
         Page<Lobby> expected = new PageImpl<>(List.of());
+        LobbySearchCriteria criteria = LobbySearchCriteria.of(gameId, hostIds);
 
-        when(loadLobbyPort.searchLobbies(gameId, hostIds, pageable)).thenReturn(expected);
+        when(loadLobbyPort.searchLobbies(criteria, pageable)).thenReturn(expected);
 
-        Page<Lobby> result = service.searchLobbies(gameId, hostIds, pageable);
+        Page<Lobby> result = service.searchLobbies(criteria, pageable);
 
         assertSame(expected, result);
-        verify(loadLobbyPort).searchLobbies(gameId, hostIds, pageable);
+        verify(loadLobbyPort).searchLobbies(criteria, pageable);
     }
-}
 
+    @Test
+    void searchLobbies_usesRegistryWhenReady() {
+        UUID gameId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Lobby> expected = new PageImpl<>(List.of());
+        LobbySearchCriteria criteria = new LobbySearchCriteria(gameId, null, true, 1, 3);
+
+        when(openLobbyRegistryPort.isReady()).thenReturn(true);
+        when(openLobbyRegistryPort.search(criteria, pageable)).thenReturn(expected);
+
+        Page<Lobby> result = service.searchLobbies(criteria, pageable);
+
+        assertSame(expected, result);
+        verify(loadLobbyPort, never()).searchLobbies(any(), any());
+    }
+}
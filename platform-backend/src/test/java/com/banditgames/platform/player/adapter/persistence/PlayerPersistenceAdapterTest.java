@@ -0,0 +1,56 @@
+package com.banditgames.platform.player.adapter.persistence;
+
+import com.banditgames.platform.player.domain.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PlayerPersistenceAdapterTest {
+
+    private final UUID playerId = UUID.randomUUID();
+    private final Player player = Player.builder().playerId(playerId).username("alice").build();
+
+    private PlayerRepository playerRepository;
+    private PlayerPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository = mock(PlayerRepository.class);
+        adapter = new PlayerPersistenceAdapter(playerRepository, mock(PlayerMapper.class), 100, 600_000);
+
+        when(playerRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any())).thenReturn(1, 0);
+    }
+
+    @Test
+    void createIfAbsent_skipsTheInsert_forKnownPlayers() {
+        assertTrue(adapter.createIfAbsent(player));
+        assertFalse(adapter.createIfAbsent(player));
+
+        verify(playerRepository, times(1)).insertIfAbsent(eq(playerId), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void markDeleted_forgetsThePlayer_soTheNextSyncInsertsAgain() {
+        adapter.createIfAbsent(player);
+
+        adapter.markDeleted(playerId);
+        adapter.createIfAbsent(player);
+
+        verify(playerRepository, times(2)).insertIfAbsent(eq(playerId), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void knownPlayers_expire_soDeletesOnOtherNodesAreNoticed() {
+        adapter = new PlayerPersistenceAdapter(playerRepository, mock(PlayerMapper.class), 100, 0);
+
+        adapter.createIfAbsent(player);
+        adapter.createIfAbsent(player);
+
+        verify(playerRepository, times(2)).insertIfAbsent(eq(playerId), any(), any(), any(), any(), any(), any());
+    }
+}
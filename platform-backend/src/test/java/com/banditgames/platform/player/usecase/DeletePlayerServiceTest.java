@@ -3,15 +3,19 @@ package com.banditgames.platform.player.usecase;
 
 
 import com.banditgames.platform.player.domain.Player;
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
 import com.banditgames.platform.player.domain.exception.PlayerNotFoundException;
 import com.banditgames.platform.player.port.out.DeletePlayerPort;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import com.banditgames.platform.player.port.out.PlayerDeletionJobPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -19,13 +23,15 @@ class DeletePlayerServiceTest {
 
     private LoadPlayerPort loadPlayerPort;
     private DeletePlayerPort deletePlayerPort;
+    private PlayerDeletionJobPort playerDeletionJobPort;
     private DeletePlayerService service;
 
     @BeforeEach
     void setUp() {
         loadPlayerPort = mock(LoadPlayerPort.class);
         deletePlayerPort = mock(DeletePlayerPort.class);
-        service = new DeletePlayerService(loadPlayerPort, deletePlayerPort);
+        playerDeletionJobPort = mock(PlayerDeletionJobPort.class);
+        service = new DeletePlayerService(loadPlayerPort, deletePlayerPort, playerDeletionJobPort);
     }
 
     @Test
@@ -35,17 +41,21 @@ class DeletePlayerServiceTest {
 
         assertThrows(PlayerNotFoundException.class, () -> service.deletePlayer(id));
 
-        verify(deletePlayerPort, never()).deleteById(any());
+        verify(deletePlayerPort, never()).markDeleted(any());
+        verify(playerDeletionJobPort, never()).save(any());
     }
 
     @Test
-    void deletePlayer_deletesWhenFound() {
+    void deletePlayer_tombstonesAndSchedulesJob() {
         UUID id = UUID.randomUUID();
         when(loadPlayerPort.findById(id)).thenReturn(Optional.of(Player.builder().playerId(id).build()));
+        when(playerDeletionJobPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
-        service.deletePlayer(id);
+        PlayerDeletionJob job = service.deletePlayer(id);
 
-        verify(deletePlayerPort).deleteById(id);
+        verify(deletePlayerPort).markDeleted(id);
+        verify(deletePlayerPort, never()).deleteById(any());
+        assertEquals(id, job.getPlayerId());
+        assertEquals(PlayerDeletionStatus.PENDING, job.getStatus());
     }
 }
-
@@ -7,6 +7,7 @@ import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,5 +48,21 @@ class GetPlayerServiceTest {
         assertTrue(result.isEmpty());
         verify(loadPlayerPort).findById(id);
     }
-}
 
+    @Test
+    void getPlayers_loadsAllIdsInOneCall() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<UUID> ids = List.of(first, second);
+        when(loadPlayerPort.findAllByIds(ids)).thenReturn(List.of(
+                Player.builder().playerId(first).username("Sean").build(),
+                Player.builder().playerId(second).username("Kim").build()
+        ));
+
+        List<Player> result = service.getPlayers(ids);
+
+        assertEquals(2, result.size());
+        verify(loadPlayerPort).findAllByIds(ids);
+        verify(loadPlayerPort, never()).findById(any());
+    }
+}
@@ -0,0 +1,158 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.domain.PlayerDeletionJob;
+import com.banditgames.platform.player.domain.PlayerDeletionStatus;
+import com.banditgames.platform.player.port.out.DeletePlayerPort;
+import com.banditgames.platform.player.port.out.PlayerDeletionJobPort;
+import com.banditgames.platform.shared.cleanup.PlayerDataPurger;
+import com.banditgames.platform.shared.lease.DistributedLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PlayerDeletionJobProcessorTest {
+
+    private PlayerDeletionJobPort playerDeletionJobPort;
+    private DeletePlayerPort deletePlayerPort;
+    private DistributedLease distributedLease;
+    private PlayerDataPurger messages;
+    private PlayerDataPurger friendships;
+    private PlayerDeletionJobProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        playerDeletionJobPort = mock(PlayerDeletionJobPort.class);
+        deletePlayerPort = mock(DeletePlayerPort.class);
+        distributedLease = mock(DistributedLease.class);
+        messages = mock(PlayerDataPurger.class);
+        friendships = mock(PlayerDataPurger.class);
+        when(messages.name()).thenReturn("chat-messages");
+        when(friendships.name()).thenReturn("friendships");
+        processor = new PlayerDeletionJobProcessor(playerDeletionJobPort, deletePlayerPort, distributedLease,
+                List.of(friendships, messages));
+    }
+
+    @Test
+    void processNextChunk_staysOnStepWhileChunksAreFull() {
+        UUID playerId = UUID.randomUUID();
+        PlayerDeletionJob job = PlayerDeletionJob.start(playerId);
+        when(messages.purgeChunk(playerId, 500)).thenReturn(500);
+
+        processor.processNextChunk(job);
+
+        assertEquals(PlayerDeletionStatus.RUNNING, job.getStatus());
+        assertEquals(0, job.getStepIndex());
+        assertEquals("chat-messages", job.getCurrentStep());
+        assertEquals(500, job.getDeletedRows());
+        verify(playerDeletionJobPort).save(job);
+    }
+
+    @Test
+    void processNextChunk_runsAllStepsThenDeletesPlayer() {
+        UUID playerId = UUID.randomUUID();
+        PlayerDeletionJob job = PlayerDeletionJob.start(playerId);
+        when(messages.purgeChunk(playerId, 500)).thenReturn(12);
+        when(friendships.purgeChunk(playerId, 500)).thenReturn(3);
+
+        processor.processNextChunk(job);
+        assertEquals("friendships", job.getCurrentStep());
+        processor.processNextChunk(job);
+        assertEquals(PlayerDeletionJobProcessor.FINAL_STEP, job.getCurrentStep());
+        verify(deletePlayerPort, never()).deleteById(any());
+
+        processor.processNextChunk(job);
+
+        verify(deletePlayerPort).deleteById(playerId);
+        assertEquals(PlayerDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(15, job.getDeletedRows());
+        assertTrue(job.isFinished());
+    }
+
+    @Test
+    void processNextChunk_retriesFailedStepWithBackoff_thenMarksJobFailed() {
+        UUID playerId = UUID.randomUUID();
+        PlayerDeletionJob job = PlayerDeletionJob.start(playerId);
+        when(messages.purgeChunk(playerId, 500)).thenThrow(new RuntimeException("lock timeout"));
+
+        processor.processNextChunk(job);
+
+        assertEquals(PlayerDeletionStatus.PENDING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertEquals("lock timeout", job.getError());
+        assertTrue(job.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verify(playerDeletionJobPort).save(job);
+
+        for (int attempt = 2; attempt <= 10; attempt++) {
+            processor.processNextChunk(job);
+        }
+
+        assertEquals(PlayerDeletionStatus.FAILED, job.getStatus());
+        assertEquals(10, job.getAttempts());
+        assertNull(job.getNextAttemptAt());
+    }
+
+    @Test
+    void processNextChunk_successfulChunk_resetsAttempts() {
+        UUID playerId = UUID.randomUUID();
+        PlayerDeletionJob job = PlayerDeletionJob.start(playerId);
+        when(messages.purgeChunk(playerId, 500))
+                .thenThrow(new RuntimeException("lock timeout"))
+                .thenReturn(500);
+
+        processor.processNextChunk(job);
+        processor.processNextChunk(job);
+
+        assertEquals(PlayerDeletionStatus.RUNNING, job.getStatus());
+        assertEquals(0, job.getAttempts());
+        assertNull(job.getError());
+        assertEquals("chat-messages", job.getCurrentStep());
+    }
+
+    @Test
+    void processNextChunk_resumesByStepName_andSkipsUnknownSteps() {
+        UUID playerId = UUID.randomUUID();
+        PlayerDeletionJob resumed = PlayerDeletionJob.builder()
+                .id(UUID.randomUUID()).playerId(playerId).status(PlayerDeletionStatus.RUNNING)
+                .stepIndex(0).currentStep("friendships").build();
+        when(friendships.purgeChunk(playerId, 500)).thenReturn(0);
+
+        processor.processNextChunk(resumed);
+
+        verify(messages, never()).purgeChunk(any(), anyInt());
+        assertEquals(PlayerDeletionJobProcessor.FINAL_STEP, resumed.getCurrentStep());
+
+        // A step that no longer exists moves on to the next step by name
+        PlayerDeletionJob stale = PlayerDeletionJob.builder()
+                .id(UUID.randomUUID()).playerId(playerId).status(PlayerDeletionStatus.RUNNING)
+                .stepIndex(1).currentStep("dropped-step").build();
+
+        processor.processNextChunk(stale);
+
+        assertEquals("friendships", stale.getCurrentStep());
+        verify(friendships, times(1)).purgeChunk(any(), anyInt());
+    }
+
+    @Test
+    void processActiveJobs_onlyOnLeaseHolder() {
+        when(distributedLease.tryAcquire(eq(PlayerDeletionJobProcessor.LEASE_NAME), any())).thenReturn(false);
+
+        processor.processActiveJobs();
+
+        verify(playerDeletionJobPort, never()).findActive(anyInt());
+
+        when(distributedLease.tryAcquire(eq(PlayerDeletionJobProcessor.LEASE_NAME), any())).thenReturn(true);
+        when(playerDeletionJobPort.findActive(5)).thenReturn(List.of());
+
+        processor.processActiveJobs();
+
+        verify(playerDeletionJobPort).findActive(5);
+        verify(distributedLease).release(PlayerDeletionJobProcessor.LEASE_NAME);
+    }
+}
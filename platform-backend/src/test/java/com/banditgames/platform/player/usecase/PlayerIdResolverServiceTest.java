@@ -0,0 +1,63 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.port.out.LoadPlayerPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerIdResolverServiceTest {
+
+    private LoadPlayerPort loadPlayerPort;
+    private PlayerIdResolverService service;
+
+    @BeforeEach
+    void setUp() {
+        loadPlayerPort = mock(LoadPlayerPort.class);
+        service = new PlayerIdResolverService(loadPlayerPort);
+    }
+
+    @Test
+    void resolvePlayerId_cachesHits() {
+        UUID id = UUID.randomUUID();
+        when(loadPlayerPort.findPlayerIdByUsername("magnus")).thenReturn(Optional.of(id));
+
+        assertEquals(Optional.of(id), service.resolvePlayerId("magnus"));
+        assertEquals(Optional.of(id), service.resolvePlayerId(" magnus "));
+
+        verify(loadPlayerPort, times(1)).findPlayerIdByUsername("magnus");
+    }
+
+    @Test
+    void resolvePlayerId_cachesMisses() {
+        when(loadPlayerPort.findPlayerIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(service.resolvePlayerId("ghost").isEmpty());
+        assertTrue(service.resolvePlayerId("ghost").isEmpty());
+
+        verify(loadPlayerPort, times(1)).findPlayerIdByUsername("ghost");
+    }
+
+    @Test
+    void evict_forcesFreshLookup() {
+        UUID id = UUID.randomUUID();
+        when(loadPlayerPort.findPlayerIdByUsername("renamed"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(id));
+
+        assertTrue(service.resolvePlayerId("renamed").isEmpty());
+        service.evict("renamed");
+
+        assertEquals(Optional.of(id), service.resolvePlayerId("renamed"));
+    }
+
+    @Test
+    void resolvePlayerId_ignoresBlankNames() {
+        assertTrue(service.resolvePlayerId("  ").isEmpty());
+        verifyNoInteractions(loadPlayerPort);
+    }
+}
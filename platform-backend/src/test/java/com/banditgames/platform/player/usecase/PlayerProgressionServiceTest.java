@@ -0,0 +1,65 @@
+package com.banditgames.platform.player.usecase;
+
+import com.banditgames.platform.player.port.out.UpdatePlayerProgressPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerProgressionServiceTest {
+
+    private UpdatePlayerProgressPort updatePlayerProgressPort;
+    private PlayerProgressionService service;
+
+    @BeforeEach
+    void setUp() {
+        updatePlayerProgressPort = mock(UpdatePlayerProgressPort.class);
+        service = new PlayerProgressionService(updatePlayerProgressPort);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_coalescesGainsPerPlayer() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        service.awardExperience(first, 100);
+        service.awardExperience(first, 25);
+        service.awardExperience(second, 50);
+        service.flush();
+
+        ArgumentCaptor<Map<UUID, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(updatePlayerProgressPort, times(1)).applyExperience(captor.capture());
+        assertEquals(Map.of(first, 125, second, 50), captor.getValue());
+    }
+
+    @Test
+    void flush_doesNothingWhenNoGains() {
+        service.awardExperience(UUID.randomUUID(), 0);
+        service.flush();
+
+        verifyNoInteractions(updatePlayerProgressPort);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_requeuesGainsWhenUpdateFails() {
+        UUID id = UUID.randomUUID();
+        service.awardExperience(id, 40);
+        doThrow(new RuntimeException("db down")).doNothing()
+                .when(updatePlayerProgressPort).applyExperience(any());
+
+        service.flush();
+        service.awardExperience(id, 10);
+        service.flush();
+
+        ArgumentCaptor<Map<UUID, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(updatePlayerProgressPort, times(2)).applyExperience(captor.capture());
+        assertEquals(Map.of(id, 50), captor.getAllValues().get(1));
+    }
+}
@@ -3,9 +3,11 @@ package com.banditgames.platform.player.usecase;
 
 
 import com.banditgames.platform.player.domain.Player;
+import com.banditgames.platform.player.domain.events.PlayerUsernameChangedEvent;
 import com.banditgames.platform.player.domain.exception.PlayerNotFoundException;
 import com.banditgames.platform.player.port.out.LoadPlayerPort;
 import com.banditgames.platform.player.port.out.SavePlayerPort;
+import com.banditgames.platform.shared.events.PlatformEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,13 +22,15 @@ class UpdatePlayerServiceTest {
 
     private LoadPlayerPort loadPlayerPort;
     private SavePlayerPort savePlayerPort;
+    private PlatformEventPublisher eventPublisher;
     private UpdatePlayerService service;
 
     @BeforeEach
     void setUp() {
         loadPlayerPort = mock(LoadPlayerPort.class);
         savePlayerPort = mock(SavePlayerPort.class);
-        service = new UpdatePlayerService(loadPlayerPort, savePlayerPort);
+        eventPublisher = mock(PlatformEventPublisher.class);
+        service = new UpdatePlayerService(loadPlayerPort, savePlayerPort, eventPublisher);
     }
 
     @Test
@@ -64,6 +68,7 @@ class UpdatePlayerServiceTest {
         assertEquals(newPrefs, saved.getGamePreferences());
 
         verify(savePlayerPort).save(existing);
+        verify(eventPublisher).publish(new PlayerUsernameChangedEvent(id, "oldName", "newName"));
     }
 
     @Test
@@ -88,6 +93,7 @@ class UpdatePlayerServiceTest {
         assertNotNull(saved.getGamePreferences());
 
         verify(savePlayerPort).save(existing);
+        verifyNoInteractions(eventPublisher);
     }
 }
 
@@ -0,0 +1,135 @@
+package com.banditgames.platform.shared.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JdbcProcessedEventsTest {
+
+    private static final String CONSUMER = "achievements-move-applied";
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcProcessedEvents processedEvents;
+
+    private record Event(String id, String name) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        processedEvents = new JdbcProcessedEvents(jdbcTemplate, new NoOpTransactionManager(), meterRegistry, 100);
+    }
+
+    @Test
+    void runOnceEach_mapsClaimResultsToEvents_skippingNullIdsAndInBatchDuplicates() {
+        // Claims go out for a, b, c only: n1 has no id and the second a is dropped in memory
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[]{1, 0, -2});
+        List<Event> batch = List.of(
+                new Event("a", "a"), new Event(null, "n1"), new Event("a", "a-again"),
+                new Event("b", "b"), new Event("c", "c"), new Event(null, "n2"));
+        List<List<Event>> processed = new ArrayList<>();
+
+        List<Event> fresh = processedEvents.runOnceEach(CONSUMER, batch, Event::id, processed::add);
+
+        assertEquals(List.of("a", "n1", "c", "n2"), fresh.stream().map(Event::name).toList());
+        assertEquals(List.of(fresh), processed);
+
+        ArgumentCaptor<SqlParameterSource[]> claims = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), claims.capture());
+        assertEquals(List.of("a", "b", "c"),
+                Arrays.stream(claims.getValue()).map(claim -> claim.getValue("eventId")).toList());
+        assertEquals(1, duplicates("memory"));
+        assertEquals(1, duplicates("database"));
+    }
+
+    @Test
+    void runOnceEach_remembersCommittedEvents_andSkipsThemWithoutTheDatabase() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[]{1, 0});
+        processedEvents.runOnceEach(CONSUMER, List.of(new Event("a", "a"), new Event("b", "b")), Event::id, events -> { });
+
+        List<Event> fresh = processedEvents.runOnceEach(CONSUMER, List.of(new Event("a", "a"), new Event("b", "b")),
+                Event::id, events -> fail("nothing is new"));
+
+        assertTrue(fresh.isEmpty());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        assertEquals(2, duplicates("memory"));
+    }
+
+    @Test
+    void runOnceEach_withOnlyNullIds_runsWithoutClaims() {
+        List<Event> fresh = processedEvents.runOnceEach(CONSUMER, List.of(new Event(null, "n1")), Event::id, events -> { });
+
+        assertEquals(1, fresh.size());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    void runOnce_failedAction_isNotRemembered_soTheRetryRuns() {
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> processedEvents.runOnce(CONSUMER, "a", () -> {
+            throw new IllegalStateException("evaluation failed");
+        }));
+        List<String> ran = new ArrayList<>();
+        assertTrue(processedEvents.runOnce(CONSUMER, "a", () -> ran.add("a")));
+
+        assertEquals(List.of("a"), ran);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void runOnce_claimedElsewhere_skipsAction() {
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+
+        assertFalse(processedEvents.runOnce(CONSUMER, "a", () -> fail("already processed")));
+        assertFalse(processedEvents.runOnce(CONSUMER, "a", () -> fail("already processed")));
+
+        verify(jdbcTemplate, times(1)).update(anyString(), any(SqlParameterSource.class));
+        assertEquals(1, duplicates("database"));
+        assertEquals(1, duplicates("memory"));
+    }
+
+    private double duplicates(String source) {
+        var counter = meterRegistry.find("messaging.events.duplicates").tag("source", source).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    /**
+     * Runs transaction synchronizations without a resource, so after-commit callbacks fire.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
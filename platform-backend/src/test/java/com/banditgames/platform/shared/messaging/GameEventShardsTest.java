@@ -0,0 +1,73 @@
+package com.banditgames.platform.shared.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventShardsTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void shardOf_staysInRange_andIsStable() {
+        Random random = new Random(42);
+        for (int shardCount = 1; shardCount <= 16; shardCount++) {
+            for (int i = 0; i < 1_000; i++) {
+                UUID playerId = new UUID(random.nextLong(), random.nextLong());
+                int shard = GameEventShards.shardOf(playerId, shardCount);
+
+                assertTrue(shard >= 0 && shard < shardCount, "shard " + shard + " of " + shardCount);
+                assertEquals(shard, GameEventShards.shardOf(playerId, shardCount));
+            }
+        }
+    }
+
+    @Test
+    void jumpHash_growingByOneShard_onlyMovesKeysToTheNewShard() {
+        Random random = new Random(7);
+        for (int n = 1; n <= 12; n++) {
+            int moved = 0;
+            for (int i = 0; i < KEYS; i++) {
+                long key = random.nextLong();
+                int before = GameEventShards.jumpHash(key, n);
+                int after = GameEventShards.jumpHash(key, n + 1);
+                if (before != after) {
+                    assertEquals(n, after, "a moved key must land on the new shard");
+                    moved++;
+                }
+            }
+            // About 1/(n + 1) of the keys move; allow for sampling noise
+            double expected = KEYS / (double) (n + 1);
+            assertTrue(Math.abs(moved - expected) < expected * 0.15 + 50,
+                    "moved " + moved + " keys going from " + n + " to " + (n + 1) + " shards");
+        }
+    }
+
+    @Test
+    void jumpHash_spreadsKeysEvenly() {
+        Random random = new Random(11);
+        int[] counts = new int[8];
+        for (int i = 0; i < KEYS * 8; i++) {
+            counts[GameEventShards.jumpHash(random.nextLong(), 8)]++;
+        }
+        for (int count : counts) {
+            assertTrue(Math.abs(count - KEYS) < KEYS * 0.1, "shard holds " + count + " keys");
+        }
+    }
+
+    @Test
+    void jumpHash_withOneShard_isAlwaysZero_andRejectsNoShards() {
+        assertEquals(0, GameEventShards.jumpHash(123L, 1));
+        assertEquals(0, GameEventShards.jumpHash(Long.MIN_VALUE, 1));
+        assertThrows(IllegalArgumentException.class, () -> GameEventShards.jumpHash(1L, 0));
+    }
+
+    @Test
+    void queueName_appendsTheShard() {
+        assertEquals("game.session.ended.achievements.shard.3",
+                GameEventShards.queueName("game.session.ended.achievements", 3));
+    }
+}
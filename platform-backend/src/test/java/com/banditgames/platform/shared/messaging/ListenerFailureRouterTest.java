@@ -0,0 +1,180 @@
+package com.banditgames.platform.shared.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ListenerFailureRouterTest {
+
+    private static final String QUEUE = "game.session.ended.achievements";
+    private static final String LISTENER = "achievements-session-ended";
+
+    private RabbitTemplate rabbitTemplate;
+    private ListenerFailureRouter router;
+    private List<Sent> sent;
+    private Function<CorrelationData, CorrelationData.Confirm> broker;
+
+    private record Sent(String exchange, String routingKey, Message message) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        router = new ListenerFailureRouter(rabbitTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(router, "confirmTimeoutMillis", 50L);
+
+        sent = new ArrayList<>();
+        broker = correlation -> new CorrelationData.Confirm(true, null);
+        doAnswer(invocation -> {
+            sent.add(new Sent(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            CorrelationData correlation = invocation.getArgument(3);
+            CorrelationData.Confirm confirm = broker.apply(correlation);
+            if (confirm != null) {
+                correlation.getFuture().complete(confirm);
+            }
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void firstFailure_goesToFirstRetryQueue_withOriginHeaders() throws Throwable {
+        Message message = message(null);
+
+        assertNull(invokeFailing(message, new IllegalStateException("database down")));
+
+        Sent retry = sent.get(0);
+        assertEquals("game_events.retry", retry.exchange());
+        assertEquals(QUEUE, retry.routingKey());
+        var headers = retry.message().getMessageProperties().getHeaders();
+        assertEquals(1, headers.get(ListenerFailureRouter.ATTEMPT_HEADER));
+        assertEquals("1000", headers.get(ListenerFailureRouter.DELAY_HEADER));
+        assertEquals(QUEUE, headers.get(ListenerFailureRouter.ORIGINAL_QUEUE_HEADER));
+        assertEquals("game_events", headers.get(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE));
+        assertEquals("game.session.ended", headers.get(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY));
+        assertEquals(LISTENER, headers.get(ListenerFailureRouter.LISTENER_HEADER));
+    }
+
+    @Test
+    void laterAttempts_useNextDelay_andKeepOriginalQueue() throws Throwable {
+        Message message = message(1);
+        message.getMessageProperties().getHeaders().put(ListenerFailureRouter.ORIGINAL_QUEUE_HEADER, "first.queue");
+
+        invokeFailing(message, new IllegalStateException("still down"));
+
+        var headers = sent.get(0).message().getMessageProperties().getHeaders();
+        assertEquals(2, headers.get(ListenerFailureRouter.ATTEMPT_HEADER));
+        assertEquals("10000", headers.get(ListenerFailureRouter.DELAY_HEADER));
+        assertEquals("first.queue", headers.get(ListenerFailureRouter.ORIGINAL_QUEUE_HEADER));
+    }
+
+    @Test
+    void exhaustedRetries_goToDeadLetterQueue() throws Throwable {
+        Message message = message(3);
+
+        invokeFailing(message, new IllegalStateException("still down"));
+
+        Sent deadLetter = sent.get(0);
+        assertEquals("game_events_dlx", deadLetter.exchange());
+        assertEquals("game_events_dlq", deadLetter.routingKey());
+        var headers = deadLetter.message().getMessageProperties().getHeaders();
+        assertEquals("exhausted", headers.get(ListenerFailureRouter.FAILURE_REASON_HEADER));
+        assertNotNull(headers.get(ListenerFailureRouter.DEAD_LETTER_ID_HEADER));
+        assertNotNull(headers.get(ListenerFailureRouter.DEAD_LETTERED_AT_HEADER));
+        assertNotNull(headers.get(RepublishMessageRecoverer.X_EXCEPTION_STACKTRACE));
+        assertFalse(headers.containsKey(ListenerFailureRouter.DELAY_HEADER));
+    }
+
+    @Test
+    void nonRetryableFailure_skipsRetries() throws Throwable {
+        invokeFailing(message(null), new RuntimeException(new MessageConversionException("not JSON")));
+
+        assertEquals(1, sent.size());
+        assertEquals("game_events_dlq", sent.get(0).routingKey());
+        assertEquals("non-retryable",
+                sent.get(0).message().getMessageProperties().getHeaders().get(ListenerFailureRouter.FAILURE_REASON_HEADER));
+    }
+
+    @Test
+    void batchFailure_routesEveryMessage() throws Throwable {
+        List<Message> batch = List.of(message(null), message(2), message(3));
+
+        invokeFailing(batch, new IllegalStateException("database down"));
+
+        assertEquals(List.of("game_events.retry", "game_events.retry", "game_events_dlx"),
+                sent.stream().map(Sent::exchange).toList());
+    }
+
+    @Test
+    void nackedRepublish_requeuesOriginal() {
+        broker = correlation -> new CorrelationData.Confirm(false, "internal error");
+
+        assertThrows(ImmediateRequeueAmqpException.class,
+                () -> invokeFailing(message(null), new IllegalStateException("database down")));
+    }
+
+    @Test
+    void returnedRepublish_requeuesOriginal() {
+        broker = correlation -> {
+            correlation.setReturned(mock(ReturnedMessage.class));
+            return new CorrelationData.Confirm(true, null);
+        };
+
+        assertThrows(ImmediateRequeueAmqpException.class,
+                () -> invokeFailing(message(null), new IllegalStateException("database down")));
+    }
+
+    @Test
+    void missingConfirm_requeuesOriginal() {
+        broker = correlation -> null;
+
+        assertThrows(ImmediateRequeueAmqpException.class,
+                () -> invokeFailing(message(null), new IllegalStateException("database down")));
+    }
+
+    @Test
+    void success_isPassedThrough() throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenReturn("done");
+
+        assertEquals("done", router.adviceFor(LISTENER).invoke(invocation));
+        assertTrue(sent.isEmpty());
+    }
+
+    private Object invokeFailing(Object data, Exception failure) throws Throwable {
+        MethodInterceptor advice = router.adviceFor(LISTENER);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getArguments()).thenReturn(new Object[]{null, data});
+        when(invocation.proceed()).thenThrow(failure);
+        return advice.invoke(invocation);
+    }
+
+    private static Message message(Integer attempt) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(QUEUE);
+        properties.setReceivedExchange("game_events");
+        properties.setReceivedRoutingKey("game.session.ended");
+        if (attempt != null) {
+            properties.setHeader(ListenerFailureRouter.ATTEMPT_HEADER, attempt);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}